@@ -38,11 +38,19 @@ public class ConfigurationFile {
         this.tenantId = tenantId;
     }
 
+    protected String getPropertiesFilename() {
+        return propertiesFilename;
+    }
+
+    protected long getTenantId() {
+        return tenantId;
+    }
+
     public String getProperty(final String propertyName) {
         return getPropertiesOfScope().getProperty(propertyName);
     }
 
-    private Properties getPropertiesOfScope() {
+    protected Properties getPropertiesOfScope() {
         if (tenantId > 0) {
             return ConfigurationFilesManager.getInstance().getTenantProperties(propertiesFilename, tenantId);
         }
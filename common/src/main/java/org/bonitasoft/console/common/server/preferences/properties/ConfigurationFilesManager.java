@@ -18,9 +18,13 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.io.FileUtils;
 import org.bonitasoft.console.common.server.preferences.constants.WebBonitaConstantsUtils;
@@ -34,29 +38,79 @@ public class ConfigurationFilesManager {
 
     private static ConfigurationFilesManager INSTANCE = new ConfigurationFilesManager();
 
+    /**
+     * Returned for the files missing from the configuration, always the same instance so that data parsed from it can be reused
+     */
+    private static final Properties EMPTY_PROPERTIES = new Properties() {
+
+        private static final long serialVersionUID = 4310485390227367213L;
+
+        @Override
+        public synchronized Object put(final Object key, final Object value) {
+            throw new UnsupportedOperationException("The properties of a missing configuration file cannot be modified");
+        }
+
+        @Override
+        public synchronized Object remove(final Object key) {
+            throw new UnsupportedOperationException("The properties of a missing configuration file cannot be modified");
+        }
+
+        @Override
+        public synchronized void putAll(final Map<?, ?> t) {
+            throw new UnsupportedOperationException("The properties of a missing configuration file cannot be modified");
+        }
+
+        @Override
+        public synchronized void clear() {
+            throw new UnsupportedOperationException("The properties of a missing configuration file cannot be modified");
+        }
+    };
+
     public static ConfigurationFilesManager getInstance() {
         return INSTANCE;
     }
 
-    private Map<Long, Map<String, Properties>> tenantsConfigurations = new HashMap<>();
-    private Map<Long, Map<String, File>> tenantsConfigurationFiles = new HashMap<>();
-    private Map<String, Properties> platformConfigurations = new HashMap<>();
-    private Map<String, File> platformConfigurationFiles = new HashMap<>();
+    /*
+     * Configurations are immutable snapshots: readers never lock, writers build new maps and new properties and publish them at once.
+     */
+    private final ConcurrentMap<Long, Map<String, Properties>> tenantsConfigurations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Map<String, File>> tenantsConfigurationFiles = new ConcurrentHashMap<>();
+    private volatile Map<String, Properties> platformConfigurations = Collections.emptyMap();
+    private volatile Map<String, File> platformConfigurationFiles = Collections.emptyMap();
+    private final AtomicLong configurationsVersion = new AtomicLong();
+    /*
+     * A property change is published and saved while holding the lock of its file, so that the engine saves the changes of a file in the
+     * order they were published.
+     */
+    private final ConcurrentMap<String, Object> fileLocks = new ConcurrentHashMap<>();
+
+    /**
+     * @return a number incremented each time a configuration is set or modified, so that data computed from the configuration can be cached
+     */
+    public long getConfigurationsVersion() {
+        return configurationsVersion.get();
+    }
 
+    /**
+     * @return the current snapshot of a platform properties file. It is replaced, never modified, when the configuration changes.
+     */
     public Properties getPlatformProperties(String propertiesFile) {
         Properties properties = platformConfigurations.get(propertiesFile);
         if (properties == null) {
-            return new Properties();
+            return EMPTY_PROPERTIES;
         }
         return properties;
     }
 
+    /**
+     * @return the current snapshot of a tenant properties file. It is replaced, never modified, when the configuration changes.
+     */
     public Properties getTenantProperties(String propertiesFile, long tenantId) {
         Map<String, Properties> map = tenantsConfigurations.get(tenantId);
         if (map != null && map.containsKey(propertiesFile)) {
             return map.get(propertiesFile);
         }
-        return new Properties();
+        return EMPTY_PROPERTIES;
     }
 
     private Properties getProperties(byte[] content) throws IOException {
@@ -67,20 +121,24 @@ public class ConfigurationFilesManager {
         return properties;
     }
 
-    public void setPlatformConfigurations(Map<String, byte[]> configurationFiles) throws IOException {
-        platformConfigurations = new HashMap<>(configurationFiles.size());
+    public synchronized void setPlatformConfigurations(Map<String, byte[]> configurationFiles) throws IOException {
+        Map<String, Properties> platformProperties = new HashMap<>(configurationFiles.size());
+        Map<String, File> platformFiles = new HashMap<>(platformConfigurationFiles);
         for (Map.Entry<String, byte[]> entry : configurationFiles.entrySet()) {
             if (entry.getKey().endsWith(".properties")) {
-                platformConfigurations.put(entry.getKey(), getProperties(entry.getValue()));
+                platformProperties.put(entry.getKey(), getProperties(entry.getValue()));
             } else {
                 File file = new File(WebBonitaConstantsUtils.getInstance().getTempFolder(), entry.getKey());
                 FileUtils.writeByteArrayToFile(file, entry.getValue());
-                platformConfigurationFiles.put(entry.getKey(), file);
+                platformFiles.put(entry.getKey(), file);
             }
         }
+        platformConfigurations = Collections.unmodifiableMap(platformProperties);
+        platformConfigurationFiles = Collections.unmodifiableMap(platformFiles);
+        configurationsVersion.incrementAndGet();
     }
 
-    public void setTenantConfigurations(Map<String, byte[]> configurationFiles, long tenantId) throws IOException {
+    public synchronized void setTenantConfigurations(Map<String, byte[]> configurationFiles, long tenantId) throws IOException {
         Map<String, Properties> tenantProperties = new HashMap<>();
         Map<String, File> tenantFiles = new HashMap<>();
         for (Map.Entry<String, byte[]> entry : configurationFiles.entrySet()) {
@@ -92,31 +150,54 @@ public class ConfigurationFilesManager {
                 tenantFiles.put(entry.getKey(), file);
             }
         }
-        tenantsConfigurations.put(tenantId, tenantProperties);
-        tenantsConfigurationFiles.put(tenantId, tenantFiles);
+        tenantsConfigurations.put(tenantId, Collections.unmodifiableMap(tenantProperties));
+        tenantsConfigurationFiles.put(tenantId, Collections.unmodifiableMap(tenantFiles));
+        configurationsVersion.incrementAndGet();
     }
-    
-    public void setTenantConfiguration(String fileName, byte[] content, long tenantId) throws IOException {
+
+    public synchronized void setTenantConfiguration(String fileName, byte[] content, long tenantId) throws IOException {
         if (fileName.endsWith(".properties")) {
             Map<String, Properties> tenantConfiguration = tenantsConfigurations.get(tenantId);
             if (tenantConfiguration != null) {
-                tenantConfiguration.put(fileName, getProperties(content));
+                publishTenantProperties(tenantId, fileName, getProperties(content));
             }
         } else {
             Map<String, File> tenantConfigurationFiles = tenantsConfigurationFiles.get(tenantId);
             if (tenantConfigurationFiles != null) {
                 File file = new File(WebBonitaConstantsUtils.getInstance(tenantId).getTempFolder(), fileName);
                 FileUtils.writeByteArrayToFile(file, content);
-                tenantConfigurationFiles.put(fileName, file);
+                Map<String, File> newTenantConfigurationFiles = new HashMap<>(tenantConfigurationFiles);
+                newTenantConfigurationFiles.put(fileName, file);
+                tenantsConfigurationFiles.put(tenantId, Collections.unmodifiableMap(newTenantConfigurationFiles));
             }
         }
+        configurationsVersion.incrementAndGet();
     }
 
     public void removeProperty(String propertiesFilename, long tenantId, String propertyName) throws IOException {
-        Map<String, Properties> resources = getResources(tenantId);
-        Properties properties = resources.get(propertiesFilename);
-        properties.remove(propertyName);
-        update(tenantId, propertiesFilename, properties);
+        synchronized (getFileLock(tenantId, propertiesFilename)) {
+            Properties properties;
+            synchronized (this) {
+                properties = copyProperties(propertiesFilename, tenantId);
+                properties.remove(propertyName);
+                publishProperties(tenantId, propertiesFilename, properties);
+                configurationsVersion.incrementAndGet();
+            }
+            update(tenantId, propertiesFilename, properties);
+        }
+    }
+
+    private Object getFileLock(long tenantId, String propertiesFilename) {
+        String fileKey = tenantId + "/" + propertiesFilename;
+        Object lock = fileLocks.get(fileKey);
+        if (lock == null) {
+            lock = new Object();
+            Object existingLock = fileLocks.putIfAbsent(fileKey, lock);
+            if (existingLock != null) {
+                lock = existingLock;
+            }
+        }
+        return lock;
     }
 
     private void update(long tenantId, String propertiesFilename, Properties properties) throws IOException {
@@ -142,11 +223,39 @@ public class ConfigurationFilesManager {
         return resources;
     }
 
+    private Properties copyProperties(String propertiesFilename, long tenantId) {
+        Properties properties = new Properties();
+        properties.putAll(getResources(tenantId).get(propertiesFilename));
+        return properties;
+    }
+
+    private void publishProperties(long tenantId, String propertiesFilename, Properties properties) {
+        if (tenantId > 0) {
+            publishTenantProperties(tenantId, propertiesFilename, properties);
+        } else {
+            Map<String, Properties> newPlatformConfigurations = new HashMap<>(platformConfigurations);
+            newPlatformConfigurations.put(propertiesFilename, properties);
+            platformConfigurations = Collections.unmodifiableMap(newPlatformConfigurations);
+        }
+    }
+
+    private void publishTenantProperties(long tenantId, String propertiesFilename, Properties properties) {
+        Map<String, Properties> newTenantConfiguration = new HashMap<>(tenantsConfigurations.get(tenantId));
+        newTenantConfiguration.put(propertiesFilename, properties);
+        tenantsConfigurations.put(tenantId, Collections.unmodifiableMap(newTenantConfiguration));
+    }
+
     public void setProperty(String propertiesFilename, long tenantId, String propertyName, String propertyValue) throws IOException {
-        Map<String, Properties> resources = getResources(tenantId);
-        Properties properties = resources.get(propertiesFilename);
-        properties.setProperty(propertyName, propertyValue);
-        update(tenantId, propertiesFilename, properties);
+        synchronized (getFileLock(tenantId, propertiesFilename)) {
+            Properties properties;
+            synchronized (this) {
+                properties = copyProperties(propertiesFilename, tenantId);
+                properties.setProperty(propertyName, propertyValue);
+                publishProperties(tenantId, propertiesFilename, properties);
+                configurationsVersion.incrementAndGet();
+            }
+            update(tenantId, propertiesFilename, properties);
+        }
     }
 
     public File getPlatformConfigurationFile(String fileName) {
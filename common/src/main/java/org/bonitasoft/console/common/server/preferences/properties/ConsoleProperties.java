@@ -15,12 +15,16 @@
 package org.bonitasoft.console.common.server.preferences.properties;
 
 import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * @author Yang zhiheng
  */
 public class ConsoleProperties {
 
+    private static final Logger LOGGER = Logger.getLogger(ConsoleProperties.class.getName());
+
     /**
      * Document max size
      */
@@ -31,10 +35,40 @@ public class ConsoleProperties {
      */
     private static final String CUSTOM_PAGE_DEBUG = "custom.page.debug";
 
+    /**
+     * Delay in seconds during which a custom page is considered up to date without checking its last update date in the engine
+     */
+    private static final String CUSTOM_PAGE_FRESHNESS_CHECK_DELAY = "custom.page.freshness.check.delay";
+
+    private static final long DEFAULT_CUSTOM_PAGE_FRESHNESS_CHECK_DELAY = 10;
+
+    /**
+     * Cache-Control header of the static resources (pages, themes and living applications resources).
+     * It can be overridden for a content type with the property resource.cache.control.&lt;content type&gt;
+     */
+    private static final String RESOURCE_CACHE_CONTROL = "resource.cache.control";
+
+    private static final String DEFAULT_RESOURCE_CACHE_CONTROL = "no-cache";
+
+    /**
+     * Number of items of a bulk REST API request submitted to the engine at once
+     */
+    private static final String BULK_CHUNK_SIZE = "rest.api.bulk.chunk.size";
+
+    private static final int DEFAULT_BULK_CHUNK_SIZE = 100;
+
     private static final String PROPERTIES_FILE = "console-config.properties";
 
     private long tenantId;
 
+    private final SnapshotHolder<Snapshot> snapshot = new SnapshotHolder<Snapshot>() {
+
+        @Override
+        protected Snapshot parse(final Properties properties) {
+            return new Snapshot(properties);
+        }
+    };
+
     ConsoleProperties(long tenantId) {
         this.tenantId = tenantId;
     }
@@ -52,15 +86,87 @@ public class ConsoleProperties {
     }
 
     public long getMaxSize() {
-        final String maxSize = this.getProperty(ATTACHMENT_MAX_SIZE);
-        if (maxSize != null) {
-            return Long.valueOf(maxSize);
+        final Long maxSize = getSnapshot().maxSize;
+        if (maxSize == null) {
+            // invalid value, fails as before
+            return Long.valueOf(this.getProperty(ATTACHMENT_MAX_SIZE));
         }
-        return 15;
+        return maxSize;
     }
 
     public boolean isPageInDebugMode() {
-        final String debugMode = this.getProperty(CUSTOM_PAGE_DEBUG);
-        return Boolean.parseBoolean(debugMode);
+        return getSnapshot().pageInDebugMode;
+    }
+
+    /**
+     * @return the delay in milliseconds during which a custom page is not checked again against the engine
+     */
+    public long getPageFreshnessCheckDelay() {
+        return getSnapshot().pageFreshnessCheckDelay;
+    }
+
+    public int getBulkChunkSize() {
+        return getSnapshot().bulkChunkSize;
+    }
+
+    public String getResourceCacheControl(final String contentType) {
+        if (contentType != null) {
+            final int parametersIndex = contentType.indexOf(';');
+            final String mimeType = parametersIndex >= 0 ? contentType.substring(0, parametersIndex).trim() : contentType;
+            final String cacheControl = this.getProperty(RESOURCE_CACHE_CONTROL + "." + mimeType);
+            if (cacheControl != null) {
+                return cacheControl;
+            }
+        }
+        return this.getProperty(RESOURCE_CACHE_CONTROL, DEFAULT_RESOURCE_CACHE_CONTROL);
+    }
+
+    private Snapshot getSnapshot() {
+        return snapshot.get(getProperties());
+    }
+
+    private static class Snapshot {
+
+        private final Long maxSize;
+
+        private final boolean pageInDebugMode;
+
+        private final long pageFreshnessCheckDelay;
+
+        private final int bulkChunkSize;
+
+        Snapshot(final Properties properties) {
+            final String maxSizeProperty = properties.getProperty(ATTACHMENT_MAX_SIZE);
+            maxSize = maxSizeProperty != null ? parseLong(maxSizeProperty) : Long.valueOf(15);
+            pageInDebugMode = Boolean.parseBoolean(properties.getProperty(CUSTOM_PAGE_DEBUG));
+            pageFreshnessCheckDelay = parsePageFreshnessCheckDelay(properties.getProperty(CUSTOM_PAGE_FRESHNESS_CHECK_DELAY)) * 1000;
+            final String chunkSize = properties.getProperty(BULK_CHUNK_SIZE);
+            final Long parsedChunkSize = chunkSize != null ? parseLong(chunkSize.trim()) : null;
+            bulkChunkSize = parsedChunkSize != null && parsedChunkSize > 0 && parsedChunkSize <= Integer.MAX_VALUE ? parsedChunkSize.intValue()
+                    : DEFAULT_BULK_CHUNK_SIZE;
+        }
+
+        private static long parsePageFreshnessCheckDelay(final String delay) {
+            if (delay == null) {
+                return DEFAULT_CUSTOM_PAGE_FRESHNESS_CHECK_DELAY;
+            }
+            final Long delayInSeconds = parseLong(delay.trim());
+            if (delayInSeconds == null || delayInSeconds < 0) {
+                if (LOGGER.isLoggable(Level.WARNING)) {
+                    LOGGER.log(Level.WARNING, "Invalid value " + delay + " for " + CUSTOM_PAGE_FRESHNESS_CHECK_DELAY + ", the default delay of "
+                            + DEFAULT_CUSTOM_PAGE_FRESHNESS_CHECK_DELAY + " seconds is used");
+                }
+                return DEFAULT_CUSTOM_PAGE_FRESHNESS_CHECK_DELAY;
+            }
+            return delayInSeconds;
+        }
+
+        private static Long parseLong(final String value) {
+            try {
+                return Long.valueOf(value);
+            } catch (final NumberFormatException e) {
+                return null;
+            }
+        }
     }
 }
@@ -14,44 +14,103 @@
  */
 package org.bonitasoft.console.common.server.preferences.properties;
 
+import org.bonitasoft.console.common.server.utils.TenantRegistry;
+
 /**
  * @author Anthony Birembaut
  */
 public class PropertiesFactory {
 
+    /*
+     * The properties objects only read the current configuration snapshot of the ConfigurationFilesManager, they can be shared.
+     */
+    private static final TenantRegistry<ResourcesPermissionsMapping> RESOURCES_PERMISSIONS_MAPPINGS = new TenantRegistry<ResourcesPermissionsMapping>() {
+
+        @Override
+        protected ResourcesPermissionsMapping create(final long tenantId) {
+            return new ResourcesPermissionsMapping(tenantId);
+        }
+    };
+
+    private static final TenantRegistry<CompoundPermissionsMapping> COMPOUND_PERMISSIONS_MAPPINGS = new TenantRegistry<CompoundPermissionsMapping>() {
+
+        @Override
+        protected CompoundPermissionsMapping create(final long tenantId) {
+            return new CompoundPermissionsMapping(tenantId);
+        }
+    };
+
+    private static final TenantRegistry<CustomPermissionsMapping> CUSTOM_PERMISSIONS_MAPPINGS = new TenantRegistry<CustomPermissionsMapping>() {
+
+        @Override
+        protected CustomPermissionsMapping create(final long tenantId) {
+            return new CustomPermissionsMapping(tenantId);
+        }
+    };
+
+    private static final TenantRegistry<DynamicPermissionsChecks> DYNAMIC_PERMISSIONS_CHECKS = new TenantRegistry<DynamicPermissionsChecks>() {
+
+        @Override
+        protected DynamicPermissionsChecks create(final long tenantId) {
+            return new DynamicPermissionsChecks(tenantId);
+        }
+    };
+
+    private static final TenantRegistry<SecurityProperties> SECURITY_PROPERTIES = new TenantRegistry<SecurityProperties>() {
+
+        @Override
+        protected SecurityProperties create(final long tenantId) {
+            return new SecurityProperties(tenantId);
+        }
+    };
+
+    private static final TenantRegistry<ConsoleProperties> CONSOLE_PROPERTIES = new TenantRegistry<ConsoleProperties>() {
+
+        @Override
+        protected ConsoleProperties create(final long tenantId) {
+            return new ConsoleProperties(tenantId);
+        }
+    };
+
+    private static final SecurityProperties PLATFORM_SECURITY_PROPERTIES = new SecurityProperties();
+
+    private static final PlatformTenantConfigProperties PLATFORM_TENANT_CONFIG_PROPERTIES = new PlatformTenantConfigProperties();
+
+    private static final PlatformPreferencesProperties PLATFORM_PREFERENCES_PROPERTIES = new PlatformPreferencesProperties();
+
     public static ResourcesPermissionsMapping getResourcesPermissionsMapping(final long tenantId) {
-        return new ResourcesPermissionsMapping(tenantId);
+        return RESOURCES_PERMISSIONS_MAPPINGS.get(tenantId);
     }
 
     public static CompoundPermissionsMapping getCompoundPermissionsMapping(final long tenantId) {
-        return new CompoundPermissionsMapping(tenantId);
+        return COMPOUND_PERMISSIONS_MAPPINGS.get(tenantId);
     }
 
     public static CustomPermissionsMapping getCustomPermissionsMapping(final long tenantId) {
-        return new CustomPermissionsMapping(tenantId);
+        return CUSTOM_PERMISSIONS_MAPPINGS.get(tenantId);
     }
 
     public static DynamicPermissionsChecks getDynamicPermissionsChecks(final long tenantId) {
-        return new DynamicPermissionsChecks(tenantId);
+        return DYNAMIC_PERMISSIONS_CHECKS.get(tenantId);
     }
 
     public static SecurityProperties getSecurityProperties(final long tenantId) {
-        return new SecurityProperties(tenantId);
+        return SECURITY_PROPERTIES.get(tenantId);
     }
 
     public static SecurityProperties getSecurityProperties() {
-        return new SecurityProperties();
+        return PLATFORM_SECURITY_PROPERTIES;
     }
 
     public static ConsoleProperties getConsoleProperties(final long tenantId) {
-        return new ConsoleProperties(tenantId);
+        return CONSOLE_PROPERTIES.get(tenantId);
     }
 
     public static PlatformTenantConfigProperties getPlatformTenantConfigProperties() {
-        return new PlatformTenantConfigProperties();
+        return PLATFORM_TENANT_CONFIG_PROPERTIES;
     }
 
     public static PlatformPreferencesProperties getPlatformPreferencesProperties() {
-        return new PlatformPreferencesProperties();
+        return PLATFORM_PREFERENCES_PROPERTIES;
     }
 }
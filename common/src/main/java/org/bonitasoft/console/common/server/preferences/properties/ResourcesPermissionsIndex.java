@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.preferences.properties;
+
+import static org.bonitasoft.console.common.server.preferences.properties.PropertiesWithSet.stringToSet;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Immutable tree of the keys of a resources permissions mapping file.<br>
+ * Each key <code>METHOD|api/resource/qualifier...</code> is split on the method separator and on the slashes so that a lookup (with or without
+ * wildcard) walks the tree instead of building and parsing property keys. Permissions are parsed once when the index is built.
+ */
+class ResourcesPermissionsIndex {
+
+    private static final String SEGMENT_SEPARATOR = "/";
+
+    private final long version;
+
+    private final Node root = new Node();
+
+    ResourcesPermissionsIndex(final Properties properties, final long version) {
+        this.version = version;
+        for (final String key : properties.stringPropertyNames()) {
+            final int separatorIndex = key.indexOf(ResourcesPermissionsMapping.API_METHOD_SEPARATOR);
+            if (separatorIndex < 0) {
+                continue;
+            }
+            Node node = root.getOrCreateChild(key.substring(0, separatorIndex));
+            for (final String segment : key.substring(separatorIndex + 1).split(SEGMENT_SEPARATOR, -1)) {
+                node = node.getOrCreateChild(segment);
+            }
+            node.permissions = Collections.unmodifiableSet(stringToSet(properties.getProperty(key)));
+        }
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * @param wildCardPosition
+     *        index of the resource qualifier to replace with {@link ResourcesPermissionsMapping#WILDCARD}, or -1 for an exact lookup
+     * @return the permissions of the matching key, or an empty set
+     */
+    Set<String> getPermissions(final String method, final String apiName, final String resourceName, final List<String> resourceQualifiers,
+            final int wildCardPosition) {
+        Node node = root.getChild(method);
+        node = walk(node, apiName);
+        node = walk(node, resourceName);
+        if (resourceQualifiers != null) {
+            for (int i = 0; i < resourceQualifiers.size(); i++) {
+                if (i == wildCardPosition) {
+                    node = node == null ? null : node.getChild(ResourcesPermissionsMapping.WILDCARD);
+                } else {
+                    node = walk(node, resourceQualifiers.get(i));
+                }
+            }
+        }
+        if (node == null || node.permissions == null) {
+            return Collections.emptySet();
+        }
+        return node.permissions;
+    }
+
+    private Node walk(final Node node, final String path) {
+        if (node == null) {
+            return null;
+        }
+        final String segment = String.valueOf(path);
+        if (!segment.contains(SEGMENT_SEPARATOR)) {
+            return node.getChild(segment);
+        }
+        Node child = node;
+        for (final String subSegment : segment.split(SEGMENT_SEPARATOR, -1)) {
+            child = child.getChild(subSegment);
+            if (child == null) {
+                return null;
+            }
+        }
+        return child;
+    }
+
+    private static class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        private Set<String> permissions;
+
+        Node getChild(final String segment) {
+            return children.get(segment);
+        }
+
+        Node getOrCreateChild(final String segment) {
+            Node child = children.get(segment);
+            if (child == null) {
+                child = new Node();
+                children.put(segment, child);
+            }
+            return child;
+        }
+    }
+}
@@ -17,7 +17,9 @@ package org.bonitasoft.console.common.server.preferences.properties;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Anthony Birembaut
@@ -35,6 +37,11 @@ public class ResourcesPermissionsMapping extends ConfigurationFile {
      */
     public static final String PROPERTIES_FILENAME = "resources-permissions-mapping.properties";
 
+    /**
+     * Indexes of the mapping files, by tenant and file name. They are rebuilt when the configuration changes.
+     */
+    private static final Map<String, ResourcesPermissionsIndex> INDEXES = new ConcurrentHashMap<>();
+
     ResourcesPermissionsMapping(long tenantId) {
         super(PROPERTIES_FILENAME, tenantId);
     }
@@ -44,17 +51,15 @@ public class ResourcesPermissionsMapping extends ConfigurationFile {
     }
 
     public Set<String> getResourcePermissions(final String method, final String apiName, final String resourceName, final List<String> resourceQualifiers) {
-        final String key = buildResourceKey(method, apiName, resourceName, resourceQualifiers);
-        return getPropertyAsSet(key);
+        return getIndex().getPermissions(method, apiName, resourceName, resourceQualifiers, -1);
     }
 
     public Set<String> getResourcePermissionsWithWildCard(final String method, final String apiName, final String resourceName,
             final List<String> resourceQualifiers) {
         if (resourceQualifiers != null) {
+            final ResourcesPermissionsIndex index = getIndex();
             for (int i = resourceQualifiers.size() - 1; i >= 0; i--) {
-                final List<String> resourceQualifiersWithWildCard = getResourceQualifiersWithWildCard(resourceQualifiers, i);
-                final String key = buildResourceKey(method, apiName, resourceName, resourceQualifiersWithWildCard);
-                final Set<String> permissions = getPropertyAsSet(key);
+                final Set<String> permissions = index.getPermissions(method, apiName, resourceName, resourceQualifiers, i);
                 if (!permissions.isEmpty()) {
                     return permissions;
                 }
@@ -63,6 +68,20 @@ public class ResourcesPermissionsMapping extends ConfigurationFile {
         return Collections.emptySet();
     }
 
+    /**
+     * @return the index of the mapping file, built again if the configuration changed since it was last built
+     */
+    ResourcesPermissionsIndex getIndex() {
+        final long version = ConfigurationFilesManager.getInstance().getConfigurationsVersion();
+        final String indexKey = getTenantId() + API_METHOD_SEPARATOR + getPropertiesFilename();
+        ResourcesPermissionsIndex index = INDEXES.get(indexKey);
+        if (index == null || index.getVersion() != version) {
+            index = new ResourcesPermissionsIndex(getPropertiesOfScope(), version);
+            INDEXES.put(indexKey, index);
+        }
+        return index;
+    }
+
     protected List<String> getResourceQualifiersWithWildCard(final List<String> resourceQualifiers, final int wildCardPosition) {
         final List<String> resourceQualifiersWithWildCard = new ArrayList<>(resourceQualifiers);
         resourceQualifiersWithWildCard.set(wildCardPosition, WILDCARD);
@@ -54,6 +54,13 @@ public class SecurityProperties {
      */
     private static Logger LOGGER = Logger.getLogger(SecurityProperties.class.getName());
     private final long tenantId;
+    private final SnapshotHolder<Snapshot> snapshot = new SnapshotHolder<Snapshot>() {
+
+        @Override
+        protected Snapshot parse(final Properties properties) {
+            return new Snapshot(properties);
+        }
+    };
 
 
     public SecurityProperties() {
@@ -68,33 +75,33 @@ public class SecurityProperties {
      * @return the password validator property
      */
     public String getPasswordValidator() {
-        return getProperties().getProperty(PASSWORD_VALIDATOR_CLASSNAME);
+        return getSnapshot().passwordValidator;
     }
 
     /**
      * @return the value to allow or not API authorization checks
      */
     public boolean isAPIAuthorizationsCheckEnabled() {
-        final String res = getProperties().getProperty(API_AUTHORIZATIONS_CHECK);
-        return res != null && res.equals("true");
+        return getSnapshot().apiAuthorizationsCheckEnabled;
     }
 
     /**
      * @return the value allow permission properties file debug
      */
     public boolean isAPIAuthorizationsCheckInDebugMode() {
-        final String debugMode = getProperties().getProperty(API_AUTHORIZATIONS_CHECK_DEBUG);
-        return Boolean.parseBoolean(debugMode);
+        return getSnapshot().apiAuthorizationsCheckInDebugMode;
     }
 
     /**
      * @return the value to allow or not CSRF protection
      */
     public boolean isCSRFProtectionEnabled() {
-        final String res = getProperties().getProperty(CSRF_PROTECTION);
-        return res != null && res.equals("true");
+        return getSnapshot().csrfProtectionEnabled;
     }
 
+    private Snapshot getSnapshot() {
+        return snapshot.get(getProperties());
+    }
 
     Properties getProperties() {
         if (tenantId > 0) {
@@ -107,4 +114,19 @@ public class SecurityProperties {
         return ConfigurationFilesManager.getInstance();
     }
 
+    private static class Snapshot {
+
+        private final String passwordValidator;
+        private final boolean apiAuthorizationsCheckEnabled;
+        private final boolean apiAuthorizationsCheckInDebugMode;
+        private final boolean csrfProtectionEnabled;
+
+        Snapshot(final Properties properties) {
+            passwordValidator = properties.getProperty(PASSWORD_VALIDATOR_CLASSNAME);
+            apiAuthorizationsCheckEnabled = "true".equals(properties.getProperty(API_AUTHORIZATIONS_CHECK));
+            apiAuthorizationsCheckInDebugMode = Boolean.parseBoolean(properties.getProperty(API_AUTHORIZATIONS_CHECK_DEBUG));
+            csrfProtectionEnabled = "true".equals(properties.getProperty(CSRF_PROTECTION));
+        }
+    }
+
 }
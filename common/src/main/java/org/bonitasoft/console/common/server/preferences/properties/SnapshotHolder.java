@@ -0,0 +1,55 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.preferences.properties;
+
+import java.util.Properties;
+
+/**
+ * Keeps the values parsed from a properties file of the {@link ConfigurationFilesManager}.<br>
+ * The configuration files manager replaces the properties when they change, so the values parsed from the current properties are reused
+ * until then.
+ */
+abstract class SnapshotHolder<S> {
+
+    private volatile Entry<S> entry;
+
+    S get(final Properties properties) {
+        Entry<S> currentEntry = entry;
+        if (currentEntry == null || currentEntry.properties != properties) {
+            currentEntry = new Entry<S>(properties, parse(properties));
+            entry = currentEntry;
+        }
+        return currentEntry.snapshot;
+    }
+
+    /**
+     * @return the values read from the properties
+     */
+    protected abstract S parse(Properties properties);
+
+    private static class Entry<S> {
+
+        private final Properties properties;
+
+        private final S snapshot;
+
+        Entry(final Properties properties, final S snapshot) {
+            this.properties = properties;
+            this.snapshot = snapshot;
+        }
+    }
+}
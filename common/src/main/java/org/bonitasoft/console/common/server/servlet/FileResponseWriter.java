@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.servlet;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Write a static file into a servlet response.<br>
+ * The file is streamed from a {@link FileChannel} instead of being loaded in memory. Responses carry an ETag and a Last-Modified header so
+ * that conditional requests are answered with a 304 status, and single byte ranges are supported.
+ * Each servlet keeps one instance shared by all its requests, so it should have absolutely no instance attribute.
+ */
+public class FileResponseWriter {
+
+    public static final String DEFAULT_CACHE_CONTROL = "no-cache";
+
+    private static final String BYTES_UNIT = "bytes";
+
+    public void write(final HttpServletRequest request, final HttpServletResponse response, final File file, final String contentType,
+            final String cacheControl) throws IOException {
+        final long length = file.length();
+        // HTTP dates have a precision of one second
+        final long lastModified = file.lastModified() / 1000 * 1000;
+        final String eTag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader("ETag", eTag);
+        response.setDateHeader("Last-Modified", lastModified);
+        response.setHeader("Cache-Control", cacheControl != null ? cacheControl : DEFAULT_CACHE_CONTROL);
+        response.setHeader("Accept-Ranges", BYTES_UNIT);
+
+        if (isNotModified(request, eTag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        final String range = request.getHeader("Range");
+        if (range != null && isRangeApplicable(request, eTag, lastModified)) {
+            final long[] bounds = parseRange(range, length);
+            if (bounds != null && bounds.length == 0) {
+                response.setHeader("Content-Range", BYTES_UNIT + " */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            } else if (bounds != null) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader("Content-Range", BYTES_UNIT + " " + start + "-" + end + "/" + length);
+            }
+        }
+
+        final long contentLength = end - start + 1;
+        response.setContentType(contentType);
+        if (contentLength <= Integer.MAX_VALUE) {
+            response.setContentLength((int) contentLength);
+        } else {
+            response.setHeader("Content-Length", String.valueOf(contentLength));
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+                OutputStream out = response.getOutputStream()) {
+            transfer(channel, start, contentLength, Channels.newChannel(out));
+        }
+        response.flushBuffer();
+    }
+
+    private void transfer(final FileChannel channel, final long start, final long count, final WritableByteChannel target) throws IOException {
+        long position = start;
+        long remaining = count;
+        while (remaining > 0) {
+            final long transferred = channel.transferTo(position, remaining, target);
+            if (transferred <= 0) {
+                // the file has been truncated in the meantime
+                break;
+            }
+            position += transferred;
+            remaining -= transferred;
+        }
+    }
+
+    boolean isNotModified(final HttpServletRequest request, final String eTag, final long lastModified) {
+        final String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            return "*".equals(ifNoneMatch.trim()) || matches(ifNoneMatch, eTag);
+        }
+        final long ifModifiedSince = getDateHeader(request, "If-Modified-Since");
+        return ifModifiedSince > 0 && lastModified <= ifModifiedSince;
+    }
+
+    private boolean isRangeApplicable(final HttpServletRequest request, final String eTag, final long lastModified) {
+        final String ifRange = request.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.trim().startsWith("\"")) {
+            return eTag.equals(ifRange.trim());
+        }
+        return getDateHeader(request, "If-Range") == lastModified;
+    }
+
+    private boolean matches(final String eTags, final String eTag) {
+        for (String candidate : eTags.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (eTag.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long getDateHeader(final HttpServletRequest request, final String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (final IllegalArgumentException e) {
+            // invalid dates are ignored
+            return -1;
+        }
+    }
+
+    /**
+     * Parse a Range header.<br>
+     * Only single ranges are supported, content is fully sent for multiple ranges.
+     *
+     * @return the first and last byte positions of the range, null if the header must be ignored or an empty array if the range cannot be
+     *         satisfied
+     */
+    long[] parseRange(final String range, final long length) {
+        if (!range.startsWith(BYTES_UNIT + "=") || range.indexOf(',') >= 0) {
+            return null;
+        }
+        final String rangeSpec = range.substring(BYTES_UNIT.length() + 1).trim();
+        final int separatorIndex = rangeSpec.indexOf('-');
+        if (separatorIndex < 0) {
+            return null;
+        }
+        long start;
+        long end;
+        try {
+            if (separatorIndex == 0) {
+                final long suffixLength = Long.parseLong(rangeSpec.substring(1));
+                if (suffixLength <= 0) {
+                    return new long[0];
+                }
+                start = Math.max(0, length - suffixLength);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(rangeSpec.substring(0, separatorIndex));
+                if (separatorIndex == rangeSpec.length() - 1) {
+                    end = length - 1;
+                } else {
+                    end = Long.parseLong(rangeSpec.substring(separatorIndex + 1));
+                    if (end < start) {
+                        return null;
+                    }
+                    end = Math.min(end, length - 1);
+                }
+            }
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+        if (start >= length) {
+            return new long[0];
+        }
+        return new long[] { start, end };
+    }
+
+}
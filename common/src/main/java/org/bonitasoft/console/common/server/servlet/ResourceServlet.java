@@ -17,7 +17,6 @@ package org.bonitasoft.console.common.server.servlet;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.util.logging.Level;
@@ -31,7 +30,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
-import org.apache.commons.io.FileUtils;
+import org.bonitasoft.console.common.server.preferences.properties.PropertiesFactory;
 import org.bonitasoft.console.common.server.utils.BonitaHomeFolderAccessor;
 import org.bonitasoft.console.common.server.utils.SessionUtil;
 import org.bonitasoft.engine.session.APISession;
@@ -74,6 +73,8 @@ public abstract class ResourceServlet extends HttpServlet {
 
     protected ResourceLocationReader resourceLocationReader = new ResourceLocationReader();
 
+    protected FileResponseWriter fileResponseWriter = new FileResponseWriter();
+
     /**
      * {@inheritDoc}
      */
@@ -121,7 +122,8 @@ public abstract class ResourceServlet extends HttpServlet {
         fileName = URLDecoder.decode(fileName, "UTF-8");
         response.setCharacterEncoding("UTF-8");
 
-        final File resourcesParentFolder = getResourcesParentFolder(request);
+        final long tenantId = getTenantId(request);
+        final File resourcesParentFolder = getTenantResourcesParentFolder(tenantId);
         final String subFolderName = getSubFolderName();
         String subFolderSuffix;
         if (subFolderName != null) {
@@ -140,7 +142,6 @@ public abstract class ResourceServlet extends HttpServlet {
                 throw new ServletException("For security reasons, access to this file paths" + file.getAbsolutePath() + " is restricted.");
             }
 
-            byte[] content;
             String contentType;
 
             final String lowerCaseFileName = fileName.toLowerCase();
@@ -177,14 +178,10 @@ public abstract class ResourceServlet extends HttpServlet {
             if (contentType == null) {
                 contentType = "application/octet-stream";
             }
-            content = FileUtils.readFileToByteArray(file);
-            response.setContentType(contentType);
-            response.setContentLength(content.length);
-            response.setBufferSize(content.length);
-            final OutputStream out = response.getOutputStream();
-            out.write(content, 0, content.length);
-            response.flushBuffer();
-            out.close();
+            if (!file.isFile()) {
+                throw new FileNotFoundException("Cannot find the resource file " + file.getPath());
+            }
+            fileResponseWriter.write(request, response, file, contentType, getCacheControl(tenantId, contentType));
         } catch (FileNotFoundException e) {
             if (LOGGER.isLoggable(Level.WARNING)) {
                 LOGGER.log(Level.WARNING, e.getMessage());
@@ -198,7 +195,27 @@ public abstract class ResourceServlet extends HttpServlet {
         }
     }
 
+    protected String getCacheControl(final long tenantId, final String contentType) {
+        return PropertiesFactory.getConsoleProperties(tenantId).getResourceCacheControl(contentType);
+    }
+
     protected File getResourcesParentFolder(final HttpServletRequest request) throws ServletException {
+        return getTenantResourcesParentFolder(getTenantId(request));
+    }
+
+    private File getTenantResourcesParentFolder(final long tenantId) throws ServletException {
+        try {
+            return getResourcesParentFolder(tenantId);
+        } catch (final RuntimeException e) {
+            final String errorMessage = "Error while using the servlet to get themes parent folder.";
+            if (LOGGER.isLoggable(Level.WARNING)) {
+                LOGGER.log(Level.WARNING, errorMessage);
+            }
+            throw new ServletException(errorMessage);
+        }
+    }
+
+    private long getTenantId(final HttpServletRequest request) {
         final HttpSession session = request.getSession();
         long tenantId = 1;
         final String tenantFromRequest = request.getParameter(TENANT_PARAM);
@@ -210,15 +227,7 @@ public abstract class ResourceServlet extends HttpServlet {
                 tenantId = apiSession.getTenantId();
             }
         }
-        try {
-            return getResourcesParentFolder(tenantId);
-        } catch (final RuntimeException e) {
-            final String errorMessage = "Error while using the servlet to get themes parent folder.";
-            if (LOGGER.isLoggable(Level.WARNING)) {
-                LOGGER.log(Level.WARNING, errorMessage);
-            }
-            throw new ServletException(errorMessage);
-        }
+        return tenantId;
     }
 
 }
@@ -19,14 +19,9 @@ package org.bonitasoft.console.common.server.themes;
 import static java.lang.String.format;
 
 import java.io.File;
-import java.io.IOException;
 import java.nio.file.Files;
 import java.util.logging.Logger;
 
-import org.bonitasoft.console.common.server.themes.exception.LessCompilationException;
-import org.lesscss.LessCompiler;
-import org.lesscss.LessException;
-
 public class CompilableFile {
 
     private static final Logger LOGGER = Logger.getLogger(CompilableFile.class.getName());
@@ -45,19 +40,11 @@ public class CompilableFile {
     }
 
     public byte[] compile(final ThemeArchive.ThemeModifier modifier) {
-        final LessCompiler lessCompiler = new LessCompiler();
-        lessCompiler.setEncoding("UTF-8");
         File file = modifier.resolve(input);
         if (!Files.exists(file.toPath())) {
             LOGGER.warning(format("Theme compilation failure. File <%s> not found", file));
             return new byte[0];
         }
-        try {
-            final byte[] compilation = lessCompiler.compile(file).getBytes("UTF-8");
-            modifier.add(output, compilation);
-            return compilation;
-        } catch (final LessException | IOException e) {
-            throw new LessCompilationException("Failed to compile " + input, e);
-        }
+        return ThemeCompiler.getInstance().compile(file, modifier, output);
     }
 }
\ No newline at end of file
@@ -49,6 +49,10 @@ public class ThemeArchive {
             return this;
         }
 
+        public File getThemeDirectory() {
+            return themeDirectory;
+        }
+
         public File resolve(String path) {
             return new File(themeDirectory, path);
         }
@@ -0,0 +1,227 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.themes;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.commons.io.FileUtils;
+import org.bonitasoft.console.common.server.themes.exception.LessCompilationException;
+import org.lesscss.LessCompiler;
+import org.lesscss.LessException;
+
+/**
+ * Compiles LESS files of themes on a bounded pool of background threads.<br>
+ * Compilations are cached by content hash of the LESS files of the theme, path of the compiled file and name of the output, so extracting an
+ * unchanged theme again does not compile anything. When a file has already been compiled once, the last good compilation is written right away
+ * and replaced once the new one is ready. A failed background compilation keeps the last good one.
+ */
+public class ThemeCompiler {
+
+    private static final Logger LOGGER = Logger.getLogger(ThemeCompiler.class.getName());
+
+    static final int MAX_CACHED_COMPILATIONS = 20;
+
+    private static final int NB_OF_THREADS = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() / 2));
+
+    private static final ThemeCompiler INSTANCE = new ThemeCompiler(Executors.newFixedThreadPool(NB_OF_THREADS, new ThemeCompilerThreadFactory()));
+
+    private final ExecutorService executor;
+
+    private final Map<String, byte[]> compilations = Collections.synchronizedMap(new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = -2817096545263553021L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, byte[]> eldest) {
+            return size() > MAX_CACHED_COMPILATIONS;
+        }
+    });
+
+    private final ConcurrentMap<String, byte[]> lastGoodCompilations = new ConcurrentHashMap<String, byte[]>();
+
+    /**
+     * Latest compilation request of each output, older compilations still running must not override its result
+     */
+    private final Map<String, Object> latestRequests = new ConcurrentHashMap<String, Object>();
+
+    ThemeCompiler(final ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    public static ThemeCompiler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Compile a LESS file of a theme and add the result to the theme.
+     * The call only waits for the compilation when no previous compilation of the file can be served meanwhile.
+     *
+     * @return the compilation added to the theme
+     */
+    public byte[] compile(final File lessFile, final ThemeArchive.ThemeModifier modifier, final String output) {
+        final String outputKey = new File(lessFile.getParentFile(), output).getAbsolutePath();
+        final String compilationKey = getCompilationKey(modifier.getThemeDirectory(), lessFile, output);
+        final Object request = new Object();
+        final byte[] cachedCompilation = compilationKey != null ? compilations.get(compilationKey) : null;
+        if (cachedCompilation != null) {
+            synchronized (latestRequests) {
+                latestRequests.put(outputKey, request);
+                addToTheme(modifier, output, cachedCompilation, outputKey);
+            }
+            return cachedCompilation;
+        }
+        final byte[] lastGoodCompilation;
+        synchronized (latestRequests) {
+            latestRequests.put(outputKey, request);
+            lastGoodCompilation = lastGoodCompilations.get(outputKey);
+            if (lastGoodCompilation != null) {
+                addToTheme(modifier, output, lastGoodCompilation, outputKey);
+            }
+        }
+        final Future<byte[]> compilation = executor.submit(new Callable<byte[]>() {
+
+            @Override
+            public byte[] call() {
+                final byte[] compiledFile;
+                try {
+                    compiledFile = doCompile(lessFile);
+                } catch (final LessCompilationException e) {
+                    if (lastGoodCompilation == null) {
+                        throw e;
+                    }
+                    LOGGER.log(Level.WARNING, e.getMessage() + ", the previous compilation is kept", e);
+                    return lastGoodCompilation;
+                }
+                if (compilationKey != null) {
+                    compilations.put(compilationKey, compiledFile);
+                }
+                synchronized (latestRequests) {
+                    if (latestRequests.get(outputKey) == request) {
+                        addToTheme(modifier, output, compiledFile, outputKey);
+                    }
+                }
+                return compiledFile;
+            }
+        });
+        if (lastGoodCompilation != null) {
+            return lastGoodCompilation;
+        }
+        return waitFor(compilation, lessFile);
+    }
+
+    byte[] doCompile(final File lessFile) {
+        final LessCompiler lessCompiler = new LessCompiler();
+        lessCompiler.setEncoding("UTF-8");
+        try {
+            return lessCompiler.compile(lessFile).getBytes("UTF-8");
+        } catch (final LessException | IOException e) {
+            throw new LessCompilationException("Failed to compile " + lessFile, e);
+        }
+    }
+
+    private void addToTheme(final ThemeArchive.ThemeModifier modifier, final String output, final byte[] compilation, final String outputKey) {
+        try {
+            modifier.add(output, compilation);
+            lastGoodCompilations.put(outputKey, compilation);
+        } catch (final IOException e) {
+            throw new LessCompilationException("Failed to write " + output, e);
+        }
+    }
+
+    private byte[] waitFor(final Future<byte[]> compilation, final File lessFile) {
+        try {
+            return compilation.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new LessCompilationException("Failed to compile " + lessFile, e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LessCompilationException("Interrupted while compiling " + lessFile, e);
+        }
+    }
+
+    /**
+     * @return the key of a compilation in the cache, null if it cannot be computed
+     */
+    String getCompilationKey(final File themeDirectory, final File lessFile, final String output) {
+        final String inputsHash = hashLessInputs(themeDirectory);
+        if (inputsHash == null || !lessFile.getAbsolutePath().startsWith(themeDirectory.getAbsolutePath())) {
+            return null;
+        }
+        return inputsHash + ":" + lessFile.getAbsolutePath().substring(themeDirectory.getAbsolutePath().length()) + ":" + output;
+    }
+
+    /**
+     * @return SHA-1 of the paths and contents of all the LESS files of the theme, null if it cannot be computed
+     */
+    String hashLessInputs(final File themeDirectory) {
+        if (themeDirectory == null || !themeDirectory.isDirectory()) {
+            return null;
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            final List<File> lessFiles = new ArrayList<File>(FileUtils.listFiles(themeDirectory, new String[] { "less" }, true));
+            Collections.sort(lessFiles);
+            final int themeDirectoryPathLength = themeDirectory.getAbsolutePath().length();
+            for (final File lessFile : lessFiles) {
+                digest.update(lessFile.getAbsolutePath().substring(themeDirectoryPathLength).getBytes("UTF-8"));
+                digest.update((byte) 0);
+                digest.update(FileUtils.readFileToByteArray(lessFile));
+                digest.update((byte) 0);
+            }
+            final StringBuilder hash = new StringBuilder();
+            for (final byte b : digest.digest()) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (final NoSuchAlgorithmException | IOException e) {
+            LOGGER.log(Level.FINE, "Unable to hash the LESS files of " + themeDirectory + ", compilation will not be cached", e);
+            return null;
+        }
+    }
+
+    private static class ThemeCompilerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "theme-compiler-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
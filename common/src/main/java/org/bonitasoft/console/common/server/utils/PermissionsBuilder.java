@@ -9,6 +9,7 @@ import org.bonitasoft.console.common.server.login.LoginFailedException;
 import org.bonitasoft.console.common.server.preferences.properties.CompoundPermissionsMapping;
 import org.bonitasoft.console.common.server.preferences.properties.CustomPermissionsMapping;
 import org.bonitasoft.console.common.server.preferences.properties.SecurityProperties;
+import org.bonitasoft.console.common.server.utils.ProfilePermissionsCache.ProfilePermissions;
 import org.bonitasoft.engine.api.ApplicationAPI;
 import org.bonitasoft.engine.api.ProfileAPI;
 import org.bonitasoft.engine.exception.SearchException;
@@ -35,15 +36,23 @@ public class PermissionsBuilder {
     private final CustomPermissionsMapping customPermissionsMapping;
     private final CompoundPermissionsMapping compoundPermissionsMapping;
     private final boolean apiAuthorizationsCheckEnabled;
+    private final ProfilePermissionsCache profilePermissionsCache;
 
     protected PermissionsBuilder(final APISession session, final ProfileAPI profileAPI,final ApplicationAPI applicationAPI, final CustomPermissionsMapping customPermissionsMapping,
             final CompoundPermissionsMapping compoundPermissionsMapping, final SecurityProperties securityProperties) {
+        this(session, profileAPI, applicationAPI, customPermissionsMapping, compoundPermissionsMapping, securityProperties, new ProfilePermissionsCache());
+    }
+
+    protected PermissionsBuilder(final APISession session, final ProfileAPI profileAPI,final ApplicationAPI applicationAPI, final CustomPermissionsMapping customPermissionsMapping,
+            final CompoundPermissionsMapping compoundPermissionsMapping, final SecurityProperties securityProperties,
+            final ProfilePermissionsCache profilePermissionsCache) {
         this.session = session;
         this.profileAPI = profileAPI;
         this.applicationAPI = applicationAPI;
         this.customPermissionsMapping = customPermissionsMapping;
         this.compoundPermissionsMapping = compoundPermissionsMapping;
         apiAuthorizationsCheckEnabled = securityProperties.isAPIAuthorizationsCheckEnabled();
+        this.profilePermissionsCache = profilePermissionsCache;
     }
 
     public Set<String> getPermissions() throws LoginFailedException {
@@ -97,10 +106,19 @@ public class PermissionsBuilder {
     }
 
     void addPageAndCustomPermissionsOfProfile(final Set<String> permissions, final Set<String> pageTokens, final Profile profile) throws SearchException {
-        addPagesOfProfile(profile, pageTokens);
-        addPagesOfApplication(profile, pageTokens);
-        addCustomProfilePermissions(permissions, profile);
-        addProfilesPermissions(permissions, profile);
+        ProfilePermissions profilePermissions = profilePermissionsCache.getProfilePermissions(profile.getId(), profile.getName());
+        if (profilePermissions == null) {
+            final Set<String> permissionsOfProfile = new HashSet<>();
+            final Set<String> pageTokensOfProfile = new HashSet<>();
+            addPagesOfProfile(profile, pageTokensOfProfile);
+            addPagesOfApplication(profile, pageTokensOfProfile);
+            addCustomProfilePermissions(permissionsOfProfile, profile);
+            addProfilesPermissions(permissionsOfProfile, profile);
+            profilePermissions = profilePermissionsCache.putProfilePermissions(profile.getId(), profile.getName(), permissionsOfProfile,
+                    pageTokensOfProfile);
+        }
+        permissions.addAll(profilePermissions.getPermissions());
+        pageTokens.addAll(profilePermissions.getPageTokens());
     }
 
     void addProfilesPermissions(final Set<String> permissions, final Profile profile) {
@@ -154,7 +172,11 @@ public class PermissionsBuilder {
     }
 
     Set<String> getCompoundPermissions(final String compoundName) {
-        return compoundPermissionsMapping.getPropertyAsSet(compoundName);
+        final Set<String> permissions = profilePermissionsCache.getCompoundPermissions(compoundName);
+        if (permissions != null) {
+            return permissions;
+        }
+        return profilePermissionsCache.putCompoundPermissions(compoundName, compoundPermissionsMapping.getPropertyAsSet(compoundName));
     }
 
     List<ProfileEntry> getProfileEntriesForProfile(final Profile profile, final int entriesIndex) throws SearchException {
@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.utils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.bonitasoft.console.common.server.preferences.properties.ConfigurationFilesManager;
+
+/**
+ * Cache of the permissions computed at login for the profiles of a tenant, and of the permissions of each compound permission (page token).<br>
+ * Most users share a few profiles, so a login only has to union the cached permissions of the profiles of the user.<br>
+ * Entries are ignored once the security configuration changed, once the profile has been renamed (custom permissions are mapped to the
+ * profile name), once they are older than the time to live (profiles can be modified directly in the engine), and the whole cache is
+ * cleared when pages, applications or profiles are modified through the REST API.
+ */
+public class ProfilePermissionsCache {
+
+    static final long DEFAULT_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(1);
+
+    private static final TenantRegistry<ProfilePermissionsCache> INSTANCES = new TenantRegistry<ProfilePermissionsCache>() {
+
+        @Override
+        protected ProfilePermissionsCache create(final long tenantId) {
+            return new ProfilePermissionsCache();
+        }
+    };
+
+    private final ConcurrentMap<Long, CachedEntry<ProfilePermissions>> profilesPermissions = new ConcurrentHashMap<Long, CachedEntry<ProfilePermissions>>();
+
+    private final ConcurrentMap<String, CachedEntry<Set<String>>> compoundPermissions = new ConcurrentHashMap<String, CachedEntry<Set<String>>>();
+
+    private final long timeToLive;
+
+    public ProfilePermissionsCache() {
+        this(DEFAULT_TIME_TO_LIVE);
+    }
+
+    ProfilePermissionsCache(final long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public static ProfilePermissionsCache getInstance(final long tenantId) {
+        return INSTANCES.get(tenantId);
+    }
+
+    /**
+     * @return the permissions and page tokens of the profile, or null if they need to be computed
+     */
+    public ProfilePermissions getProfilePermissions(final long profileId, final String profileName) {
+        final ProfilePermissions profilePermissions = getValue(profilesPermissions.get(profileId));
+        if (profilePermissions == null || !isSameName(profilePermissions.profileName, profileName)) {
+            return null;
+        }
+        return profilePermissions;
+    }
+
+    private boolean isSameName(final String cachedName, final String name) {
+        return cachedName == null ? name == null : cachedName.equals(name);
+    }
+
+    public ProfilePermissions putProfilePermissions(final long profileId, final String profileName, final Set<String> permissions,
+            final Set<String> pageTokens) {
+        final ProfilePermissions profilePermissions = new ProfilePermissions(profileName, permissions, pageTokens);
+        profilesPermissions.put(profileId, new CachedEntry<ProfilePermissions>(profilePermissions, getConfigurationsVersion()));
+        return profilePermissions;
+    }
+
+    /**
+     * @return the permissions of a compound permission, or null if they need to be computed
+     */
+    public Set<String> getCompoundPermissions(final String compoundName) {
+        return getValue(compoundPermissions.get(compoundName));
+    }
+
+    public Set<String> putCompoundPermissions(final String compoundName, final Set<String> permissions) {
+        final Set<String> unmodifiablePermissions = Collections.unmodifiableSet(new HashSet<String>(permissions));
+        compoundPermissions.put(compoundName, new CachedEntry<Set<String>>(unmodifiablePermissions, getConfigurationsVersion()));
+        return unmodifiablePermissions;
+    }
+
+    public void clear() {
+        profilesPermissions.clear();
+        compoundPermissions.clear();
+    }
+
+    private <V> V getValue(final CachedEntry<V> entry) {
+        if (entry == null || entry.version != getConfigurationsVersion() || System.currentTimeMillis() - entry.creationTime > timeToLive) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    long getConfigurationsVersion() {
+        return ConfigurationFilesManager.getInstance().getConfigurationsVersion();
+    }
+
+    /**
+     * Permissions granted by a profile, and tokens of the pages the profile gives access to
+     */
+    public static class ProfilePermissions {
+
+        private final String profileName;
+
+        private final Set<String> permissions;
+
+        private final Set<String> pageTokens;
+
+        ProfilePermissions(final String profileName, final Set<String> permissions, final Set<String> pageTokens) {
+            this.profileName = profileName;
+            this.permissions = Collections.unmodifiableSet(new HashSet<String>(permissions));
+            this.pageTokens = Collections.unmodifiableSet(new HashSet<String>(pageTokens));
+        }
+
+        public Set<String> getPermissions() {
+            return permissions;
+        }
+
+        public Set<String> getPageTokens() {
+            return pageTokens;
+        }
+    }
+
+    private static class CachedEntry<V> {
+
+        private final V value;
+
+        private final long version;
+
+        private final long creationTime = System.currentTimeMillis();
+
+        CachedEntry(final V value, final long version) {
+            this.value = value;
+            this.version = version;
+        }
+    }
+}
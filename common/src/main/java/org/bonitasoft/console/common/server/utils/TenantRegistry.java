@@ -0,0 +1,46 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds one instance of a cache or registry by tenant, created on first access.<br>
+ * When two threads access a tenant at the same time, both get the instance registered first.
+ */
+public abstract class TenantRegistry<T> {
+
+    private final ConcurrentMap<Long, T> instances = new ConcurrentHashMap<Long, T>();
+
+    public T get(final long tenantId) {
+        T instance = instances.get(tenantId);
+        if (instance == null) {
+            instance = create(tenantId);
+            final T existingInstance = instances.putIfAbsent(tenantId, instance);
+            if (existingInstance != null) {
+                instance = existingInstance;
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * @return a new instance for a tenant accessed for the first time
+     */
+    protected abstract T create(long tenantId);
+}
@@ -51,6 +51,8 @@ public class TenantsManagementUtils {
      */
     protected static final String GET_PROFILES_FOR_USER = "getProfilesForUser";
 
+    private static volatile Long defaultTenantId;
+
     /**
      * Copy file
      *
@@ -155,22 +157,42 @@ public class TenantsManagementUtils {
     }
 
     /**
-     * Get default tenant ID
+     * Get default tenant ID<br>
+     * The technical user only logs in the first time, or after the platform was created or deleted again.
      *
      * @throws DefaultTenantIdException
      *         If default tenant id couldn't be retrieved
      */
     public static long getDefaultTenantId() {
+        final Long knownDefaultTenantId = defaultTenantId;
+        if (knownDefaultTenantId != null) {
+            return knownDefaultTenantId;
+        }
         try {
             final APISession session = TenantAPIAccessor.getLoginAPI().login(getTechnicalUserUsername(), getTechnicalUserPassword());
             final long tenantId = session.getTenantId();
             TenantAPIAccessor.getLoginAPI().logout(session);
+            setDefaultTenantId(tenantId);
             return tenantId;
         } catch (final Exception e) {
             throw new DefaultTenantIdException(e);
         }
     }
 
+    /**
+     * Register the default tenant ID, when it is known from a session of the technical user
+     */
+    public static void setDefaultTenantId(final long tenantId) {
+        defaultTenantId = tenantId;
+    }
+
+    /**
+     * Forget the default tenant ID when the tenants of the platform change
+     */
+    public static void clearDefaultTenantId() {
+        defaultTenantId = null;
+    }
+
     public static String getTechnicalUserUsername() throws Exception {
         return PropertiesFactory.getPlatformTenantConfigProperties().defaultTenantUserName();
     }
@@ -484,7 +484,10 @@ public abstract class AbstractI18n {
 
     public LOCALE defaultLocale = LOCALE.en;
 
-    private final Map<LOCALE, Map<String, String>> locales = new HashMap<LOCALE, Map<String, String>>();
+    /**
+     * Loaded locales, replaced (never modified) each time a locale is set so that it can be read without locking
+     */
+    private volatile Map<LOCALE, Map<String, String>> locales = new HashMap<LOCALE, Map<String, String>>();
 
     // //////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // SINGLETON
@@ -960,7 +963,7 @@ public abstract class AbstractI18n {
     public Map<String, String> getLocale(final LOCALE locale) {
         if (locale != null) {
             if (!this.locales.containsKey(locale)) {
-                loadLocale(locale);
+                loadLocaleOnce(locale);
             }
             return this.locales.get(locale);
         } else {
@@ -968,8 +971,16 @@ public abstract class AbstractI18n {
         }
     }
 
-    protected final void setLocale(final LOCALE locale, final Map<String, String> map) {
-        this.locales.put(locale, map);
+    private synchronized void loadLocaleOnce(final LOCALE locale) {
+        if (!this.locales.containsKey(locale)) {
+            loadLocale(locale);
+        }
+    }
+
+    protected final synchronized void setLocale(final LOCALE locale, final Map<String, String> map) {
+        final Map<LOCALE, Map<String, String>> locales = new HashMap<LOCALE, Map<String, String>>(this.locales);
+        locales.put(locale, map);
+        this.locales = locales;
     }
 
     public static void load(final LOCALE locale) {
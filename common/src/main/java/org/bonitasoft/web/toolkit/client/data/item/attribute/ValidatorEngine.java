@@ -22,6 +22,7 @@ import java.util.Map;
 
 import org.bonitasoft.web.toolkit.client.common.TreeIndexed;
 import org.bonitasoft.web.toolkit.client.data.item.IItem;
+import org.bonitasoft.web.toolkit.client.data.item.ItemDefinition;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.AbstractStringComparisonValidator;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.AbstractStringValidator;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.MandatoryValidator;
@@ -68,27 +69,7 @@ public class ValidatorEngine {
         if (validators != null) {
             // Check validators
             for (final Validator validator : validators) {
-                // force attribute name as it could be different from the one set in the item definition (case of the deploys)
-                validator.setAttributeName(attributeName);
-
-                // Check mandatory validator
-                if (validator instanceof MandatoryValidator) {
-                    if (applyMandatory) {
-                        ((MandatoryValidator) validator).check(values.get(attributeName));
-                    }
-                }
-                // Check String based validator
-                else if (validator instanceof AbstractStringValidator) {
-                    ((AbstractStringValidator) validator).check(values.get(attributeName));
-                }
-                // Check Comparison validator
-                else if (validator instanceof AbstractStringComparisonValidator) {
-                    ((AbstractStringComparisonValidator) validator).check(
-                            values.get(attributeName),
-                            values.get(((AbstractStringComparisonValidator) validator).getSecondAttributeName())
-                            );
-                }
-                errors.addAll(validator.getErrors());
+                checkValidator(validator, attributeName, values, applyMandatory, errors);
             }
         }
         if (errors.size() > 0) {
@@ -96,6 +77,40 @@ public class ValidatorEngine {
         }
     }
 
+    /**
+     * A check stores its attribute name and its errors in the validator, so only the errors of the validators checked here are collected.<br>
+     * For the same reason, the validators of an item definition must not be used by several threads at the same time: each thread validates with
+     * an item definition of its own.
+     */
+    private static void checkValidator(final Validator validator, final String attributeName, final Map<String, String> values,
+            final boolean applyMandatory, final List<ValidationError> errors) {
+        if (validator instanceof MandatoryValidator && !applyMandatory) {
+            return;
+        }
+        // force attribute name as it could be different from the one set in the item definition (case of the deploys)
+        validator.setAttributeName(attributeName);
+
+        // Check mandatory validator
+        if (validator instanceof MandatoryValidator) {
+            ((MandatoryValidator) validator).check(values.get(attributeName));
+        }
+        // Check String based validator
+        else if (validator instanceof AbstractStringValidator) {
+            ((AbstractStringValidator) validator).check(values.get(attributeName));
+        }
+        // Check Comparison validator
+        else if (validator instanceof AbstractStringComparisonValidator) {
+            ((AbstractStringComparisonValidator) validator).check(
+                    values.get(attributeName),
+                    values.get(((AbstractStringComparisonValidator) validator).getSecondAttributeName())
+                    );
+        } else {
+            // nothing has been checked, the errors of the validator come from a previous check
+            return;
+        }
+        errors.addAll(validator.getErrors());
+    }
+
     /**
      * Validate an Item
      * 
@@ -111,7 +126,22 @@ public class ValidatorEngine {
      * @throws ValidationException
      */
     public static void validate(final IItem item, final boolean applyMandatory) throws ValidationException {
-        validate(item.getAttributes(), item.getItemDefinition().getValidators(), applyMandatory);
+        final ItemDefinition<?> itemDefinition = item.getItemDefinition();
+        final Map<String, String> values = item.getAttributes();
+        final List<ValidationError> errors = new LinkedList<ValidationError>();
+        for (final String attributeName : values.keySet()) {
+            final ItemAttribute attribute = itemDefinition.getAttribute(attributeName);
+            if (attribute != null) {
+                try {
+                    validateAttribute(attributeName, values, attribute.getValidators(), applyMandatory);
+                } catch (final ValidationException e) {
+                    errors.addAll(e.getErrors());
+                }
+            }
+        }
+        if (errors.size() > 0) {
+            throw new ValidationException(errors);
+        }
     }
 
     /**
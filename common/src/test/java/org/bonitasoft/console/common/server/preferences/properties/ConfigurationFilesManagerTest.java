@@ -23,6 +23,7 @@ import static org.mockito.Mockito.verify;
 import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 import org.apache.commons.io.FileUtils;
 import org.bonitasoft.console.common.server.utils.PlatformManagementUtils;
@@ -112,4 +113,27 @@ public class ConfigurationFilesManagerTest {
         assertThat(FileUtils.readFileToString(configurationFile)).isEqualTo(newFileContent);
     }
 
+    @Test
+    public void should_setProperty_publish_new_properties_without_modifying_the_ones_being_read() throws Exception {
+        //given
+        final Properties propertiesBeingRead = configurationFilesManager.getTenantProperties(MY_PROP_PROPERTIES, TENANT_ID);
+        final long version = configurationFilesManager.getConfigurationsVersion();
+        //when
+        configurationFilesManager.setProperty(MY_PROP_PROPERTIES, TENANT_ID, "testProperty", "new Value");
+        //then
+        assertThat(propertiesBeingRead).contains(entry("testProperty", "testValue"));
+        assertThat(configurationFilesManager.getTenantProperties(MY_PROP_PROPERTIES, TENANT_ID)).isNotSameAs(propertiesBeingRead)
+                .contains(entry("testProperty", "new Value"), entry("propToRemove", "willBeRemoved"));
+        assertThat(configurationFilesManager.getConfigurationsVersion()).isGreaterThan(version);
+    }
+
+    @Test
+    public void should_return_the_same_properties_for_a_missing_file() throws Exception {
+        final Properties properties = configurationFilesManager.getTenantProperties("missing.properties", TENANT_ID);
+
+        assertThat(properties).isEmpty();
+        assertThat(configurationFilesManager.getTenantProperties("missing.properties", TENANT_ID)).isSameAs(properties);
+        assertThat(configurationFilesManager.getPlatformProperties("missing.properties")).isSameAs(properties);
+    }
+
 }
@@ -69,6 +69,39 @@ public class ResourcesPermissionsMappingTest {
         Assertions.assertThat(postWithResourcesQualifiers).containsOnly("Custom permission");
     }
 
+    @Test
+    public void should_use_the_new_mapping_when_the_configuration_changes() throws Exception {
+        //given
+        final ResourcesPermissionsMapping resourcesPermissionsMapping = getResourcesPermissionsMapping("GET|bpm/process [Process visualization]");
+        Assertions.assertThat(resourcesPermissionsMapping.getResourcePermissions("GET", "bpm", "process")).containsOnly("Process visualization");
+
+        //when
+        ConfigurationFilesManager.getInstance().setTenantConfigurations(
+                Collections.singletonMap("TEST_FILE.properties", "GET|bpm/process [Process Deploy]".getBytes()), 423L);
+
+        //then
+        Assertions.assertThat(resourcesPermissionsMapping.getResourcePermissions("GET", "bpm", "process")).containsOnly("Process Deploy");
+    }
+
+    @Test
+    public void should_find_permissions_of_resources_with_slashes_in_their_segments() throws Exception {
+        //given
+        final String fileContent = "GET|bpm/case/context [Case visualization]\n" +
+                "GET|bpm/process/*/design/content [Process design]";
+        final ResourcesPermissionsMapping resourcesPermissionsMapping = getResourcesPermissionsMapping(fileContent);
+
+        //when
+        final Set<String> casePermissions = resourcesPermissionsMapping.getResourcePermissions("GET", "bpm", "case/context");
+        final Set<String> designPermissions = resourcesPermissionsMapping.getResourcePermissionsWithWildCard("GET", "bpm", "process",
+                Arrays.asList("6", "design/content"));
+        final Set<String> partialPermissions = resourcesPermissionsMapping.getResourcePermissions("GET", "bpm", "case");
+
+        //then
+        Assertions.assertThat(casePermissions).containsOnly("Case visualization");
+        Assertions.assertThat(designPermissions).containsOnly("Process design");
+        Assertions.assertThat(partialPermissions).isEmpty();
+    }
+
     public static ResourcesPermissionsMapping getResourcesPermissionsMapping(final String fileContent) throws IOException {
         ConfigurationFilesManager.getInstance().setTenantConfigurations(Collections.singletonMap("TEST_FILE.properties", fileContent.getBytes()), 423L);
         final File resourceMappingFile = File.createTempFile("resourceMapping", ".tmp");
@@ -0,0 +1,171 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.servlet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FileResponseWriterTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private HttpServletResponse response;
+
+    private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+    private final FileResponseWriter fileResponseWriter = new FileResponseWriter();
+
+    private File file;
+
+    private String eTag;
+
+    @Before
+    public void setUp() throws Exception {
+        file = temporaryFolder.newFile("file.css");
+        FileUtils.writeStringToFile(file, "0123456789");
+        eTag = "\"a-" + Long.toHexString(file.lastModified() / 1000 * 1000) + "\"";
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+
+            @Override
+            public void write(final int b) throws IOException {
+                content.write(b);
+            }
+        });
+    }
+
+    @Test
+    public void should_write_the_whole_file_with_validators() throws Exception {
+        fileResponseWriter.write(request, response, file, "text/css", "max-age=60");
+
+        assertThat(content.toString()).isEqualTo("0123456789");
+        verify(response).setContentType("text/css");
+        verify(response).setContentLength(10);
+        verify(response).setHeader("ETag", eTag);
+        verify(response).setDateHeader("Last-Modified", file.lastModified() / 1000 * 1000);
+        verify(response).setHeader("Cache-Control", "max-age=60");
+    }
+
+    @Test
+    public void should_answer_not_modified_when_etag_matches() throws Exception {
+        when(request.getHeader("If-None-Match")).thenReturn("\"other\", " + eTag);
+
+        fileResponseWriter.write(request, response, file, "text/css", null);
+
+        verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(response, never()).getOutputStream();
+    }
+
+    @Test
+    public void should_answer_not_modified_when_file_was_not_modified_since() throws Exception {
+        when(request.getDateHeader("If-Modified-Since")).thenReturn(file.lastModified() + 1000);
+
+        fileResponseWriter.write(request, response, file, "text/css", null);
+
+        verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(response, never()).getOutputStream();
+    }
+
+    @Test
+    public void should_write_the_whole_file_when_etag_does_not_match() throws Exception {
+        when(request.getHeader("If-None-Match")).thenReturn("\"other\"");
+
+        fileResponseWriter.write(request, response, file, "text/css", null);
+
+        verify(response, never()).setStatus(anyInt());
+        assertThat(content.toString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    public void should_write_the_requested_byte_range() throws Exception {
+        when(request.getHeader("Range")).thenReturn("bytes=2-5");
+
+        fileResponseWriter.write(request, response, file, "text/css", null);
+
+        verify(response).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        verify(response).setHeader("Content-Range", "bytes 2-5/10");
+        verify(response).setContentLength(4);
+        assertThat(content.toString()).isEqualTo("2345");
+    }
+
+    @Test
+    public void should_ignore_range_when_if_range_does_not_match() throws Exception {
+        when(request.getHeader("Range")).thenReturn("bytes=2-5");
+        when(request.getHeader("If-Range")).thenReturn("\"other\"");
+
+        fileResponseWriter.write(request, response, file, "text/css", null);
+
+        verify(response, never()).setStatus(anyInt());
+        assertThat(content.toString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    public void should_answer_range_not_satisfiable() throws Exception {
+        when(request.getHeader("Range")).thenReturn("bytes=20-");
+
+        fileResponseWriter.write(request, response, file, "text/css", null);
+
+        verify(response).sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        verify(response).setHeader("Content-Range", "bytes */10");
+    }
+
+    @Test
+    public void should_parse_ranges() throws Exception {
+        assertThat(fileResponseWriter.parseRange("bytes=0-", 10)).containsExactly(0L, 9L);
+        assertThat(fileResponseWriter.parseRange("bytes=-3", 10)).containsExactly(7L, 9L);
+        assertThat(fileResponseWriter.parseRange("bytes=5-100", 10)).containsExactly(5L, 9L);
+        assertThat(fileResponseWriter.parseRange("bytes=5-2", 10)).isNull();
+        assertThat(fileResponseWriter.parseRange("bytes=0-1,3-4", 10)).isNull();
+        assertThat(fileResponseWriter.parseRange("items=0-1", 10)).isNull();
+        assertThat(fileResponseWriter.parseRange("bytes=10-", 10)).isEmpty();
+    }
+
+    @Test
+    public void should_not_write_anything_for_not_modified_file() throws Exception {
+        when(request.getHeader("If-None-Match")).thenReturn("*");
+
+        fileResponseWriter.write(request, response, file, "text/css", null);
+
+        verify(response, never()).setContentType(any(String.class));
+    }
+}
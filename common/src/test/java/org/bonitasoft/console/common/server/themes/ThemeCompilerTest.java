@@ -0,0 +1,161 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.themes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.bonitasoft.console.common.server.themes.exception.LessCompilationException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ThemeCompilerTest {
+
+    @Rule
+    public TemporaryFolder directory = new TemporaryFolder();
+
+    @Mock
+    ThemeArchive.ThemeModifier modifier;
+
+    private ExecutorService executor;
+
+    private ThemeCompiler themeCompiler;
+
+    private File lessStyle;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newSingleThreadExecutor();
+        themeCompiler = spy(new ThemeCompiler(executor));
+        lessStyle = directory.newFile("style.less");
+        given(modifier.getThemeDirectory()).willReturn(directory.getRoot());
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void should_not_compile_again_a_theme_whose_less_files_did_not_change() throws Exception {
+        FileUtils.writeStringToFile(lessStyle, "@myvar:1px;body{width:@myvar}");
+
+        final byte[] firstCompilation = themeCompiler.compile(lessStyle, modifier, "style.css");
+        final byte[] secondCompilation = themeCompiler.compile(lessStyle, modifier, "style.css");
+
+        assertThat(secondCompilation).isEqualTo(firstCompilation);
+        verify(themeCompiler, times(1)).doCompile(lessStyle);
+        verify(modifier, times(2)).add("style.css", firstCompilation);
+    }
+
+    @Test
+    public void should_compile_each_less_file_of_a_theme_into_its_own_output() throws Exception {
+        FileUtils.writeStringToFile(lessStyle, "body{width:1px}");
+        final File lessMain = directory.newFile("main.less");
+        FileUtils.writeStringToFile(lessMain, "div{height:2px}");
+
+        final byte[] styleCompilation = themeCompiler.compile(lessStyle, modifier, "style.css");
+        final byte[] mainCompilation = themeCompiler.compile(lessMain, modifier, "main.css");
+
+        assertThat(new String(styleCompilation, "UTF-8")).contains("width: 1px");
+        assertThat(new String(mainCompilation, "UTF-8")).contains("height: 2px");
+        verify(modifier).add("style.css", styleCompilation);
+        verify(modifier).add("main.css", mainCompilation);
+    }
+
+    @Test
+    public void should_add_the_first_compilation_of_a_file_to_the_theme_before_returning() throws Exception {
+        FileUtils.writeStringToFile(lessStyle, "body{width:1px}");
+
+        final byte[] compilation = themeCompiler.compile(lessStyle, modifier, "style.css");
+
+        assertThat(new String(compilation, "UTF-8")).contains("width: 1px");
+        verify(modifier).add("style.css", compilation);
+    }
+
+    @Test
+    public void should_serve_the_last_good_compilation_until_the_new_one_is_ready() throws Exception {
+        FileUtils.writeStringToFile(lessStyle, "body{width:1px}");
+        final byte[] firstCompilation = themeCompiler.compile(lessStyle, modifier, "style.css");
+        FileUtils.writeStringToFile(lessStyle, "body{width:2px}");
+
+        final byte[] servedCompilation = themeCompiler.compile(lessStyle, modifier, "style.css");
+        waitForBackgroundCompilations();
+
+        assertThat(servedCompilation).isEqualTo(firstCompilation);
+        final ArgumentCaptor<byte[]> addedCompilations = ArgumentCaptor.forClass(byte[].class);
+        verify(modifier, times(3)).add(eq("style.css"), addedCompilations.capture());
+        assertThat(new String(addedCompilations.getValue(), "UTF-8")).contains("width: 2px");
+    }
+
+    @Test
+    public void should_keep_the_last_good_compilation_when_the_new_one_fails() throws Exception {
+        FileUtils.writeStringToFile(lessStyle, "body{width:1px}");
+        final byte[] firstCompilation = themeCompiler.compile(lessStyle, modifier, "style.css");
+        doThrow(new LessCompilationException("Failed to compile " + lessStyle, null)).when(themeCompiler).doCompile(any(File.class));
+        FileUtils.writeStringToFile(lessStyle, "body{width:");
+
+        final byte[] servedCompilation = themeCompiler.compile(lessStyle, modifier, "style.css");
+        waitForBackgroundCompilations();
+
+        assertThat(servedCompilation).isEqualTo(firstCompilation);
+        verify(modifier, times(2)).add(eq("style.css"), any(byte[].class));
+        verify(modifier, times(2)).add("style.css", firstCompilation);
+    }
+
+    @Test(expected = LessCompilationException.class)
+    public void should_fail_when_the_first_compilation_of_a_file_fails() throws Exception {
+        doThrow(new LessCompilationException("Failed to compile " + lessStyle, null)).when(themeCompiler).doCompile(any(File.class));
+
+        themeCompiler.compile(lessStyle, modifier, "style.css");
+    }
+
+    @Test
+    public void should_compute_the_same_hash_for_the_same_less_files() throws Exception {
+        FileUtils.writeStringToFile(lessStyle, "body{width:1px}");
+        final String hash = themeCompiler.hashLessInputs(directory.getRoot());
+
+        FileUtils.writeStringToFile(directory.newFile("other.css"), "not a less file");
+        assertThat(themeCompiler.hashLessInputs(directory.getRoot())).isEqualTo(hash);
+
+        FileUtils.writeStringToFile(lessStyle, "body{width:2px}");
+        assertThat(themeCompiler.hashLessInputs(directory.getRoot())).isNotEqualTo(hash);
+    }
+
+    private void waitForBackgroundCompilations() throws InterruptedException {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+    }
+}
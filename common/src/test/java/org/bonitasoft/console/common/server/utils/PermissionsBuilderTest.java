@@ -160,14 +160,60 @@ public class PermissionsBuilderTest {
         final Profile profile = mock(Profile.class);
         doReturn("profileName").when(profile).getName();
         doReturn(new HashSet<String>(Arrays.asList("Perm1", "Perm2"))).when(permissionsBuilder).getCustomPermissions(eq("profile"), eq("profileName"));
-        doNothing().when(permissionsBuilder).addPagesOfProfile(profile, pages);
+        doNothing().when(permissionsBuilder).addPagesOfProfile(eq(profile), anySetOf(String.class));
 
         permissionsBuilder.addPageAndCustomPermissionsOfProfile(permissions, pages, profile);
 
-        verify(permissionsBuilder).addPagesOfProfile(profile, pages);
+        verify(permissionsBuilder).addPagesOfProfile(eq(profile), anySetOf(String.class));
         assertThat(permissions).containsOnly("Perm1", "Perm2", "profile|profileName");
     }
 
+    @Test
+    public void should_addPageAndCustomPermissionsOfProfile_reuse_permissions_of_profile_computed_at_a_previous_login() throws Exception {
+        final ProfilePermissionsCache profilePermissionsCache = new ProfilePermissionsCache();
+        final PermissionsBuilder firstLoginPermissionsBuilder = spy(new PermissionsBuilder(apiSession, profileAPI, applicationAPI, customPermissionsMapping,
+                compoundPermissionsMapping, securityProperties, profilePermissionsCache));
+        final PermissionsBuilder secondLoginPermissionsBuilder = spy(new PermissionsBuilder(apiSession, profileAPI, applicationAPI, customPermissionsMapping,
+                compoundPermissionsMapping, securityProperties, profilePermissionsCache));
+        doReturn(12L).when(profile).getId();
+        doReturn("profileName").when(profile).getName();
+        doReturn(new HashSet<String>(Arrays.asList("Perm1"))).when(customPermissionsMapping).getPropertyAsSet("profile|profileName");
+        doNothing().when(firstLoginPermissionsBuilder).addPagesOfApplication(eq(profile), anySetOf(String.class));
+        doReturn(fillInProfileEntriesList(1)).when(firstLoginPermissionsBuilder).getProfileEntriesForProfile(profile, 0);
+
+        final Set<String> firstLoginPermissions = new HashSet<String>();
+        final Set<String> firstLoginPages = new HashSet<String>();
+        firstLoginPermissionsBuilder.addPageAndCustomPermissionsOfProfile(firstLoginPermissions, firstLoginPages, profile);
+        final Set<String> secondLoginPermissions = new HashSet<String>();
+        final Set<String> secondLoginPages = new HashSet<String>();
+        secondLoginPermissionsBuilder.addPageAndCustomPermissionsOfProfile(secondLoginPermissions, secondLoginPages, profile);
+
+        assertThat(secondLoginPermissions).isEqualTo(firstLoginPermissions).containsOnly("Perm1", "profile|profileName");
+        assertThat(secondLoginPages).isEqualTo(firstLoginPages).containsOnly("page0");
+        verify(secondLoginPermissionsBuilder, never()).getProfileEntriesForProfile(any(Profile.class), anyInt());
+        verify(secondLoginPermissionsBuilder, never()).addPagesOfApplication(any(Profile.class), anySetOf(String.class));
+    }
+
+    @Test
+    public void should_addPageAndCustomPermissionsOfProfile_compute_permissions_again_once_the_profile_is_renamed() throws Exception {
+        final ProfilePermissionsCache profilePermissionsCache = new ProfilePermissionsCache();
+        final PermissionsBuilder cachingPermissionsBuilder = spy(new PermissionsBuilder(apiSession, profileAPI, applicationAPI, customPermissionsMapping,
+                compoundPermissionsMapping, securityProperties, profilePermissionsCache));
+        doReturn(12L).when(profile).getId();
+        doReturn(new HashSet<String>(Arrays.asList("Perm1"))).when(customPermissionsMapping).getPropertyAsSet("profile|profileName");
+        doReturn(new HashSet<String>(Arrays.asList("Perm2"))).when(customPermissionsMapping).getPropertyAsSet("profile|renamedProfile");
+        doNothing().when(cachingPermissionsBuilder).addPagesOfApplication(eq(profile), anySetOf(String.class));
+        doReturn(fillInProfileEntriesList(1)).when(cachingPermissionsBuilder).getProfileEntriesForProfile(profile, 0);
+
+        doReturn("profileName").when(profile).getName();
+        cachingPermissionsBuilder.addPageAndCustomPermissionsOfProfile(new HashSet<String>(), new HashSet<String>(), profile);
+        doReturn("renamedProfile").when(profile).getName();
+        final Set<String> permissions = new HashSet<String>();
+        cachingPermissionsBuilder.addPageAndCustomPermissionsOfProfile(permissions, new HashSet<String>(), profile);
+
+        assertThat(permissions).containsOnly("Perm2", "profile|renamedProfile");
+    }
+
     @Test
     public void should_addPagesOfProfile_complete_set_of_page() throws Exception {
         final HashSet<String> pages = new HashSet<String>();
@@ -0,0 +1,55 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class TenantRegistryTest {
+
+    private final TenantRegistry<Object> registry = new TenantRegistry<Object>() {
+
+        @Override
+        protected Object create(final long tenantId) {
+            return new Object();
+        }
+    };
+
+    @Test
+    public void should_return_the_same_instance_for_a_tenant() throws Exception {
+        assertThat(registry.get(1L)).isSameAs(registry.get(1L));
+    }
+
+    @Test
+    public void should_return_an_instance_by_tenant() throws Exception {
+        assertThat(registry.get(1L)).isNotSameAs(registry.get(2L));
+    }
+
+    @Test
+    public void should_create_the_instance_of_the_accessed_tenant() throws Exception {
+        final TenantRegistry<Long> tenantIds = new TenantRegistry<Long>() {
+
+            @Override
+            protected Long create(final long tenantId) {
+                return tenantId;
+            }
+        };
+
+        assertThat(tenantIds.get(3L)).isEqualTo(3L);
+    }
+}
@@ -25,13 +25,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.Date;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.bonitasoft.console.common.server.utils.BPMEngineException;
 import org.bonitasoft.console.common.server.utils.FormsResourcesUtils;
+import org.bonitasoft.console.common.server.utils.TenantRegistry;
 import org.bonitasoft.engine.bpm.process.ProcessDefinitionNotFoundException;
 import org.bonitasoft.engine.exception.RetrieveException;
 import org.bonitasoft.engine.session.APISession;
@@ -78,11 +81,6 @@ public class FormDocumentBuilder {
      */
     protected String locale;
 
-    /**
-     * Last access to the current instance
-     */
-    protected Long lastAccess = new Date().getTime();
-
     /**
      * the {@link Date} of the process deployment
      */
@@ -99,14 +97,25 @@ public class FormDocumentBuilder {
     private static Logger LOGGER = Logger.getLogger(FormDocumentBuilder.class.getName());
 
     /**
-     * Instances map by process
+     * Instances by tenant, process and locale
+     */
+    private static final TenantRegistry<ConcurrentMap<Long, ConcurrentMap<String, CachedInstance>>> INSTANCES = new TenantRegistry<ConcurrentMap<Long, ConcurrentMap<String, CachedInstance>>>() {
+
+        @Override
+        protected ConcurrentMap<Long, ConcurrentMap<String, CachedInstance>> create(final long tenantId) {
+            return new ConcurrentHashMap<Long, ConcurrentMap<String, CachedInstance>>();
+        }
+    };
+
+    /**
+     * Key of the instances built without locale (concurrent maps do not accept null keys)
      */
-    private static Map<String, Map<String, FormDocumentBuilder>> INSTANCES;
+    private static final String NO_LOCALE_KEY = "";
 
     /**
-     * Separator for the instance map keys
+     * Sequence giving the order of the accesses to the cached instances, used to evict the least recently used ones
      */
-    protected final static String INSTANCES_MAP_SEPERATOR = "@";
+    private static final AtomicLong ACCESS_SEQUENCE = new AtomicLong();
 
     /**
      * Retrieve an instance of FormDocumentBuilder or create a new one if necessary.
@@ -126,7 +135,7 @@ public class FormDocumentBuilder {
      * @throws BPMEngineException
      * @throws InvalidSessionException
      */
-    public static synchronized FormDocumentBuilder getInstance(final APISession session, final long processDefinitionID, final String locale,
+    public static FormDocumentBuilder getInstance(final APISession session, final long processDefinitionID, final String locale,
             final Date processDeployementDate) throws ProcessDefinitionNotFoundException, IOException, InvalidFormDefinitionException, BPMEngineException,
             InvalidSessionException, RetrieveException {
 
@@ -136,7 +145,9 @@ public class FormDocumentBuilder {
     /**
      * Retrieve an instance of FormDocumentBuilder or create a new one if necessary.
      * The map contains a cache of instances. Each instance has a validity duration equals to the INSTANCE_EXPIRATION_TIME constant value
-     * The deployment date is also check because a process can be undeployed and redeployed (after modifications) with the same UUID
+     * The deployment date is also check because a process can be undeployed and redeployed (after modifications) with the same UUID.
+     * The cache is not locked as a whole: an instance is built only once when several threads ask for it at the same time, without blocking the
+     * threads asking for other processes or locales.
      * 
      * @param session
      *            the engine API session
@@ -153,76 +164,153 @@ public class FormDocumentBuilder {
      * @throws BPMEngineException
      * @throws InvalidSessionException
      */
-    public static synchronized FormDocumentBuilder getInstance(final APISession session, final long processDefinitionID, final String locale,
+    public static FormDocumentBuilder getInstance(final APISession session, final long processDefinitionID, final String locale,
             final Date processDeployementDate, final boolean getFormDefinitionFromBAR) throws ProcessDefinitionNotFoundException, IOException,
             InvalidFormDefinitionException, BPMEngineException, InvalidSessionException, RetrieveException {
 
         final long tenantID = session.getTenantId();
-        if (INSTANCES == null) {
-            INSTANCES = new LinkedHashMap<String, Map<String, FormDocumentBuilder>>(DefaultFormsPropertiesFactory.getDefaultFormProperties(tenantID)
-                    .getMaxProcessesInCache(), .75F, true) {
-
-                private static final long serialVersionUID = 7451370208143315146L;
-
-                @Override
-                protected boolean removeEldestEntry(final Map.Entry<String, Map<String, FormDocumentBuilder>> eldest) {
-                    return size() > DefaultFormsPropertiesFactory.getDefaultFormProperties(tenantID).getMaxProcessesInCache();
-                };
-            };
-        }
-
-        FormDocumentBuilder instance = null;
         if (processDefinitionID == -1) {
             try {
-                instance = new FormDocumentBuilder(session, -1, locale, processDeployementDate, getFormDefinitionFromBAR);
+                return new FormDocumentBuilder(session, -1, locale, processDeployementDate, getFormDefinitionFromBAR);
             } catch (final FileNotFoundException e) {
                 if (locale != null) {
-                    instance = new FormDocumentBuilder(session, -1, null, processDeployementDate, getFormDefinitionFromBAR);
+                    return new FormDocumentBuilder(session, -1, null, processDeployementDate, getFormDefinitionFromBAR);
                 } else {
                     throw new FileNotFoundException("The forms definition file for process was not found.");
                 }
             }
-        } else {
-            Map<String, FormDocumentBuilder> localeInstances = INSTANCES.get(processDefinitionID + INSTANCES_MAP_SEPERATOR + tenantID);
-            if (localeInstances != null) {
-                instance = localeInstances.get(locale);
+        }
+        final ConcurrentMap<Long, ConcurrentMap<String, CachedInstance>> processInstances = getProcessInstances(tenantID);
+        final ConcurrentMap<String, CachedInstance> localeInstances = getLocaleInstances(processInstances, processDefinitionID);
+        final String localeKey = locale != null ? locale : NO_LOCALE_KEY;
+        CachedInstance cachedInstance = localeInstances.get(localeKey);
+        if (cachedInstance != null && cachedInstance.isOutOfDate(processDeployementDate, tenantID)) {
+            localeInstances.remove(localeKey, cachedInstance);
+            cachedInstance = null;
+        }
+        if (cachedInstance == null) {
+            final CachedInstance newInstance = new CachedInstance(processDeployementDate);
+            cachedInstance = localeInstances.putIfAbsent(localeKey, newInstance);
+            if (cachedInstance == null) {
+                cachedInstance = newInstance;
+                // evict once the new instance is in the cache, so that it is the most recently used one
+                evictLeastRecentlyUsed(localeInstances, DefaultFormsPropertiesFactory.getDefaultFormProperties(tenantID).getMaxLanguagesInCache());
+                evictLeastRecentlyUsedProcesses(processInstances, DefaultFormsPropertiesFactory.getDefaultFormProperties(tenantID).getMaxProcessesInCache());
             }
-            boolean outOfDateDefinition = false;
-            if (instance != null
-                    && ((processDeployementDate != null && processDeployementDate.compareTo(instance.processDeployementDate) != 0) || instance
-                            .hasExpired(tenantID))) {
-                localeInstances.remove(locale);
-                outOfDateDefinition = true;
+        }
+        try {
+            return cachedInstance.get(session, processDefinitionID, locale, getFormDefinitionFromBAR);
+        } catch (final FileNotFoundException e) {
+            localeInstances.remove(localeKey, cachedInstance);
+            if (locale != null) {
+                return new FormDocumentBuilder(session, processDefinitionID, null, processDeployementDate, getFormDefinitionFromBAR);
+            } else {
+                throw new FileNotFoundException("The forms definition file for process " + processDefinitionID + "in tenant " + tenantID
+                        + " was not found.");
+            }
+        }
+    }
+
+    private static ConcurrentMap<Long, ConcurrentMap<String, CachedInstance>> getProcessInstances(final long tenantID) {
+        return INSTANCES.get(tenantID);
+    }
+
+    private static ConcurrentMap<String, CachedInstance> getLocaleInstances(final ConcurrentMap<Long, ConcurrentMap<String, CachedInstance>> processInstances,
+            final long processDefinitionID) {
+        ConcurrentMap<String, CachedInstance> localeInstances = processInstances.get(processDefinitionID);
+        if (localeInstances == null) {
+            final ConcurrentMap<String, CachedInstance> newLocaleInstances = new ConcurrentHashMap<String, CachedInstance>();
+            localeInstances = processInstances.putIfAbsent(processDefinitionID, newLocaleInstances);
+            if (localeInstances == null) {
+                localeInstances = newLocaleInstances;
             }
-            if (instance == null || outOfDateDefinition) {
-                if (localeInstances == null) {
-                    localeInstances = new LinkedHashMap<String, FormDocumentBuilder>() {
+        }
+        return localeInstances;
+    }
 
-                        private static final long serialVersionUID = -2092174987934309788L;
+    private static void evictLeastRecentlyUsed(final ConcurrentMap<String, CachedInstance> localeInstances, final int maxSize) {
+        while (localeInstances.size() > maxSize) {
+            Map.Entry<String, CachedInstance> eldest = null;
+            for (final Map.Entry<String, CachedInstance> entry : localeInstances.entrySet()) {
+                if (eldest == null || entry.getValue().accessOrder < eldest.getValue().accessOrder) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            localeInstances.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
 
-                        @Override
-                        protected boolean removeEldestEntry(final java.util.Map.Entry<String, FormDocumentBuilder> eldest) {
-                            return size() > DefaultFormsPropertiesFactory.getDefaultFormProperties(tenantID).getMaxLanguagesInCache();
-                        }
-                    };
+    private static void evictLeastRecentlyUsedProcesses(final ConcurrentMap<Long, ConcurrentMap<String, CachedInstance>> processInstances,
+            final int maxSize) {
+        while (processInstances.size() > maxSize) {
+            Map.Entry<Long, ConcurrentMap<String, CachedInstance>> eldest = null;
+            long eldestAccess = Long.MAX_VALUE;
+            for (final Map.Entry<Long, ConcurrentMap<String, CachedInstance>> entry : processInstances.entrySet()) {
+                if (entry.getValue().isEmpty()) {
+                    // the first instance of this process is being added
+                    continue;
                 }
-                try {
-                    instance = new FormDocumentBuilder(session, processDefinitionID, locale, processDeployementDate, getFormDefinitionFromBAR);
-                    localeInstances.put(locale, instance);
-                    INSTANCES.put(processDefinitionID + INSTANCES_MAP_SEPERATOR + tenantID, localeInstances);
-                } catch (final FileNotFoundException e) {
-                    if (locale != null) {
-                        instance = new FormDocumentBuilder(session, processDefinitionID, null, processDeployementDate, getFormDefinitionFromBAR);
-                    } else {
-                        throw new FileNotFoundException("The forms definition file for process " + processDefinitionID + "in tenant " + tenantID
-                                + " was not found.");
+                long accessOrder = 0;
+                for (final CachedInstance cachedInstance : entry.getValue().values()) {
+                    accessOrder = Math.max(accessOrder, cachedInstance.accessOrder);
+                }
+                if (eldest == null || accessOrder < eldestAccess) {
+                    eldest = entry;
+                    eldestAccess = accessOrder;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            processInstances.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * Cache entry building its {@link FormDocumentBuilder} on first access, only once even if several threads ask for it at the same time
+     */
+    private static class CachedInstance {
+
+        private final Date processDeployementDate;
+
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        private volatile long accessOrder = ACCESS_SEQUENCE.incrementAndGet();
+
+        private volatile FormDocumentBuilder instance;
+
+        CachedInstance(final Date processDeployementDate) {
+            this.processDeployementDate = processDeployementDate;
+        }
+
+        FormDocumentBuilder get(final APISession session, final long processDefinitionID, final String locale, final boolean getFormDefinitionFromBAR)
+                throws ProcessDefinitionNotFoundException, IOException, InvalidFormDefinitionException, BPMEngineException, InvalidSessionException,
+                RetrieveException {
+            lastAccess = System.currentTimeMillis();
+            accessOrder = ACCESS_SEQUENCE.incrementAndGet();
+            FormDocumentBuilder builtInstance = instance;
+            if (builtInstance == null) {
+                synchronized (this) {
+                    builtInstance = instance;
+                    if (builtInstance == null) {
+                        builtInstance = new FormDocumentBuilder(session, processDefinitionID, locale, processDeployementDate, getFormDefinitionFromBAR);
+                        instance = builtInstance;
                     }
                 }
-            } else {
-                instance.lastAccess = new Date().getTime();
             }
+            return builtInstance;
+        }
+
+        boolean isOutOfDate(final Date deploymentDate, final long tenantID) {
+            if (deploymentDate != null && (processDeployementDate == null || deploymentDate.compareTo(processDeployementDate) != 0)) {
+                return true;
+            }
+            return lastAccess + DefaultFormsPropertiesFactory.getDefaultFormProperties(tenantID).getProcessesTimeToLiveInCache() < System
+                    .currentTimeMillis();
         }
-        return instance;
     }
 
     /**
@@ -330,16 +418,4 @@ public class FormDocumentBuilder {
     public Document getDocument() {
         return document;
     }
-
-    /**
-     * Determinates whether the current instance has expired or not
-     * 
-     * @param tenantID
-     *            the tenant ID
-     * @return true if the current instance has expired, false otherwise
-     */
-    protected boolean hasExpired(final long tenantID) {
-        final long now = new Date().getTime();
-        return this.lastAccess + DefaultFormsPropertiesFactory.getDefaultFormProperties(tenantID).getProcessesTimeToLiveInCache() < now;
-    }
 }
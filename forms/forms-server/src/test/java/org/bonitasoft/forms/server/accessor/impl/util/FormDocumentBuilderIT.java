@@ -17,7 +17,14 @@ package org.bonitasoft.forms.server.accessor.impl.util;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.bonitasoft.console.common.server.utils.FormsResourcesUtils;
 import org.bonitasoft.engine.api.ProcessAPI;
@@ -28,7 +35,9 @@ import org.bonitasoft.engine.bpm.bar.BusinessArchiveBuilder;
 import org.bonitasoft.engine.bpm.process.DesignProcessDefinition;
 import org.bonitasoft.engine.bpm.process.ProcessDefinition;
 import org.bonitasoft.engine.bpm.process.impl.ProcessDefinitionBuilder;
+import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.forms.server.FormsTestCase;
+import org.bonitasoft.forms.server.accessor.DefaultFormsPropertiesFactory;
 import org.bonitasoft.forms.server.accessor.IApplicationFormDefAccessor;
 import org.bonitasoft.forms.server.accessor.impl.XMLApplicationFormDefAccessorImpl;
 import org.junit.Assert;
@@ -116,4 +125,52 @@ public class FormDocumentBuilderIT extends FormsTestCase {
             processAPI.deleteProcessDefinition(bonitaProcess.getId());
         }
     }
+
+    @Test
+    public void testCacheEvictsTheLeastRecentlyUsedProcessWhenFull() throws Exception {
+        final int maxProcessesInCache = DefaultFormsPropertiesFactory.getDefaultFormProperties(getSession().getTenantId()).getMaxProcessesInCache();
+        final Date deploymentDate = new Date();
+        final long firstProcessDefinitionID = 1000L;
+        final long lastProcessDefinitionID = firstProcessDefinitionID + maxProcessesInCache;
+
+        final FormDocumentBuilder first = FormDocumentBuilder.getInstance(getSession(), firstProcessDefinitionID, null, deploymentDate);
+        for (long processDefinitionID = firstProcessDefinitionID + 1; processDefinitionID < lastProcessDefinitionID; processDefinitionID++) {
+            FormDocumentBuilder.getInstance(getSession(), processDefinitionID, null, deploymentDate);
+        }
+        final FormDocumentBuilder last = FormDocumentBuilder.getInstance(getSession(), lastProcessDefinitionID, null, deploymentDate);
+
+        Assert.assertSame(last, FormDocumentBuilder.getInstance(getSession(), lastProcessDefinitionID, null, deploymentDate));
+        Assert.assertNotSame(first, FormDocumentBuilder.getInstance(getSession(), firstProcessDefinitionID, null, deploymentDate));
+    }
+
+    @Test
+    public void testConcurrentAccessesShareTheSameInstance() throws Exception {
+        final APISession session = getSession();
+        final Date deploymentDate = new Date();
+        final int nbThreads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(nbThreads);
+        try {
+            final List<Future<FormDocumentBuilder>> futures = new ArrayList<Future<FormDocumentBuilder>>();
+            for (int i = 0; i < nbThreads; i++) {
+                futures.add(executor.submit(new Callable<FormDocumentBuilder>() {
+
+                    @Override
+                    public FormDocumentBuilder call() throws Exception {
+                        start.await();
+                        return FormDocumentBuilder.getInstance(session, 2000L, "fr", deploymentDate);
+                    }
+                }));
+            }
+            start.countDown();
+
+            final FormDocumentBuilder instance = futures.get(0).get();
+            for (final Future<FormDocumentBuilder> future : futures) {
+                Assert.assertSame(instance, future.get());
+            }
+            Assert.assertSame(instance, FormDocumentBuilder.getInstance(session, 2000L, "fr", deploymentDate));
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -5,9 +5,13 @@ import org.apache.commons.io.FileUtils;
 import org.bonitasoft.console.common.server.login.filter.AutoLoginRule;
 import org.bonitasoft.console.common.server.preferences.properties.ConfigurationFilesManager;
 import org.bonitasoft.console.common.server.preferences.properties.ProcessIdentifier;
+import org.bonitasoft.console.common.server.utils.TenantRegistry;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -20,6 +24,14 @@ public class AutoLoginCredentialsFinder {
      * Logger
      */
     private static final Logger LOGGER = Logger.getLogger(AutoLoginCredentialsFinder.class.getName());
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TenantRegistry<AtomicReference<AutoLoginCredentialsIndex>> INDEXES = new TenantRegistry<AtomicReference<AutoLoginCredentialsIndex>>() {
+
+        @Override
+        protected AtomicReference<AutoLoginCredentialsIndex> create(final long tenantId) {
+            return new AtomicReference<>();
+        }
+    };
     private ConfigurationFilesManager configurationFilesManager;
 
     public AutoLoginCredentialsFinder(ConfigurationFilesManager configurationFilesManager) {
@@ -27,40 +39,40 @@ public class AutoLoginCredentialsFinder {
     }
 
     private AutoLoginCredentials getAutoLoginCredentials(ProcessIdentifier processIdentifier, long tenantId) {
-        AutoLoginCredentials[] autoLoginCredentials = getAutoLoginCredentialsList(processIdentifier, tenantId);
-
-        for(AutoLoginCredentials autoLoginCredential: autoLoginCredentials){
-            ProcessIdentifier currentProcessIdentifier = new ProcessIdentifier(autoLoginCredential.getProcessName(), autoLoginCredential.getProcessVersion());
-            if(currentProcessIdentifier.getIdentifier().equals(processIdentifier.getIdentifier())){
-               return autoLoginCredential;
-            }
+        if (processIdentifier == null) {
+            return null;
         }
-
-        return null;
+        return getAutoLoginCredentialsIndex(tenantId).get(processIdentifier.getIdentifier());
     }
 
-    private AutoLoginCredentials[] getAutoLoginCredentialsList(ProcessIdentifier processIdentifier, long tenantId) {
-
-        if (processIdentifier != null) {
-            //properties must be retrieve in the "autologin-v6.json" file
-            //TODO First try to get from Cache
-
-            File credentialsMappingFile =  configurationFilesManager.getTenantAutoLoginConfiguration(tenantId);
+    /**
+     * The "autologin-v6.json" file is only read again when the configuration files manager updated the tenant configuration
+     */
+    private Map<String, AutoLoginCredentials> getAutoLoginCredentialsIndex(long tenantId) {
+        long configurationsVersion = configurationFilesManager.getConfigurationsVersion();
+        File credentialsMappingFile = configurationFilesManager.getTenantAutoLoginConfiguration(tenantId);
+        AtomicReference<AutoLoginCredentialsIndex> tenantIndex = INDEXES.get(tenantId);
+        AutoLoginCredentialsIndex index = tenantIndex.get();
+        if (index == null || !index.isBuiltFrom(credentialsMappingFile, configurationsVersion)) {
+            index = new AutoLoginCredentialsIndex(credentialsMappingFile, configurationsVersion, getAutoLoginCredentialsList(credentialsMappingFile));
+            tenantIndex.set(index);
+        }
+        return index.credentialsByProcess;
+    }
 
-            try {
-                return getObjectMapper().readValue(credentialsMappingFile, AutoLoginCredentials[].class);
-            } catch (Exception e) {
-                if (LOGGER.isLoggable(Level.FINE)) {
-                    LOGGER.log(Level.FINE, "Cannot read tenant auto login configuration : " + e.getMessage(), e);
-                }
+    private AutoLoginCredentials[] getAutoLoginCredentialsList(File credentialsMappingFile) {
+        try {
+            return getObjectMapper().readValue(credentialsMappingFile, AutoLoginCredentials[].class);
+        } catch (Exception e) {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, "Cannot read tenant auto login configuration : " + e.getMessage(), e);
             }
         }
-
         return new AutoLoginCredentials[0];
     }
 
     protected ObjectMapper getObjectMapper() {
-        return new ObjectMapper();
+        return OBJECT_MAPPER;
     }
 
     public AutoLoginCredentials getCredential(ProcessIdentifier processIdentifier, long tenantId){
@@ -68,4 +80,28 @@ public class AutoLoginCredentialsFinder {
         return autoLoginCredentials;
     }
 
+    private static class AutoLoginCredentialsIndex {
+
+        private final File credentialsMappingFile;
+        private final long configurationsVersion;
+        private final Map<String, AutoLoginCredentials> credentialsByProcess = new HashMap<>();
+
+        AutoLoginCredentialsIndex(File credentialsMappingFile, long configurationsVersion, AutoLoginCredentials[] autoLoginCredentials) {
+            this.credentialsMappingFile = credentialsMappingFile;
+            this.configurationsVersion = configurationsVersion;
+            for (AutoLoginCredentials autoLoginCredential : autoLoginCredentials) {
+                String identifier = new ProcessIdentifier(autoLoginCredential.getProcessName(), autoLoginCredential.getProcessVersion()).getIdentifier();
+                // the first mapping of a process wins, as when the list was scanned
+                if (!credentialsByProcess.containsKey(identifier)) {
+                    credentialsByProcess.put(identifier, autoLoginCredential);
+                }
+            }
+        }
+
+        boolean isBuiltFrom(File credentialsMappingFile, long configurationsVersion) {
+            return this.configurationsVersion == configurationsVersion
+                    && (this.credentialsMappingFile == null ? credentialsMappingFile == null : this.credentialsMappingFile.equals(credentialsMappingFile));
+        }
+    }
+
 }
@@ -54,10 +54,14 @@ public abstract class AbstractAuthorizationFilter implements Filter {
         final HttpServletResponse httpResponse = (HttpServletResponse) response;
         final String requestURL = httpRequest.getRequestURI();
 
-        if (sessionIsNotNeeded(requestURL, excludePatterns)) {
-            chain.doFilter(httpRequest, httpResponse);
-        } else if (checkValidCondition(httpRequest, httpResponse)) {
-            chain.doFilter(httpRequest, httpResponse);
+        try {
+            if (sessionIsNotNeeded(requestURL, excludePatterns)) {
+                chain.doFilter(httpRequest, httpResponse);
+            } else if (checkValidCondition(httpRequest, httpResponse)) {
+                chain.doFilter(httpRequest, httpResponse);
+            }
+        } finally {
+            releaseRequest(httpRequest);
         }
     }
 
@@ -71,6 +75,14 @@ public abstract class AbstractAuthorizationFilter implements Filter {
         return (HttpServletRequest) request;
     }
 
+    /**
+     * Override this to free the resources held by the wrapper returned by {@link #getRequest(ServletRequest)} once the request is processed
+     * 
+     * @param request the request returned by {@link #getRequest(ServletRequest)}
+     */
+    protected void releaseRequest(final HttpServletRequest request) {
+    }
+
     @Override
     public void destroy() {
 
@@ -16,34 +16,102 @@ package org.bonitasoft.console.common.server.login.filter;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.DeferredFileOutputStream;
 
+/**
+ * Request wrapper allowing to read the body several times.<br>
+ * The body is kept only once {@link #bufferBody()} has been called, until then the input stream of the wrapped request is returned as is. A kept
+ * body is shared by all the streams returned afterwards: it stays in memory up to a size threshold and is written to a temporary file above it.
+ */
 public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
 
-    private ByteArrayOutputStream readBytes;
+    /**
+     * Default size (in bytes) above which a buffered body is written to a temporary file
+     */
+    public static final int DEFAULT_MEMORY_THRESHOLD = 1024 * 1024;
+
+    private final int memoryThreshold;
+
+    private byte[] bodyBytes;
+
+    private File bodyFile;
 
     public MultiReadHttpServletRequest(final HttpServletRequest request) {
+        this(request, DEFAULT_MEMORY_THRESHOLD);
+    }
+
+    public MultiReadHttpServletRequest(final HttpServletRequest request, final int memoryThreshold) {
         super(request);
+        this.memoryThreshold = memoryThreshold;
+    }
+
+    /**
+     * Read the body of the wrapped request and keep it so that it can be read again. Does nothing if the body is already kept.
+     */
+    public void bufferBody() throws IOException {
+        if (isBodyBuffered()) {
+            return;
+        }
+        final DeferredFileOutputStream output = new DeferredFileOutputStream(memoryThreshold, "requestBody", ".tmp", null);
+        try {
+            IOUtils.copy(super.getInputStream(), output);
+        } finally {
+            output.close();
+        }
+        if (output.isInMemory()) {
+            bodyBytes = output.getData();
+        } else {
+            bodyFile = output.getFile();
+        }
+    }
+
+    File getBodyFile() {
+        return bodyFile;
+    }
+
+    public boolean isBodyBuffered() {
+        return bodyBytes != null || bodyFile != null;
+    }
+
+    /**
+     * Delete the temporary file the body may have been written to
+     */
+    public void release() {
+        if (bodyFile != null) {
+            bodyFile.delete();
+            bodyFile = null;
+        }
     }
 
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        if (readBytes == null) {
-            readInputStream();
+        if (bodyBytes != null) {
+            return new CachedServletInputStream(new ByteArrayInputStream(bodyBytes));
+        }
+        if (bodyFile != null) {
+            return new CachedServletInputStream(new FileInputStream(bodyFile));
         }
-        return new CachedServletInputStream();
+        return super.getInputStream();
     }
 
     @Override
     public BufferedReader getReader() throws IOException {
+        if (!isBodyBuffered()) {
+            return super.getReader();
+        }
         String enc = getCharacterEncoding();
         if (enc == null) {
             enc = "UTF-8";
@@ -51,17 +119,12 @@ public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
         return new BufferedReader(new InputStreamReader(getInputStream(), enc));
     }
 
-    private void readInputStream() throws IOException {
-        readBytes = new ByteArrayOutputStream();
-        IOUtils.copy(super.getInputStream(), readBytes);
-    }
-
-    class CachedServletInputStream extends ServletInputStream {
+    static class CachedServletInputStream extends ServletInputStream {
 
-        private final ByteArrayInputStream input;
+        private final InputStream input;
 
-        public CachedServletInputStream() {
-            input = new ByteArrayInputStream(readBytes.toByteArray());
+        public CachedServletInputStream(final InputStream input) {
+            this.input = input;
         }
 
         @Override
@@ -79,10 +142,15 @@ public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
             return input.read(b, off, len);
         }
 
+        @Override
+        public int available() throws IOException {
+            return input.available();
+        }
+
         @Override
         public void close() throws IOException {
             input.close();
             super.close();
         }
     }
-}
\ No newline at end of file
+}
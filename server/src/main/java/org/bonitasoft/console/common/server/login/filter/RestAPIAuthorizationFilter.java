@@ -19,7 +19,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
+import java.util.regex.Pattern;
 
+import javax.servlet.FilterConfig;
 import javax.servlet.ServletException;
 import javax.servlet.ServletInputStream;
 import javax.servlet.ServletRequest;
@@ -28,6 +30,7 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 import org.apache.commons.io.IOUtils;
+import org.bonitasoft.console.common.server.i18n.I18n;
 import org.bonitasoft.console.common.server.preferences.properties.DynamicPermissionsChecks;
 import org.bonitasoft.console.common.server.preferences.properties.PropertiesFactory;
 import org.bonitasoft.console.common.server.preferences.properties.ResourcesPermissionsMapping;
@@ -44,8 +47,14 @@ import org.bonitasoft.engine.exception.ServerAPIException;
 import org.bonitasoft.engine.exception.UnknownAPITypeException;
 import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.engine.session.PlatformSession;
+import org.bonitasoft.web.rest.server.framework.API;
+import org.bonitasoft.web.rest.server.framework.APIs;
+import org.bonitasoft.web.rest.server.framework.api.APIHasBulkUpdate;
 import org.bonitasoft.web.rest.server.framework.utils.RestRequestParser;
+import org.bonitasoft.web.toolkit.client.common.exception.api.APINotFoundException;
+import org.bonitasoft.web.toolkit.client.common.json.JSonItemReader;
 import org.bonitasoft.web.toolkit.client.data.APIID;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
 
 /**
  * @author Zhiheng Yang, Chong Zhao
@@ -56,11 +65,24 @@ public class RestAPIAuthorizationFilter extends AbstractAuthorizationFilter {
 
     public static final String SCRIPT_TYPE_AUTHORIZATION_PREFIX = "check";
 
-    private static final String PLATFORM_API_URI_REGEXP = ".*(API|APIToolkit)/platform/.*";
+    private static final Pattern PLATFORM_API_URI_PATTERN = Pattern.compile(".*(API|APIToolkit)/platform/.*");
+
+    private static final Pattern RESOURCE_AUTHORIZATION_PATTERN = Pattern.compile("(" + PermissionsBuilder.USER_TYPE_AUTHORIZATION_PREFIX + "|"
+            + PermissionsBuilder.PROFILE_TYPE_AUTHORIZATION_PREFIX + "|" + SCRIPT_TYPE_AUTHORIZATION_PREFIX + ")\\|.+");
 
     protected static final String PLATFORM_SESSION_PARAM_KEY = "platformSession";
+
+    private static final String HTTP_METHOD_PUT = "PUT";
+
+    /**
+     * Init parameter of the filter giving the size (in bytes) above which a request body read by a dynamic check is written to a temporary file
+     */
+    protected static final String BODY_MEMORY_THRESHOLD_PARAM = "bodyMemoryThreshold";
+
     private final Boolean reload;
 
+    private int bodyMemoryThreshold = MultiReadHttpServletRequest.DEFAULT_MEMORY_THRESHOLD;
+
     public RestAPIAuthorizationFilter(final boolean reload) {
         this.reload = reload;
     }
@@ -69,16 +91,53 @@ public class RestAPIAuthorizationFilter extends AbstractAuthorizationFilter {
         reload = null;//will check property from security-config
     }
 
+    @Override
+    public void init(final FilterConfig filterConfig) throws ServletException {
+        super.init(filterConfig);
+        final String threshold = filterConfig.getInitParameter(BODY_MEMORY_THRESHOLD_PARAM);
+        if (threshold != null) {
+            bodyMemoryThreshold = parseBodyMemoryThreshold(threshold);
+        }
+    }
+
+    private int parseBodyMemoryThreshold(final String threshold) {
+        try {
+            final int parsedThreshold = Integer.parseInt(threshold.trim());
+            if (parsedThreshold >= 0) {
+                return parsedThreshold;
+            }
+        } catch (final NumberFormatException e) {
+            // invalid value, the default one is used
+        }
+        if (LOGGER.isLoggable(Level.WARNING)) {
+            LOGGER.log(Level.WARNING, "Invalid value for the init parameter " + BODY_MEMORY_THRESHOLD_PARAM + ": " + threshold + ". The default value "
+                    + MultiReadHttpServletRequest.DEFAULT_MEMORY_THRESHOLD + " is used.");
+        }
+        return MultiReadHttpServletRequest.DEFAULT_MEMORY_THRESHOLD;
+    }
+
+    int getBodyMemoryThreshold() {
+        return bodyMemoryThreshold;
+    }
+
     @Override
     protected HttpServletRequest getRequest(final ServletRequest request) {
         //we need to use a MultiReadHttpServletRequest wrapper in order to be able to get the inputstream twice (in the filter and in the API servlet)
-        return new MultiReadHttpServletRequest((HttpServletRequest) request);
+        //the body is only kept if a dynamic check needs it
+        return new MultiReadHttpServletRequest((HttpServletRequest) request, bodyMemoryThreshold);
+    }
+
+    @Override
+    protected void releaseRequest(final HttpServletRequest request) {
+        if (request instanceof MultiReadHttpServletRequest) {
+            ((MultiReadHttpServletRequest) request).release();
+        }
     }
 
     @Override
     protected boolean checkValidCondition(final HttpServletRequest httpRequest, final HttpServletResponse httpResponse) throws ServletException {
         try {
-            if (httpRequest.getRequestURI().matches(PLATFORM_API_URI_REGEXP)) {
+            if (PLATFORM_API_URI_PATTERN.matcher(httpRequest.getRequestURI()).matches()) {
                 return platformAPIsCheck(httpRequest, httpResponse);
             } else {
                 return tenantAPIsCheck(httpRequest, httpResponse);
@@ -96,11 +155,16 @@ public class RestAPIAuthorizationFilter extends AbstractAuthorizationFilter {
         if (apiSession == null) {
             httpResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             return false;
-        } else if (!checkPermissions(httpRequest)) {
-            httpResponse.setStatus(HttpServletResponse.SC_FORBIDDEN);
-            return false;
-        } else {
+        }
+        try {
+            if (!checkPermissions(httpRequest)) {
+                httpResponse.setStatus(HttpServletResponse.SC_FORBIDDEN);
+                return false;
+            }
             return true;
+        } catch (final MalformedRequestBodyException e) {
+            httpResponse.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return false;
         }
     }
 
@@ -131,15 +195,83 @@ public class RestAPIAuthorizationFilter extends AbstractAuthorizationFilter {
         if (!apiAuthorizationsCheckEnabled || apiSession.isTechnicalUser()) {
             return true;
         }
+        if (HTTP_METHOD_PUT.equals(method) && resourceQualifiers == null) {
+            final API<? extends IItem> bulkUpdateAPI = getBulkUpdateAPI(apiName, resourceName);
+            if (bulkUpdateAPI != null) {
+                final String requestBody = getRequestBody(request);
+                if (isJsonArray(requestBody)) {
+                    return checkBulkUpdatePermissions(request, apiName, resourceName, bulkUpdateAPI, requestBody, userPermissions, apiSession);
+                }
+                return checkResourcePermissions(request, apiName, resourceName, null, requestBody, userPermissions, apiSession);
+            }
+        }
+        return checkResourcePermissions(request, apiName, resourceName, resourceQualifiers, null, userPermissions, apiSession);
+    }
+
+    /**
+     * A bulk update is authorized only if the update of the resource and the update of each of its items are.
+     */
+    private boolean checkBulkUpdatePermissions(final HttpServletRequest request, final String apiName, final String resourceName,
+            final API<? extends IItem> bulkUpdateAPI, final String requestBody, final Set<String> userPermissions, final APISession apiSession)
+            throws ServletException {
+        //the items are only parsed for users allowed to update the resource
+        if (!checkResourcePermissions(request, apiName, resourceName, null, requestBody, userPermissions, apiSession)) {
+            return false;
+        }
+        final List<? extends IItem> items;
+        try {
+            items = parseBulkUpdateItems(bulkUpdateAPI, requestBody);
+        } catch (final RuntimeException e) {
+            throw new MalformedRequestBodyException(e);
+        }
+        for (final IItem item : items) {
+            if (!checkResourcePermissions(request, apiName, resourceName, API.getIdOfItemToUpdate(item), item.toJson(), userPermissions, apiSession)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the API of the resource if it supports bulk updates, null otherwise
+     */
+    protected API<? extends IItem> getBulkUpdateAPI(final String apiName, final String resourceName) {
+        final API<? extends IItem> api;
+        try {
+            api = APIs.get(apiName, resourceName);
+        } catch (final APINotFoundException e) {
+            return null;
+        }
+        return api instanceof APIHasBulkUpdate<?> ? api : null;
+    }
+
+    protected List<? extends IItem> parseBulkUpdateItems(final API<? extends IItem> bulkUpdateAPI, final String requestBody) {
+        // item definitions need the translations to be loaded, as in APIServletCall
+        I18n.getInstance();
+        return JSonItemReader.parseItems(requestBody, bulkUpdateAPI.getItemDefinition(), false);
+    }
+
+    private boolean isJsonArray(final String requestBody) {
+        return requestBody.trim().startsWith("[");
+    }
+
+    /**
+     * @param requestBody
+     *        the body given to the dynamic checks, read from the request if null
+     */
+    private boolean checkResourcePermissions(final HttpServletRequest request, final String apiName, final String resourceName,
+            final APIID resourceQualifiers, final String requestBody, final Set<String> userPermissions, final APISession apiSession)
+            throws ServletException {
+        final String method = request.getMethod();
+        final Long tenantId = apiSession.getTenantId();
         final String resourceQualifiersAsString = resourceQualifiers != null ? resourceQualifiers.toString() : null;
 
         final DynamicPermissionsChecks dynamicPermissionsChecks = getDynamicPermissionsChecks(tenantId);
         final Set<String> resourceAuthorizations = getDeclaredPermissions(apiName, resourceName, method, resourceQualifiers, dynamicPermissionsChecks);
         if (!resourceAuthorizations.isEmpty()) {
             //if there is a dynamic rule, use it to check the permissions
-            final String requestBody = getRequestBody(request);
             final APICallContext apiCallContext = new APICallContext(method, apiName, resourceName, resourceQualifiersAsString, request.getQueryString(),
-                    requestBody);
+                    requestBody != null ? requestBody : getRequestBody(request));
             return dynamicCheck(apiCallContext, userPermissions, resourceAuthorizations, apiSession);
         } else {
             //if there is no dynamic rule, use the static permissions
@@ -168,6 +300,9 @@ public class RestAPIAuthorizationFilter extends AbstractAuthorizationFilter {
 
     protected String getRequestBody(final HttpServletRequest request) throws ServletException {
         try {
+            if (request instanceof MultiReadHttpServletRequest) {
+                ((MultiReadHttpServletRequest) request).bufferBody();
+            }
             final ServletInputStream inputStream = request.getInputStream();
             return IOUtils.toString(inputStream, request.getCharacterEncoding());
         } catch (final IOException e) {
@@ -256,8 +391,7 @@ public class RestAPIAuthorizationFilter extends AbstractAuthorizationFilter {
     protected boolean checkResourceAuthorizationsSyntax(final Set<String> resourceAuthorizations) {
         boolean valid = true;
         for (final String resourceAuthorization : resourceAuthorizations) {
-            if (!resourceAuthorization.matches("(" + PermissionsBuilder.USER_TYPE_AUTHORIZATION_PREFIX + "|"
-                    + PermissionsBuilder.PROFILE_TYPE_AUTHORIZATION_PREFIX + "|" + SCRIPT_TYPE_AUTHORIZATION_PREFIX + ")\\|.+")) {
+            if (!RESOURCE_AUTHORIZATION_PATTERN.matcher(resourceAuthorization).matches()) {
                 if (LOGGER.isLoggable(Level.WARNING)) {
                     LOGGER.log(Level.WARNING, "Error while getting dynamic authoriations. Unknown syntax: " + resourceAuthorization
                             + " defined in dynamic-permissions-checks.properties");
@@ -308,4 +442,16 @@ public class RestAPIAuthorizationFilter extends AbstractAuthorizationFilter {
     private boolean shouldReload(final APISession apiSession) {
         return reload == null ? PropertiesFactory.getSecurityProperties(apiSession.getTenantId()).isAPIAuthorizationsCheckInDebugMode() : reload;
     }
+
+    /**
+     * Thrown when the body of a request cannot be parsed to check its permissions
+     */
+    static class MalformedRequestBodyException extends ServletException {
+
+        private static final long serialVersionUID = 4185312766208411862L;
+
+        MalformedRequestBodyException(final Throwable cause) {
+            super("Malformed request body", cause);
+        }
+    }
 }
@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -78,6 +79,16 @@ public class CustomPageService {
 
     private static final Map<String, GroovyClassLoader> PAGES_CLASSLOADERS = new HashMap<>();
 
+    /**
+     * Groovy classes already compiled by the pages classloaders, by controller file path
+     */
+    private static final Map<String, CompiledClass> PAGES_CLASSES = new ConcurrentHashMap<>();
+
+    /**
+     * Time of the last check of the pages folders against the engine, by page folder path
+     */
+    private static final Map<String, Long> PAGES_CHECK_TIMES = new ConcurrentHashMap<>();
+
     public static final String RESOURCES_PROPERTY = "resources";
     public static final String PROPERTY_CONTENT_TYPE = "contentType";
     public static final String PROPERTY_API_EXTENSIONS = "apiExtensions";
@@ -101,7 +112,24 @@ public class CustomPageService {
         }
     }
 
+    /**
+     * Make sure the page folder matches the last version of the page in the engine.<br>
+     * Once checked, a page folder is considered up to date during the delay configured in the console properties. Pages updated or deleted
+     * from this node are invalidated right away through {@link #removePage(APISession, String)}.
+     */
     public void ensurePageFolderIsUpToDate(final APISession apiSession, final PageResourceProvider pageResourceProvider) throws BonitaException, IOException {
+        final File pageFolder = pageResourceProvider.getPageDirectory();
+        final String pageFolderPath = pageFolder.getPath();
+        final long now = System.currentTimeMillis();
+        final Long lastCheckTime = PAGES_CHECK_TIMES.get(pageFolderPath);
+        if (lastCheckTime != null && now - lastCheckTime < getConsoleProperties(apiSession).getPageFreshnessCheckDelay() && pageFolder.exists()) {
+            return;
+        }
+        checkPageFolderIsUpToDate(apiSession, pageResourceProvider);
+        PAGES_CHECK_TIMES.put(pageFolderPath, now);
+    }
+
+    private void checkPageFolderIsUpToDate(final APISession apiSession, final PageResourceProvider pageResourceProvider) throws BonitaException, IOException {
         final File pageFolder = pageResourceProvider.getPageDirectory();
         if (!pageResourceProvider.getPageDirectory().exists()) {
             retrievePageZipContent(apiSession, pageResourceProvider);
@@ -125,12 +153,33 @@ public class CustomPageService {
     public Class<?> registerPage(final GroovyClassLoader pageClassLoader, final PageResourceProvider pageResourceProvider)
             throws CompilationFailedException, IOException {
         final File pageControllerFile = getGroovyPageFile(pageResourceProvider.getPageDirectory());
-        return pageClassLoader.parseClass(pageControllerFile);
+        return parseClass(pageClassLoader, pageControllerFile);
     }
 
     public Class<?> registerRestApiPage(final GroovyClassLoader pageClassLoader, final File restApiControllerFile)
             throws CompilationFailedException, IOException {
-        return pageClassLoader.parseClass(restApiControllerFile);
+        return parseClass(pageClassLoader, restApiControllerFile);
+    }
+
+    /**
+     * Compile a page controller, or return the class already compiled by the same classloader if the file has not been modified since.<br>
+     * Classloaders are replaced when the page is updated or removed (see {@link #ensurePageFolderIsUpToDate(APISession, PageResourceProvider)}),
+     * so a page is only compiled once per version.
+     */
+    protected Class<?> parseClass(final GroovyClassLoader pageClassLoader, final File controllerFile) throws CompilationFailedException, IOException {
+        final String key = controllerFile.getAbsolutePath();
+        CompiledClass compiledClass = PAGES_CLASSES.get(key);
+        if (compiledClass == null || !compiledClass.isUpToDate(pageClassLoader, controllerFile)) {
+            synchronized (pageClassLoader) {
+                compiledClass = PAGES_CLASSES.get(key);
+                if (compiledClass == null || !compiledClass.isUpToDate(pageClassLoader, controllerFile)) {
+                    final long lastModified = controllerFile.lastModified();
+                    compiledClass = new CompiledClass(pageClassLoader, lastModified, pageClassLoader.parseClass(controllerFile));
+                    PAGES_CLASSES.put(key, compiledClass);
+                }
+            }
+        }
+        return compiledClass.clazz;
     }
 
     public void verifyPageClass(final File tempPageDirectory, APISession session) throws IOException {
@@ -162,6 +211,7 @@ public class CustomPageService {
     public void removePage(final APISession apiSession, final String pageName) throws IOException {
         closeClassloader(pageName);
         final PageResourceProvider pageResourceProvider = new PageResourceProviderImpl(pageName, apiSession.getTenantId());
+        PAGES_CHECK_TIMES.remove(pageResourceProvider.getPageDirectory().getPath());
         removePageZipContent(apiSession, pageResourceProvider);
         CustomPageDependenciesResolver.removePageLibTempFolder(pageName);
     }
@@ -170,6 +220,7 @@ public class CustomPageService {
         final PageResourceProvider pageResourceProvider = new PageResourceProviderImpl(page, apiSession.getTenantId());
         final String pageName = pageResourceProvider.getFullPageName();
         closeClassloader(pageName);
+        PAGES_CHECK_TIMES.remove(pageResourceProvider.getPageDirectory().getPath());
         removePageZipContent(apiSession, pageResourceProvider);
         CustomPageDependenciesResolver.removePageLibTempFolder(pageName);
     }
@@ -177,11 +228,20 @@ public class CustomPageService {
     private static void closeClassloader(final String pageName) throws IOException {
         final GroovyClassLoader classloader = PAGES_CLASSLOADERS.remove(pageName);
         if (classloader != null) {
+            removeCompiledClasses(classloader);
             classloader.clearCache();
             classloader.close();
         }
     }
 
+    private static void removeCompiledClasses(final GroovyClassLoader classloader) {
+        for (final Map.Entry<String, CompiledClass> entry : PAGES_CLASSES.entrySet()) {
+            if (entry.getValue().classLoader == classloader) {
+                PAGES_CLASSES.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
     protected void retrievePageZipContent(final APISession apiSession, final String pageName) throws BonitaException, IOException {
         final PageResourceProviderImpl pageResourceProvider = new PageResourceProviderImpl(pageName, apiSession.getTenantId());
         retrievePageZipContent(apiSession, pageResourceProvider);
@@ -198,7 +258,11 @@ public class CustomPageService {
                     new CustomPageDependenciesResolver(pageName, pageDirectory, getWebBonitaConstantsUtils(apiSession)),
                     bdmDependenciesResolver));
             pageClassLoader.addClasspath(pageDirectory.getPath());
-            PAGES_CLASSLOADERS.put(pageName, pageClassLoader);
+            final GroovyClassLoader previousClassLoader = PAGES_CLASSLOADERS.put(pageName, pageClassLoader);
+            if (previousClassLoader != null) {
+                // do not keep the classes of the outdated classloader alive
+                removeCompiledClasses(previousClassLoader);
+            }
         }
         return pageClassLoader;
     }
@@ -417,6 +481,27 @@ public class CustomPageService {
         for (final String page : PAGES_CLASSLOADERS.keySet()) {
             closeClassloader(page);
         }
+        PAGES_CLASSES.clear();
+        PAGES_CHECK_TIMES.clear();
+
+    }
+
+    private static class CompiledClass {
+
+        private final GroovyClassLoader classLoader;
+
+        private final long lastModified;
+
+        private final Class<?> clazz;
+
+        CompiledClass(final GroovyClassLoader classLoader, final long lastModified, final Class<?> clazz) {
+            this.classLoader = classLoader;
+            this.lastModified = lastModified;
+            this.clazz = clazz;
+        }
 
+        boolean isUpToDate(final GroovyClassLoader pageClassLoader, final File controllerFile) {
+            return classLoader == pageClassLoader && lastModified == controllerFile.lastModified();
+        }
     }
 }
@@ -16,10 +16,8 @@ package org.bonitasoft.console.common.server.page;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -28,6 +26,8 @@ import java.util.logging.Logger;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.bonitasoft.console.common.server.preferences.properties.PropertiesFactory;
+import org.bonitasoft.console.common.server.servlet.FileResponseWriter;
 import org.bonitasoft.engine.exception.BonitaException;
 import org.bonitasoft.engine.session.APISession;
 import org.codehaus.groovy.control.CompilationFailedException;
@@ -45,25 +45,21 @@ public class ResourceRenderer {
      */
     private final static Logger LOGGER = Logger.getLogger(ResourceRenderer.class.getName());
 
+    /**
+     * Writer shared by all the renderers, it is stateless
+     */
+    private final static FileResponseWriter FILE_RESPONSE_WRITER = new FileResponseWriter();
+
     public void renderFile(final HttpServletRequest request, final HttpServletResponse response, final File resourceFile, final APISession apiSession)
             throws CompilationFailedException, InstantiationException, IllegalAccessException, IOException, BonitaException {
 
-        byte[] content;
         response.setCharacterEncoding("UTF-8");
 
         try {
-            content = getFileContent(resourceFile, response);
-
-            response.setContentType(request.getSession().getServletContext()
-                    .getMimeType(resourceFile.getName()));
-            response.setContentLength(content.length);
-            response.setBufferSize(content.length);
-            response.setHeader("Cache-Control", "no-cache");
+            checkFile(resourceFile);
 
-            try (OutputStream out = response.getOutputStream()) {
-                out.write(content, 0, content.length);
-            }
-            response.flushBuffer();
+            final String contentType = request.getSession().getServletContext().getMimeType(resourceFile.getName());
+            FILE_RESPONSE_WRITER.write(request, response, resourceFile, contentType, getCacheControl(apiSession, contentType));
         }catch (final FileNotFoundException e) {
             response.sendError(HttpServletResponse.SC_NOT_FOUND, e.getMessage());
         }catch (final IOException e) {
@@ -74,7 +70,14 @@ public class ResourceRenderer {
         }
     }
 
-    private byte[] getFileContent(final File resourceFile, final HttpServletResponse response) throws IOException, BonitaException {
+    protected String getCacheControl(final APISession apiSession, final String contentType) {
+        if (apiSession == null) {
+            return FileResponseWriter.DEFAULT_CACHE_CONTROL;
+        }
+        return PropertiesFactory.getConsoleProperties(apiSession.getTenantId()).getResourceCacheControl(contentType);
+    }
+
+    private void checkFile(final File resourceFile) throws IOException, BonitaException {
         if (resourceFile == null) {
             final String errorMessage = "Resource file must not be null.";
             if (LOGGER.isLoggable(Level.WARNING)) {
@@ -82,9 +85,7 @@ public class ResourceRenderer {
             }
             throw new BonitaException(errorMessage);
         }
-        if (resourceFile.exists()) {
-            return Files.readAllBytes(resourceFile.toPath());
-        } else {
+        if (!resourceFile.exists()) {
             final String fileNotFoundMessage = "Cannot find the resource file ";
             if (LOGGER.isLoggable(Level.WARNING)) {
                 LOGGER.log(Level.WARNING, fileNotFoundMessage + resourceFile.getCanonicalPath());
@@ -0,0 +1,108 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.servlet;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.bonitasoft.console.common.server.utils.TenantRegistry;
+import org.bonitasoft.engine.identity.Icon;
+
+/**
+ * Per tenant cache of the icons served by the {@link IconServlet}.<br>
+ * An icon id always designates the same content, so entries never need to be refreshed. The least recently used icons are evicted once the
+ * total size of the cached contents exceeds the maximum size.
+ */
+public class IconCache {
+
+    static final long DEFAULT_MAX_SIZE = 8 * 1024 * 1024;
+
+    private static final TenantRegistry<IconCache> INSTANCES = new TenantRegistry<IconCache>() {
+
+        @Override
+        protected IconCache create(final long tenantId) {
+            return new IconCache();
+        }
+    };
+
+    private final LinkedHashMap<Long, CachedIcon> icons = new LinkedHashMap<Long, CachedIcon>(16, 0.75f, true);
+
+    private final long maxSize;
+
+    private long size = 0;
+
+    public IconCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    IconCache(final long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public static IconCache getInstance(final long tenantId) {
+        return INSTANCES.get(tenantId);
+    }
+
+    public synchronized CachedIcon get(final long iconId) {
+        return icons.get(iconId);
+    }
+
+    public synchronized CachedIcon put(final Icon icon) {
+        final CachedIcon cachedIcon = new CachedIcon(icon.getMimeType(), icon.getContent());
+        if (cachedIcon.getContent().length > maxSize) {
+            return cachedIcon;
+        }
+        final CachedIcon previousIcon = icons.put(icon.getId(), cachedIcon);
+        if (previousIcon != null) {
+            size -= previousIcon.getContent().length;
+        }
+        size += cachedIcon.getContent().length;
+        evictLeastRecentlyUsedIcons();
+        return cachedIcon;
+    }
+
+    private void evictLeastRecentlyUsedIcons() {
+        final Iterator<Map.Entry<Long, CachedIcon>> iterator = icons.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            size -= iterator.next().getValue().getContent().length;
+            iterator.remove();
+        }
+    }
+
+    synchronized long getSize() {
+        return size;
+    }
+
+    public static class CachedIcon {
+
+        private final String mimeType;
+
+        private final byte[] content;
+
+        CachedIcon(final String mimeType, final byte[] content) {
+            this.mimeType = mimeType;
+            this.content = content;
+        }
+
+        public String getMimeType() {
+            return mimeType;
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+    }
+}
@@ -29,7 +29,6 @@ import javax.servlet.http.HttpServletResponse;
 import org.bonitasoft.engine.api.APIClient;
 import org.bonitasoft.engine.api.IdentityAPI;
 import org.bonitasoft.engine.exception.NotFoundException;
-import org.bonitasoft.engine.identity.Icon;
 import org.bonitasoft.engine.session.APISession;
 
 /**
@@ -40,6 +39,10 @@ public class IconServlet extends HttpServlet {
 
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = Logger.getLogger(IconServlet.class.getName());
+    /**
+     * the content of an icon never changes, a new icon id is created when a user changes its icon
+     */
+    static final String CACHE_CONTROL = "private, max-age=31536000, immutable";
 
     /**
      * {@inheritDoc}
@@ -56,14 +59,24 @@ public class IconServlet extends HttpServlet {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
-        IdentityAPI identityAPI = getIdentityApi(request);
-        Icon icon;
-        try {
-            icon = identityAPI.getIcon(iconId);
-        } catch (NotFoundException e) {
-            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+        final String eTag = "\"" + iconId + "\"";
+        response.setHeader("ETag", eTag);
+        response.setHeader("Cache-Control", CACHE_CONTROL);
+        if (matches(request.getHeader("If-None-Match"), eTag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
             return;
         }
+        final IconCache iconCache = getIconCache(request);
+        IconCache.CachedIcon icon = iconCache.get(iconId);
+        if (icon == null) {
+            try {
+                icon = iconCache.put(getIdentityApi(request).getIcon(iconId));
+            } catch (NotFoundException e) {
+                response.setHeader("Cache-Control", "no-cache");
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+        }
         response.setContentType(icon.getMimeType());
         response.setCharacterEncoding("UTF-8");
         try {
@@ -80,6 +93,22 @@ public class IconServlet extends HttpServlet {
 
     }
 
+    private boolean matches(final String ifNoneMatch, final String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if ("*".equals(candidate) || eTag.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Long parseLong(String iconIdPath) {
         try {
             return Long.valueOf(iconIdPath.substring(1));
@@ -111,4 +140,9 @@ public class IconServlet extends HttpServlet {
         return new APIClient(session).getIdentityAPI();
     }
 
+    IconCache getIconCache(HttpServletRequest request) {
+        APISession session = (APISession) request.getSession().getAttribute("apiSession");
+        return IconCache.getInstance(session.getTenantId());
+    }
+
 }
@@ -73,6 +73,7 @@ public class PlatformTenantListener implements ServletContextListener {
         try {
             final APISession session = login();
             final long tenantId = session.getTenantId();
+            TenantsManagementUtils.setDefaultTenantId(tenantId);
 
             // retrieve active theme for default tenant:
             themeExtractor.retrieveAndExtractCurrentTheme(WebBonitaConstantsUtils.getInstance(tenantId).getPortalThemeFolder(), session, ThemeType.PORTAL);
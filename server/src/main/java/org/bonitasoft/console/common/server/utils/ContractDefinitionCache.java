@@ -0,0 +1,167 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.utils;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bonitasoft.engine.api.ProcessAPI;
+import org.bonitasoft.engine.bpm.contract.ContractDefinition;
+import org.bonitasoft.engine.bpm.flownode.ActivityInstance;
+import org.bonitasoft.engine.bpm.flownode.ActivityInstanceNotFoundException;
+import org.bonitasoft.engine.bpm.flownode.UserTaskNotFoundException;
+import org.bonitasoft.engine.bpm.process.ProcessDefinitionNotFoundException;
+
+/**
+ * Cache of the contracts of the processes and user tasks of a tenant.<br>
+ * A contract never changes once the process is deployed, so it is retrieved from the engine once by process definition (for instantiation) and
+ * once by user task of a process definition (for execution), whatever the instance of the task. The process definition and name of the recently
+ * used task instances are kept too, so that a known task instance needs no engine call at all.
+ */
+public class ContractDefinitionCache {
+
+    /**
+     * Maximum number of process contracts, of user task contracts and of user task instances kept by tenant
+     */
+    static final int MAX_ENTRIES = 1000;
+
+    private static final TenantRegistry<ContractDefinitionCache> INSTANCES = new TenantRegistry<ContractDefinitionCache>() {
+
+        @Override
+        protected ContractDefinitionCache create(final long tenantId) {
+            return new ContractDefinitionCache();
+        }
+    };
+
+    private final Map<Long, ContractDefinition> processContracts = Collections.synchronizedMap(new BoundedMap<Long, ContractDefinition>());
+
+    private final Map<UserTaskKey, ContractDefinition> userTaskContracts = Collections.synchronizedMap(new BoundedMap<UserTaskKey, ContractDefinition>());
+
+    private final Map<Long, UserTaskKey> userTaskInstances = Collections.synchronizedMap(new BoundedMap<Long, UserTaskKey>());
+
+    public static ContractDefinitionCache getInstance(final long tenantId) {
+        return INSTANCES.get(tenantId);
+    }
+
+    public ContractDefinition getProcessContract(final ProcessAPI processAPI, final long processDefinitionId) throws ProcessDefinitionNotFoundException {
+        ContractDefinition contract = processContracts.get(processDefinitionId);
+        if (contract == null) {
+            contract = processAPI.getProcessContract(processDefinitionId);
+            if (contract != null) {
+                processContracts.put(processDefinitionId, contract);
+            }
+        }
+        return contract;
+    }
+
+    /**
+     * The task instance is retrieved from the engine only the first time its contract is asked for. The contract of a task instance which is not
+     * pending anymore can therefore still be returned, its execution is rejected by the engine anyway.
+     */
+    public ContractDefinition getUserTaskContract(final ProcessAPI processAPI, final long userTaskInstanceId) throws UserTaskNotFoundException {
+        final UserTaskKey key = getUserTaskKey(processAPI, userTaskInstanceId);
+        ContractDefinition contract = userTaskContracts.get(key);
+        if (contract == null) {
+            contract = processAPI.getUserTaskContract(userTaskInstanceId);
+            if (contract != null) {
+                userTaskContracts.put(key, contract);
+            }
+        }
+        return contract;
+    }
+
+    private UserTaskKey getUserTaskKey(final ProcessAPI processAPI, final long userTaskInstanceId) throws UserTaskNotFoundException {
+        UserTaskKey key = userTaskInstances.get(userTaskInstanceId);
+        if (key == null) {
+            final ActivityInstance userTaskInstance;
+            try {
+                userTaskInstance = processAPI.getActivityInstance(userTaskInstanceId);
+            } catch (final ActivityInstanceNotFoundException e) {
+                throw new UserTaskNotFoundException("The user task instance " + userTaskInstanceId + " was not found.");
+            }
+            key = new UserTaskKey(userTaskInstance.getProcessDefinitionId(), userTaskInstance.getName());
+            userTaskInstances.put(userTaskInstanceId, key);
+        }
+        return key;
+    }
+
+    /**
+     * Forget the contracts of deleted processes and of their user tasks
+     */
+    public void removeProcessContracts(final List<Long> processDefinitionIds) {
+        for (final Long processDefinitionId : processDefinitionIds) {
+            processContracts.remove(processDefinitionId);
+        }
+        synchronized (userTaskContracts) {
+            final Iterator<UserTaskKey> keys = userTaskContracts.keySet().iterator();
+            while (keys.hasNext()) {
+                if (processDefinitionIds.contains(keys.next().processDefinitionId)) {
+                    keys.remove();
+                }
+            }
+        }
+        synchronized (userTaskInstances) {
+            final Iterator<UserTaskKey> keys = userTaskInstances.values().iterator();
+            while (keys.hasNext()) {
+                if (processDefinitionIds.contains(keys.next().processDefinitionId)) {
+                    keys.remove();
+                }
+            }
+        }
+    }
+
+    private static class UserTaskKey {
+
+        private final long processDefinitionId;
+
+        private final String name;
+
+        UserTaskKey(final long processDefinitionId, final String name) {
+            this.processDefinitionId = processDefinitionId;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof UserTaskKey)) {
+                return false;
+            }
+            final UserTaskKey other = (UserTaskKey) obj;
+            return processDefinitionId == other.processDefinitionId && (name == null ? other.name == null : name.equals(other.name));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (int) (processDefinitionId ^ processDefinitionId >>> 32) + (name == null ? 0 : name.hashCode());
+        }
+    }
+
+    private static class BoundedMap<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = -3425187536316453627L;
+
+        BoundedMap() {
+            super(16, .75F, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -66,6 +67,11 @@ public class ContractTypeConverter {
 
     private long tenantId;
 
+    /**
+     * Temporary files read by the last conversion and not deleted yet, by temp path
+     */
+    private final Map<String, File> readTemporaryFiles = new LinkedHashMap<String, File>();
+
     public ContractTypeConverter(final String[] datePatterns) {
         convertUtilsBean = new ConvertUtilsBean();
         convertUtilsBean.register(true, false, 0);
@@ -83,6 +89,7 @@ public class ContractTypeConverter {
     public Map<String,Serializable> getProcessedInput(final ContractDefinition processContract, final Map<String, Serializable> inputs, final long maxSizeForTenant, final long tenantId, final boolean deleteFile) throws FileNotFoundException {
         this.maxSizeForTenant = maxSizeForTenant;
         this.tenantId = tenantId;
+        readTemporaryFiles.clear();
         final Map<String, Serializable> processedInputs = new HashMap<String, Serializable>();
         final Map<String, Serializable> contractDefinitionMap = processContract == null? Collections.<String, Serializable>emptyMap() : createContractInputMap(processContract.getInputs());
 
@@ -201,10 +208,23 @@ public class ContractTypeConverter {
         fileContent = DocumentUtil.getArrayByteFromFile(sourceFile);
         if (deleteFile) {
             deleteFile(sourceFile, fileTempPath);
+        } else {
+            readTemporaryFiles.put(fileTempPath, sourceFile);
         }
         return fileContent;
     }
 
+    /**
+     * Delete the temporary files read by the last call to
+     * {@link #getProcessedInput(ContractDefinition, Map, long, long, boolean)} without deleting them, once the inputs have been used
+     */
+    public void deleteTemporaryFiles() {
+        for (final Entry<String, File> temporaryFile : readTemporaryFiles.entrySet()) {
+            deleteFile(temporaryFile.getValue(), temporaryFile.getKey());
+        }
+        readTemporaryFiles.clear();
+    }
+
     protected void deleteFile(final File sourceFile, final String fileTempPath) {
         if (!sourceFile.delete()){
             sourceFile.deleteOnExit();
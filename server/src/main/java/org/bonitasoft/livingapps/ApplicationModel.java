@@ -1,5 +1,6 @@
 package org.bonitasoft.livingapps;
 
+import java.io.File;
 import java.util.List;
 
 import org.bonitasoft.engine.api.ApplicationAPI;
@@ -16,6 +17,7 @@ import org.bonitasoft.engine.profile.ProfileCriterion;
 import org.bonitasoft.engine.search.Order;
 import org.bonitasoft.engine.search.SearchOptionsBuilder;
 import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.livingapps.ApplicationModelCache.CachedApplication;
 import org.bonitasoft.livingapps.menu.Menu;
 import org.bonitasoft.livingapps.menu.MenuFactory;
 
@@ -25,6 +27,7 @@ public class ApplicationModel {
     private final ApplicationAPI applicationApi;
     private final PageAPI pageApi;
     private final Application application;
+    private final CachedApplication cachedApplication;
     private final MenuFactory factory;
 
     public ApplicationModel(
@@ -33,10 +36,20 @@ public class ApplicationModel {
             final ProfileAPI profileApi,
             final Application application,
             final MenuFactory factory) {
+        this(applicationApi, pageApi, profileApi, new CachedApplication(application), factory);
+    }
+
+    public ApplicationModel(
+            final ApplicationAPI applicationApi,
+            final PageAPI pageApi,
+            final ProfileAPI profileApi,
+            final CachedApplication cachedApplication,
+            final MenuFactory factory) {
         this.applicationApi = applicationApi;
         this.pageApi = pageApi;
         this.profileApi = profileApi;
-        this.application = application;
+        this.application = cachedApplication.getApplication();
+        this.cachedApplication = cachedApplication;
         this.factory = factory;
     }
 
@@ -45,26 +58,64 @@ public class ApplicationModel {
     }
 
     public String getApplicationLayoutName() throws PageNotFoundException {
-        return pageApi.getPage(application.getLayoutId()).getName();
+        String layoutName = cachedApplication.getLayoutName();
+        if (layoutName == null) {
+            layoutName = pageApi.getPage(application.getLayoutId()).getName();
+            cachedApplication.setLayoutName(layoutName);
+        }
+        return layoutName;
     }
 
     public String getApplicationThemeName() throws PageNotFoundException {
-        return pageApi.getPage(application.getThemeId()).getName();
+        String themeName = cachedApplication.getThemeName();
+        if (themeName == null) {
+            themeName = pageApi.getPage(application.getThemeId()).getName();
+            cachedApplication.setThemeName(themeName);
+        }
+        return themeName;
     }
 
     public String getApplicationHomePage() throws ApplicationPageNotFoundException {
-        return applicationApi.getApplicationHomePage(application.getId()).getToken() + "/";
+        String homePageToken = cachedApplication.getHomePageToken();
+        if (homePageToken == null) {
+            homePageToken = applicationApi.getApplicationHomePage(application.getId()).getToken();
+            cachedApplication.setHomePageToken(homePageToken);
+        }
+        return homePageToken + "/";
     }
 
     public boolean hasPage(final String pageToken) {
         try {
-            applicationApi.getApplicationPage(application.getToken(), pageToken);
+            getPageId(pageToken);
             return true;
         } catch (final ApplicationPageNotFoundException e) {
             return false;
         }
     }
 
+    private long getPageId(final String pageToken) throws ApplicationPageNotFoundException {
+        Long pageId = cachedApplication.getPageId(pageToken);
+        if (pageId == null) {
+            pageId = applicationApi.getApplicationPage(application.getToken(), pageToken).getPageId();
+            cachedApplication.setPageId(pageToken, pageId);
+        }
+        return pageId;
+    }
+
+    /**
+     * @return the already resolved and validated file of a layout or theme resource, or null if it is not known yet
+     */
+    public File getCachedResourceFile(final String resourcePath) {
+        return cachedApplication.getResourceFile(resourcePath);
+    }
+
+    /**
+     * Remember the file of a layout or theme resource once it has been resolved and validated
+     */
+    public void cacheResourceFile(final String resourcePath, final File resourceFile) {
+        cachedApplication.setResourceFile(resourcePath, resourceFile);
+    }
+
     public boolean authorize(final APISession session) {
         for (final Profile userProfile : getUserProfiles(session)) {
             if (userProfile.getId() == application.getProfileId()) {
@@ -87,13 +138,19 @@ public class ApplicationModel {
     }
 
     public Page getCustomPage(final String pageToken) throws ApplicationPageNotFoundException, PageNotFoundException {
-        return pageApi.getPage(applicationApi.getApplicationPage(application.getToken(), pageToken).getPageId());
+        return pageApi.getPage(getPageId(pageToken));
     }
 
     public List<Menu> getMenuList() throws SearchException, ApplicationPageNotFoundException {
-        return factory.create(applicationApi.searchApplicationMenus(new SearchOptionsBuilder(0, Integer.MAX_VALUE)
-        .filter(ApplicationMenuSearchDescriptor.APPLICATION_ID, application.getId())
-        .sort(ApplicationMenuSearchDescriptor.INDEX, Order.ASC).done())
-        .getResult());
+        List<Menu> menus = cachedApplication.getMenus();
+        if (menus == null) {
+            menus = factory.create(applicationApi.searchApplicationMenus(new SearchOptionsBuilder(0, Integer.MAX_VALUE)
+                    .filter(ApplicationMenuSearchDescriptor.APPLICATION_ID, application.getId())
+                    .sort(ApplicationMenuSearchDescriptor.INDEX, Order.ASC).done())
+                    .getResult());
+            cachedApplication.setMenus(menus);
+            menus = cachedApplication.getMenus();
+        }
+        return menus;
     }
 }
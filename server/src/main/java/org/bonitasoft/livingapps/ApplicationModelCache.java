@@ -0,0 +1,194 @@
+package org.bonitasoft.livingapps;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bonitasoft.console.common.server.utils.TenantRegistry;
+import org.bonitasoft.engine.business.application.Application;
+import org.bonitasoft.livingapps.menu.Menu;
+
+/**
+ * Cache of the living applications of a tenant, keyed by application token.<br>
+ * Only the data shared by all the users is kept (application, layout, theme, home page, page ids, menus and the files of the layout and theme
+ * resources already served): profile checks are still done
+ * for each request. Entries expire after a time to live so that changes made on another node are eventually seen, and the whole cache is
+ * cleared when an application, an application page, an application menu or a page is modified through the REST API.
+ */
+public class ApplicationModelCache {
+
+    static final long DEFAULT_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * Maximum number of layout and theme resource files indexed by application
+     */
+    static final int MAX_RESOURCE_FILES = 1000;
+
+    private static final TenantRegistry<ApplicationModelCache> INSTANCES = new TenantRegistry<ApplicationModelCache>() {
+
+        @Override
+        protected ApplicationModelCache create(final long tenantId) {
+            return new ApplicationModelCache();
+        }
+    };
+
+    private final ConcurrentMap<String, CachedApplication> applications = new ConcurrentHashMap<String, CachedApplication>();
+
+    /**
+     * Incremented on each clear, so that an application searched before a clear is not cached
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final long timeToLive;
+
+    public ApplicationModelCache() {
+        this(DEFAULT_TIME_TO_LIVE);
+    }
+
+    ApplicationModelCache(final long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public static ApplicationModelCache getInstance(final long tenantId) {
+        return INSTANCES.get(tenantId);
+    }
+
+    /**
+     * Clear the living applications of a tenant once an application, an application page, an application menu or a page has been modified.<br>
+     * A page may be the layout or the theme of applications, whose resource files must then be resolved again.
+     */
+    public static void invalidate(final long tenantId) {
+        getInstance(tenantId).clear();
+    }
+
+    /**
+     * @return the cached application, or null if it is not cached or if it has expired
+     */
+    public CachedApplication get(final String applicationToken) {
+        final CachedApplication cachedApplication = applications.get(applicationToken);
+        if (cachedApplication != null && System.currentTimeMillis() - cachedApplication.creationTime > timeToLive) {
+            applications.remove(applicationToken, cachedApplication);
+            return null;
+        }
+        return cachedApplication;
+    }
+
+    /**
+     * To be read before retrieving an application from the engine, and given back to {@link #put(String, Application, long)}
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * @return the data of the application, which is only kept if the cache has not been cleared since the given generation was read
+     */
+    public CachedApplication put(final String applicationToken, final Application application, final long generation) {
+        final CachedApplication cachedApplication = new CachedApplication(application);
+        if (this.generation.get() == generation) {
+            applications.put(applicationToken, cachedApplication);
+            if (this.generation.get() != generation) {
+                applications.remove(applicationToken, cachedApplication);
+            }
+        }
+        return cachedApplication;
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        applications.clear();
+    }
+
+    /**
+     * Data of an application, filled lazily by {@link ApplicationModel} as it is retrieved from the engine.<br>
+     * Each value is only set once: a value computed concurrently by another request is kept, and the menus cannot be modified once cached.
+     */
+    public static class CachedApplication {
+
+        private final long creationTime = System.currentTimeMillis();
+
+        private final Application application;
+
+        private final ConcurrentMap<String, Long> pageIds = new ConcurrentHashMap<String, Long>();
+
+        private final ConcurrentMap<String, File> resourceFiles = new ConcurrentHashMap<String, File>();
+
+        private volatile String layoutName;
+
+        private volatile String themeName;
+
+        private volatile String homePageToken;
+
+        private volatile List<Menu> menus;
+
+        public CachedApplication(final Application application) {
+            this.application = application;
+        }
+
+        public Application getApplication() {
+            return application;
+        }
+
+        public Long getPageId(final String pageToken) {
+            return pageIds.get(pageToken);
+        }
+
+        void setPageId(final String pageToken, final long pageId) {
+            pageIds.putIfAbsent(pageToken, pageId);
+        }
+
+        public File getResourceFile(final String resourcePath) {
+            return resourceFiles.get(resourcePath);
+        }
+
+        void setResourceFile(final String resourcePath, final File resourceFile) {
+            if (resourceFiles.size() < MAX_RESOURCE_FILES) {
+                resourceFiles.putIfAbsent(resourcePath, resourceFile);
+            }
+        }
+
+        public String getLayoutName() {
+            return layoutName;
+        }
+
+        synchronized void setLayoutName(final String layoutName) {
+            if (this.layoutName == null) {
+                this.layoutName = layoutName;
+            }
+        }
+
+        public String getThemeName() {
+            return themeName;
+        }
+
+        synchronized void setThemeName(final String themeName) {
+            if (this.themeName == null) {
+                this.themeName = themeName;
+            }
+        }
+
+        public String getHomePageToken() {
+            return homePageToken;
+        }
+
+        synchronized void setHomePageToken(final String homePageToken) {
+            if (this.homePageToken == null) {
+                this.homePageToken = homePageToken;
+            }
+        }
+
+        public List<Menu> getMenus() {
+            return menus;
+        }
+
+        synchronized void setMenus(final List<Menu> menus) {
+            if (this.menus == null) {
+                this.menus = Collections.unmodifiableList(menus);
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.bonitasoft.engine.business.application.ApplicationSearchDescriptor;
 import org.bonitasoft.engine.exception.SearchException;
 import org.bonitasoft.engine.search.SearchOptionsBuilder;
 import org.bonitasoft.engine.search.SearchResult;
+import org.bonitasoft.livingapps.ApplicationModelCache.CachedApplication;
 import org.bonitasoft.livingapps.exception.CreationException;
 import org.bonitasoft.livingapps.menu.MenuFactory;
 
@@ -16,15 +17,35 @@ public class ApplicationModelFactory {
     private final ApplicationAPI applicationApi;
     private final PageAPI customPageApi;
     private final ProfileAPI profileApi;
+    private final ApplicationModelCache applicationModelCache;
 
     public ApplicationModelFactory(final ApplicationAPI applicationApi, final PageAPI customPageApi, final ProfileAPI profileApi) {
+        this(applicationApi, customPageApi, profileApi, new ApplicationModelCache());
+    }
+
+    public ApplicationModelFactory(final ApplicationAPI applicationApi, final PageAPI customPageApi, final ProfileAPI profileApi,
+            final ApplicationModelCache applicationModelCache) {
         this.applicationApi = applicationApi;
         this.customPageApi = customPageApi;
         this.profileApi = profileApi;
+        this.applicationModelCache = applicationModelCache;
     }
 
     public ApplicationModel createApplicationModel(final String name) throws CreationException {
+        CachedApplication cachedApplication = applicationModelCache.get(name);
+        if (cachedApplication == null) {
+            final long generation = applicationModelCache.getGeneration();
+            cachedApplication = applicationModelCache.put(name, searchApplication(name), generation);
+        }
+        return new ApplicationModel(
+                applicationApi,
+                customPageApi,
+                profileApi,
+                cachedApplication,
+                new MenuFactory(applicationApi));
+    }
 
+    private Application searchApplication(final String name) throws CreationException {
         try {
             final SearchResult<Application> result = applicationApi.searchApplications(
                     new SearchOptionsBuilder(0, 1)
@@ -34,13 +55,7 @@ public class ApplicationModelFactory {
             if (result.getCount() == 0) {
                 throw new CreationException("No application found with name " + name);
             }
-
-            return new ApplicationModel(
-                    applicationApi,
-                    customPageApi,
-                    profileApi,
-                    result.getResult().get(0),
-                    new MenuFactory(applicationApi));
+            return result.getResult().get(0);
         } catch (final SearchException e) {
             throw new CreationException("Error while searching for the application " + name, e);
         }
@@ -66,6 +66,14 @@ public class ApplicationRouter {
             hsResponse.sendError(HttpServletResponse.SC_NOT_FOUND, "No profile mapped to living application");
             return;
         }
+        if (parsedRequest.getPageToken() != null && !isApplicationPageRequest(pathSegments)) {
+            //Layout or theme resource file already served: no need to resolve the file again
+            final File cachedResourceFile = application.getCachedResourceFile(hsRequest.getPathInfo());
+            if (cachedResourceFile != null && cachedResourceFile.isFile()) {
+                resourceRenderer.renderFile(hsRequest, hsResponse, cachedResourceFile, session);
+                return;
+            }
+        }
 
         //If no page name, redirect to Home page
         if (parsedRequest.getPageToken() == null) {
@@ -85,6 +93,9 @@ public class ApplicationRouter {
             final File resourceFile = getResourceFile(pageRenderer, hsRequest.getPathInfo(), pathSegments, application, session, bonitaHomeFolderAccessor);
             pageRenderer
                     .ensurePageFolderIsPresent(session, pageRenderer.getPageResourceProvider(getPageName(pathSegments, application), session.getTenantId()));
+            if (resourceFile.isFile()) {
+                application.cacheResourceFile(hsRequest.getPathInfo(), resourceFile);
+            }
             resourceRenderer.renderFile(hsRequest, hsResponse, resourceFile, session);
         }
     }
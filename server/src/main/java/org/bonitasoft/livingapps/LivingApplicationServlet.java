@@ -64,7 +64,8 @@ public class LivingApplicationServlet extends HttpServlet {
         return new ApplicationRouter(new ApplicationModelFactory(
                 TenantAPIAccessor.getLivingApplicationAPI(session),
                 TenantAPIAccessor.getCustomPageAPI(session),
-                TenantAPIAccessor.getProfileAPI(session)));
+                TenantAPIAccessor.getProfileAPI(session),
+                ApplicationModelCache.getInstance(session.getTenantId())));
     }
 
     private boolean isPageUrlWithoutFinalSlash(final HttpServletRequest request) {
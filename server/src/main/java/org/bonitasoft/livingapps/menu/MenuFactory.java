@@ -1,12 +1,17 @@
 package org.bonitasoft.livingapps.menu;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.bonitasoft.engine.api.ApplicationAPI;
 import org.bonitasoft.engine.business.application.ApplicationMenu;
+import org.bonitasoft.engine.business.application.ApplicationPage;
 import org.bonitasoft.engine.business.application.ApplicationPageNotFoundException;
+import org.bonitasoft.engine.business.application.ApplicationPageSearchDescriptor;
 import org.bonitasoft.engine.exception.SearchException;
+import org.bonitasoft.engine.search.SearchOptionsBuilder;
 
 public class MenuFactory {
 
@@ -22,23 +27,45 @@ public class MenuFactory {
     }
 
     public List<Menu> create(final List<ApplicationMenu> menuList) throws ApplicationPageNotFoundException, SearchException {
-        return collect(menuList, new RootMenuCollector());
+        return collect(menuList, new RootMenuCollector(), getPageTokens(menuList));
     }
 
-    private Menu create(final ApplicationMenu menu, final List<ApplicationMenu> menuList) throws ApplicationPageNotFoundException, SearchException {
+    /**
+     * Retrieve the tokens of all the pages of the application at once instead of one page per menu link
+     */
+    private Map<Long, String> getPageTokens(final List<ApplicationMenu> menuList) throws SearchException {
+        final Map<Long, String> pageTokens = new HashMap<Long, String>();
+        if (menuList.isEmpty()) {
+            return pageTokens;
+        }
+        final List<ApplicationPage> pages = applicationApi.searchApplicationPages(new SearchOptionsBuilder(0, Integer.MAX_VALUE)
+                .filter(ApplicationPageSearchDescriptor.APPLICATION_ID, menuList.get(0).getApplicationId()).done())
+                .getResult();
+        for (final ApplicationPage page : pages) {
+            pageTokens.put(page.getId(), page.getToken());
+        }
+        return pageTokens;
+    }
+
+    private Menu create(final ApplicationMenu menu, final List<ApplicationMenu> menuList, final Map<Long, String> pageTokens)
+            throws ApplicationPageNotFoundException, SearchException {
         if(menu.getApplicationPageId() == null) {
             return new MenuContainer(menu,
-                    collect(menuList, new ChildrenMenuCollector(menu.getId())));
+                    collect(menuList, new ChildrenMenuCollector(menu.getId()), pageTokens));
+        }
+        String pageToken = pageTokens.get(menu.getApplicationPageId());
+        if (pageToken == null) {
+            pageToken = applicationApi.getApplicationPage(menu.getApplicationPageId()).getToken();
         }
-        return new MenuLink(menu, applicationApi.getApplicationPage(menu.getApplicationPageId()).getToken());
+        return new MenuLink(menu, pageToken);
     }
 
-    private List<Menu> collect(final List<ApplicationMenu> items, final Collector collector)
+    private List<Menu> collect(final List<ApplicationMenu> items, final Collector collector, final Map<Long, String> pageTokens)
             throws ApplicationPageNotFoundException, SearchException {
         final List<Menu> menuList = new ArrayList<Menu>();
         for (final ApplicationMenu item : items) {
             if(collector.isCollectible(item)) {
-                menuList.add(create(item, items));
+                menuList.add(create(item, items, pageTokens));
             }
         }
         return menuList;
@@ -16,6 +16,8 @@
  */
 package org.bonitasoft.web.rest.server;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import org.bonitasoft.web.rest.model.tenant.BusinessDataModelDefinition;
@@ -76,6 +78,7 @@ import org.bonitasoft.web.rest.server.datastore.application.ApplicationDataStore
 import org.bonitasoft.web.rest.server.datastore.applicationmenu.ApplicationMenuDataStoreCreator;
 import org.bonitasoft.web.rest.server.engineclient.CustomUserInfoEngineClientCreator;
 import org.bonitasoft.web.rest.server.framework.API;
+import org.bonitasoft.web.rest.server.framework.APICreator;
 import org.bonitasoft.web.rest.server.framework.RestAPIFactory;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APINotFoundException;
 import org.bonitasoft.web.toolkit.client.data.item.IItem;
@@ -84,162 +87,156 @@ import org.bonitasoft.web.toolkit.client.data.item.IItem;
  * @author Séverin Moussel
  */
 public class BonitaRestAPIFactory extends RestAPIFactory {
-	
+
     private static Logger LOGGER = Logger.getLogger(BonitaRestAPIFactory.class.getName());
-	
-    @Override
-    public API<? extends IItem> defineApis(final String apiToken, final String resourceToken) {
-    	
-        if ("identity".equals(apiToken)) {
-            if ("user".equals(resourceToken)) {
-                return new APIUser();
-            } else if ("role".equals(resourceToken)) {
-                return new APIRole();
-            } else if ("group".equals(resourceToken)) {
-                return new APIGroup();
-            } else if ("membership".equals(resourceToken)) {
-                return new APIMembership();
-            } else if ("professionalcontactdata".equals(resourceToken)) {
-                return new APIProfessionalContactData();
-            } else if ("personalcontactdata".equals(resourceToken)) {
-                return new APIPersonalContactData();
-            }
-        } else if("customuserinfo".equals(apiToken)) {
-            if("definition".equals(resourceToken)) {
+
+    /**
+     * Routing table of the APIs by API token then resource token. It is built once and only read afterwards.
+     */
+    private static final Map<String, Map<String, APICreator>> APIS = new HashMap<String, Map<String, APICreator>>();
+
+    static {
+        register("identity", "user", APIUser.class);
+        register("identity", "role", APIRole.class);
+        register("identity", "group", APIGroup.class);
+        register("identity", "membership", APIMembership.class);
+        register("identity", "professionalcontactdata", APIProfessionalContactData.class);
+        register("identity", "personalcontactdata", APIPersonalContactData.class);
+
+        register("customuserinfo", "definition", new APICreator() {
+
+            @Override
+            public API<? extends IItem> create() {
                 return new APICustomUserInfoDefinition(new CustomUserInfoEngineClientCreator());
-            } else if("user".equals(resourceToken)) {
-                return new APICustomUserInfoUser(new CustomUserInfoEngineClientCreator());
-            } else if("value".equals(resourceToken)) {
-                return new APICustomUserInfoValue(new CustomUserInfoEngineClientCreator());
             }
-        } else if ("system".equals(apiToken)) {
-            if ("i18nlocale".equals(resourceToken)) {
-                return new APII18nLocale();
-            } else if ("session".equals(resourceToken)) {
-                return new APISession();
-            } else if ("tenant".equals(resourceToken)) {
-                return new APITenantAdmin();
-            }
-            
-            // FIXME : userXP deprecated    (BS-500)
-            //    - replaced by 'portal'
-            //    - Do not add any API here
-            //    - userXP section must be deleted in 6.4.0 version
-            //    - duplication not removed because userXp must stay like this
-        } else if ("userXP".equals(apiToken)) {
-            if ("profile".equals(resourceToken)) {
-                LOGGER.warning("Deprecated API path, please use /API/portal/profile instead");
-                return new APIProfile();
-            } else if ("profileEntry".equals(resourceToken)) {
-                LOGGER.warning("Deprecated API path, please use /API/portal/profileEntry instead");
-                return new APIProfileEntry();
-            } else if ("profileMember".equals(resourceToken)) {
-                LOGGER.warning("Deprecated API path, please use /API/portal/profileMember instead");
-                return new APIProfileMember();
-            } else if ("bonitaPage".equals(resourceToken)) {
-                return new APIBonitaPage();
+        });
+        register("customuserinfo", "user", new APICreator() {
+
+            @Override
+            public API<? extends IItem> create() {
+                return new APICustomUserInfoUser(new CustomUserInfoEngineClientCreator());
             }
-            // --------------------------------------------------------
-            
-        } else if ("portal".equals(apiToken)) {
-            if ("profile".equals(resourceToken)) {
-                return new APIProfile();
-            } else if ("profileEntry".equals(resourceToken)) {
-                return new APIProfileEntry();
-            } else if ("profileMember".equals(resourceToken)) {
-                return new APIProfileMember();
-            } else if ("bonitaPage".equals(resourceToken)) {
-                return new APIBonitaPage();
-            } else if ("page".equals(resourceToken)) {
-                return new APIPage();
+        });
+        register("customuserinfo", "value", new APICreator() {
+
+            @Override
+            public API<? extends IItem> create() {
+                return new APICustomUserInfoValue(new CustomUserInfoEngineClientCreator());
             }
-        	
-        } else if ("bpm".equals(apiToken)) {
-            if ("humanTask".equals(resourceToken)) {
-                return new APIHumanTask();
-            } else if ("userTask".equals(resourceToken)) {
-                return new APIUserTask();
-            } else if ("archivedHumanTask".equals(resourceToken)) {
-                return new APIArchivedHumanTask();
-            } else if ("archivedUserTask".equals(resourceToken)) {
-                return new APIArchivedUserTask();
-            } else if ("process".equals(resourceToken)) {
-                return new APIProcess();
-            } else if ("category".equals(resourceToken)) {
-                return new APICategory();
-            } else if ("processCategory".equals(resourceToken)) {
-                return new APIProcessCategory();
-            } else if ("processConnector".equals(resourceToken)) {
-                return new APIProcessConnector();
-            } else if ("case".equals(resourceToken)) {
-                return new APICase();
-            } else if ("archivedCase".equals(resourceToken)) {
-                return new APIArchivedCase();
-            } else if ("comment".equals(resourceToken)) {
-                return new APIComment();
-            } else if ("archivedComment".equals(resourceToken)) {
-                return new APIArchivedComment();
-            } else if ("document".equals(resourceToken)) {
-                return new APIDocument();
-            } else if ("archiveddocument".equals(resourceToken)) {
-                return new APIArchivedDocument();
-            } else if ("actor".equals(resourceToken)) {
-                return new APIActor();
-            } else if ("actorMember".equals(resourceToken)) {
-                return new APIActorMember();
-            } else if ("delegation".equals(resourceToken)) {
-                return new APIActorMember();
-            } else if ("activity".equals(resourceToken)) {
-                return new APIActivity();
-            } else if ("archivedActivity".equals(resourceToken)) {
-                return new APIArchivedActivity();
-            } else if ("task".equals(resourceToken)) {
-                return new APITask();
-            } else if ("archivedTask".equals(resourceToken)) {
-                return new APIArchivedTask();
-            } else if ("flowNode".equals(resourceToken)) {
-                return new APIFlowNode();
-            } else if ("archivedFlowNode".equals(resourceToken)) {
-                return new APIArchivedFlowNode();
-            } else if ("processResolutionProblem".equals(resourceToken)) {
-                return new APIProcessResolutionProblem();
-            } else if ("caseDocument".equals(resourceToken)) {
-                return new APICaseDocument();
-            } else if ("archivedCaseDocument".equals(resourceToken)) {
-                return new APIArchivedCaseDocument();
-            } else if ("connectorInstance".equals(resourceToken)) {
-                return new APIConnectorInstance();
-            } else if ("archivedConnectorInstance".equals(resourceToken)) {
-                return new APIArchivedConnectorInstance();
-            } else if ("processConnectorDependency".equals(resourceToken)) {
-                return new APIProcessConnectorDependency();
-            } else if ("caseVariable".equals(resourceToken)) {
-                return new APICaseVariable();
-            } else if ("document".equals(resourceToken)) {
-                return new APIDocument();
-            } else if ("archiveddocument".equals(resourceToken)) {
-                return new APIArchivedDocument();
-            } else if ("processParameter".equals(resourceToken)) {
-                return new APIProcessParameter();
-           }
-        } else if ("living".equals(apiToken)) {
-            if ("application".equals(resourceToken)) {
+        });
+
+        register("system", "i18nlocale", APII18nLocale.class);
+        register("system", "session", APISession.class);
+        register("system", "tenant", APITenantAdmin.class);
+
+        // FIXME : userXP deprecated (BS-500)
+        // - replaced by 'portal'
+        // - Do not add any API here
+        // - userXP section must be deleted in 6.4.0 version
+        // - duplication not removed because userXp must stay like this
+        register("userXP", "profile", deprecated("/API/portal/profile", APIProfile.class));
+        register("userXP", "profileEntry", deprecated("/API/portal/profileEntry", APIProfileEntry.class));
+        register("userXP", "profileMember", deprecated("/API/portal/profileMember", APIProfileMember.class));
+        register("userXP", "bonitaPage", APIBonitaPage.class);
+        // --------------------------------------------------------
+
+        register("portal", "profile", APIProfile.class);
+        register("portal", "profileEntry", APIProfileEntry.class);
+        register("portal", "profileMember", APIProfileMember.class);
+        register("portal", "bonitaPage", APIBonitaPage.class);
+        register("portal", "page", APIPage.class);
+
+        register("bpm", "humanTask", APIHumanTask.class);
+        register("bpm", "userTask", APIUserTask.class);
+        register("bpm", "archivedHumanTask", APIArchivedHumanTask.class);
+        register("bpm", "archivedUserTask", APIArchivedUserTask.class);
+        register("bpm", "process", APIProcess.class);
+        register("bpm", "category", APICategory.class);
+        register("bpm", "processCategory", APIProcessCategory.class);
+        register("bpm", "processConnector", APIProcessConnector.class);
+        register("bpm", "case", APICase.class);
+        register("bpm", "archivedCase", APIArchivedCase.class);
+        register("bpm", "comment", APIComment.class);
+        register("bpm", "archivedComment", APIArchivedComment.class);
+        register("bpm", "document", APIDocument.class);
+        register("bpm", "archiveddocument", APIArchivedDocument.class);
+        register("bpm", "actor", APIActor.class);
+        register("bpm", "actorMember", APIActorMember.class);
+        register("bpm", "delegation", APIActorMember.class);
+        register("bpm", "activity", APIActivity.class);
+        register("bpm", "archivedActivity", APIArchivedActivity.class);
+        register("bpm", "task", APITask.class);
+        register("bpm", "archivedTask", APIArchivedTask.class);
+        register("bpm", "flowNode", APIFlowNode.class);
+        register("bpm", "archivedFlowNode", APIArchivedFlowNode.class);
+        register("bpm", "processResolutionProblem", APIProcessResolutionProblem.class);
+        register("bpm", "caseDocument", APICaseDocument.class);
+        register("bpm", "archivedCaseDocument", APIArchivedCaseDocument.class);
+        register("bpm", "connectorInstance", APIConnectorInstance.class);
+        register("bpm", "archivedConnectorInstance", APIArchivedConnectorInstance.class);
+        register("bpm", "processConnectorDependency", APIProcessConnectorDependency.class);
+        register("bpm", "caseVariable", APICaseVariable.class);
+        register("bpm", "processParameter", APIProcessParameter.class);
+
+        register("living", "application", new APICreator() {
+
+            @Override
+            public API<? extends IItem> create() {
                 return new APIApplication(new ApplicationDataStoreCreator(), new APIApplicationDataStoreFactory());
-            } else if ("application-page".equals(resourceToken)) {
+            }
+        });
+        register("living", "application-page", new APICreator() {
+
+            @Override
+            public API<? extends IItem> create() {
                 return new APIApplicationPage(new APIApplicationDataStoreFactory());
-            } else if ("application-menu".equals(resourceToken)) {
-                return new APIApplicationMenu(new ApplicationMenuDataStoreCreator());
             }
-        } else if ("tenant".equals(apiToken)) {
-            if (BusinessDataModelDefinition.TOKEN.equals(resourceToken)) {
-                return new APIBusinessDataModel();
+        });
+        register("living", "application-menu", new APICreator() {
+
+            @Override
+            public API<? extends IItem> create() {
+                return new APIApplicationMenu(new ApplicationMenuDataStoreCreator());
             }
+        });
+
+        register("tenant", BusinessDataModelDefinition.TOKEN, APIBusinessDataModel.class);
+
+        register("platform", "platform", APIPlatform.class);
+    }
 
-        } else if ("platform".equals(apiToken)) {
-            if ("platform".equals(resourceToken)) {
-                return new APIPlatform();
+    private static void register(final String apiToken, final String resourceToken, final Class<? extends API<? extends IItem>> apiClass) {
+        register(apiToken, resourceToken, APICreator.of(apiClass));
+    }
+
+    private static void register(final String apiToken, final String resourceToken, final APICreator creator) {
+        Map<String, APICreator> resources = APIS.get(apiToken);
+        if (resources == null) {
+            resources = new HashMap<String, APICreator>();
+            APIS.put(apiToken, resources);
+        }
+        resources.put(resourceToken, creator);
+    }
+
+    private static APICreator deprecated(final String replacementPath, final Class<? extends API<? extends IItem>> apiClass) {
+        final APICreator creator = APICreator.of(apiClass);
+        return new APICreator() {
+
+            @Override
+            public API<? extends IItem> create() {
+                LOGGER.warning("Deprecated API path, please use " + replacementPath + " instead");
+                return creator.create();
             }
-        } 
-        throw new APINotFoundException(apiToken, resourceToken);
+        };
+    }
+
+    @Override
+    public API<? extends IItem> defineApis(final String apiToken, final String resourceToken) {
+        final Map<String, APICreator> resources = APIS.get(apiToken);
+        final APICreator creator = resources != null ? resources.get(resourceToken) : null;
+        if (creator == null) {
+            throw new APINotFoundException(apiToken, resourceToken);
+        }
+        return creator.create();
     }
 }
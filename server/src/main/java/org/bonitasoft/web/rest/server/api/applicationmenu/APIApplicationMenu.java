@@ -16,6 +16,8 @@ package org.bonitasoft.web.rest.server.api.applicationmenu;
 import java.util.List;
 import java.util.Map;
 
+import org.bonitasoft.console.common.server.utils.ProfilePermissionsCache;
+import org.bonitasoft.livingapps.ApplicationModelCache;
 import org.bonitasoft.web.rest.model.applicationmenu.ApplicationMenuDefinition;
 import org.bonitasoft.web.rest.model.applicationmenu.ApplicationMenuItem;
 import org.bonitasoft.web.rest.server.api.ConsoleAPI;
@@ -44,7 +46,10 @@ APIHasGet<ApplicationMenuItem>, APIHasDelete {
 
     @Override
     public ApplicationMenuItem add(final ApplicationMenuItem item) {
-        return creator.create(getEngineSession()).add(item);
+        final ApplicationMenuItem addedItem = creator.create(getEngineSession()).add(item);
+        ApplicationModelCache.invalidate(getEngineSession().getTenantId());
+        clearProfilePermissionsCache();
+        return addedItem;
     }
 
     @Override
@@ -54,12 +59,24 @@ APIHasGet<ApplicationMenuItem>, APIHasDelete {
 
     @Override
     public ApplicationMenuItem update(final APIID id, final Map<String, String> attributes) {
-        return creator.create(getEngineSession()).update(id, attributes);
+        final ApplicationMenuItem updatedItem = creator.create(getEngineSession()).update(id, attributes);
+        ApplicationModelCache.invalidate(getEngineSession().getTenantId());
+        clearProfilePermissionsCache();
+        return updatedItem;
     }
 
     @Override
     public void delete(final List<APIID> ids) {
         creator.create(getEngineSession()).delete(ids);
+        ApplicationModelCache.invalidate(getEngineSession().getTenantId());
+        clearProfilePermissionsCache();
+    }
+
+    /**
+     * Application menus give access to the pages of the profiles of their application, permissions computed at login must be computed again
+     */
+    private void clearProfilePermissionsCache() {
+        ProfilePermissionsCache.getInstance(getEngineSession().getTenantId()).clear();
     }
 
     @Override
@@ -78,11 +95,8 @@ APIHasGet<ApplicationMenuItem>, APIHasDelete {
     }
 
     @Override
-    protected void fillDeploys(final ApplicationMenuItem item, final List<String> deploys) {
+    protected void defineDeployers() {
         addDeployer(new ApplicationPageDeployer(
                 new ApplicationPageDataStoreCreator().create(getEngineSession()), ApplicationMenuItem.ATTRIBUTE_APPLICATION_PAGE_ID));
-
-        super.fillDeploys(item, deploys);
     }
-
 }
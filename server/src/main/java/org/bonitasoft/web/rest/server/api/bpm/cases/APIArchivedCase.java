@@ -21,7 +21,10 @@ import java.util.Map;
 
 import org.bonitasoft.web.rest.model.bpm.cases.ArchivedCaseDefinition;
 import org.bonitasoft.web.rest.model.bpm.cases.ArchivedCaseItem;
+import org.bonitasoft.web.rest.model.bpm.process.ProcessItem;
+import org.bonitasoft.web.rest.model.identity.UserItem;
 import org.bonitasoft.web.rest.server.api.ConsoleAPI;
+import org.bonitasoft.web.rest.server.api.deployer.BatchDeployHelper;
 import org.bonitasoft.web.rest.server.datastore.bpm.cases.ArchivedCaseDatastore;
 import org.bonitasoft.web.rest.server.datastore.bpm.process.ProcessDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.UserDatastore;
@@ -72,6 +75,13 @@ public class APIArchivedCase extends ConsoleAPI<ArchivedCaseItem> implements API
         return getArchivedCaseDatastore().search(page, resultsByPage, search, orders, filters);
     }
 
+    @Override
+    protected void fillDeploys(final List<ArchivedCaseItem> items, final List<String> deploys) {
+        new BatchDeployHelper<UserItem>(getUserDatastore()).deployIn(items, deploys,
+                ArchivedCaseItem.ATTRIBUTE_STARTED_BY_USER_ID, ArchivedCaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID);
+        new BatchDeployHelper<ProcessItem>(getProcessDatastore()).deployIn(items, deploys, ArchivedCaseItem.ATTRIBUTE_PROCESS_ID);
+    }
+
     @Override
     protected void fillDeploys(final ArchivedCaseItem item, final List<String> deploys) {
         if (isDeployable(ArchivedCaseItem.ATTRIBUTE_STARTED_BY_USER_ID, deploys, item)) {
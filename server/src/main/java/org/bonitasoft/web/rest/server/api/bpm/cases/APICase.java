@@ -14,6 +14,7 @@
  */
 package org.bonitasoft.web.rest.server.api.bpm.cases;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,7 +23,10 @@ import org.bonitasoft.engine.bpm.process.ProcessInstanceCriterion;
 import org.bonitasoft.web.rest.model.bpm.cases.CaseDefinition;
 import org.bonitasoft.web.rest.model.bpm.cases.CaseItem;
 import org.bonitasoft.web.rest.model.bpm.flownode.FlowNodeItem;
+import org.bonitasoft.web.rest.model.bpm.process.ProcessItem;
+import org.bonitasoft.web.rest.model.identity.UserItem;
 import org.bonitasoft.web.rest.server.api.ConsoleAPI;
+import org.bonitasoft.web.rest.server.api.deployer.BatchDeployHelper;
 import org.bonitasoft.web.rest.server.datastore.bpm.cases.CaseDatastore;
 import org.bonitasoft.web.rest.server.datastore.bpm.flownode.FlowNodeDatastore;
 import org.bonitasoft.web.rest.server.datastore.bpm.process.ProcessDatastore;
@@ -43,6 +47,11 @@ import org.bonitasoft.web.toolkit.client.data.item.ItemDefinition;
  */
 public class APICase extends ConsoleAPI<CaseItem> implements APIHasGet<CaseItem>, APIHasAdd<CaseItem>, APIHasSearch<CaseItem>, APIHasDelete {
 
+    /**
+     * Maximum number of flow nodes fetched to compute a counter of a page of cases at once
+     */
+    static final int MAX_GROUPED_FLOW_NODES = 1000;
+
     @Override
     protected ItemDefinition defineItemDefinition() {
         return Definitions.get(CaseDefinition.TOKEN);
@@ -82,6 +91,13 @@ public class APICase extends ConsoleAPI<CaseItem> implements APIHasGet<CaseItem>
         fillProcess(item, deploys);
     }
 
+    @Override
+    protected void fillDeploys(final List<CaseItem> items, final List<String> deploys) {
+        new BatchDeployHelper<UserItem>(getUserDatastore()).deployIn(items, deploys,
+                CaseItem.ATTRIBUTE_STARTED_BY_USER_ID, CaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID);
+        new BatchDeployHelper<ProcessItem>(getProcessDatastore()).deployIn(items, deploys, CaseItem.ATTRIBUTE_PROCESS_ID);
+    }
+
     private void fillStartedBy(final CaseItem item, final List<String> deploys) {
         if (isDeployable(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID, deploys, item)) {
             item.setDeploy(
@@ -108,23 +124,28 @@ public class APICase extends ConsoleAPI<CaseItem> implements APIHasGet<CaseItem>
 
     private void fillNumberOfFailedFlowNodesIfFailedCounterExists(final CaseItem item, final List<String> counters) {
         if (counters.contains(CaseItem.COUNTER_FAILED_FLOW_NODES)) {
-            final FlowNodeDatastore flowNodeDatastore = getFlowNodeDatastore();
-            final Map<String, String> filters = new HashMap<String, String>();
-            filters.put(FlowNodeItem.ATTRIBUTE_STATE, FlowNodeItem.VALUE_STATE_FAILED);
-            filters.put(FlowNodeItem.ATTRIBUTE_PARENT_CASE_ID, String.valueOf(item.getId().toLong()));
-            item.setAttribute(CaseItem.COUNTER_FAILED_FLOW_NODES, flowNodeDatastore.count(null, null, filters));
+            item.setAttribute(CaseItem.COUNTER_FAILED_FLOW_NODES, countFlowNodes(item, getFailedFlowNodesFilters()));
         }
     }
 
     private void fillNumberOfPendingFlowNodesIfActiveCounterExists(final CaseItem item, final List<String> counters) {
         if (counters.contains(CaseItem.COUNTER_ACTIVE_FLOW_NODES)) {
-            final FlowNodeDatastore flowNodeDatastore = getFlowNodeDatastore();
-            final Map<String, String> filters = new HashMap<String, String>();
-            filters.put(FlowNodeItem.ATTRIBUTE_PARENT_CASE_ID, String.valueOf(item.getId().toLong()));
-            item.setAttribute(CaseItem.COUNTER_ACTIVE_FLOW_NODES, flowNodeDatastore.count(null, null, filters));
+            item.setAttribute(CaseItem.COUNTER_ACTIVE_FLOW_NODES, countFlowNodes(item, new HashMap<String, String>()));
         }
     }
 
+    private Map<String, String> getFailedFlowNodesFilters() {
+        final Map<String, String> filters = new HashMap<String, String>();
+        filters.put(FlowNodeItem.ATTRIBUTE_STATE, FlowNodeItem.VALUE_STATE_FAILED);
+        return filters;
+    }
+
+    private long countFlowNodes(final CaseItem item, final Map<String, String> counterFilters) {
+        final Map<String, String> filters = new HashMap<String, String>(counterFilters);
+        filters.put(FlowNodeItem.ATTRIBUTE_PARENT_CASE_ID, String.valueOf(item.getId().toLong()));
+        return getFlowNodeDatastore().count(null, null, filters);
+    }
+
     @Override
     public void delete(final List<APIID> ids) {
         getCaseDatastore().delete(ids);
@@ -136,6 +157,34 @@ public class APICase extends ConsoleAPI<CaseItem> implements APIHasGet<CaseItem>
         fillNumberOfPendingFlowNodesIfActiveCounterExists(item, counters);
     }
 
+    @Override
+    protected void fillCounters(final List<CaseItem> items, final List<String> counters) {
+        if (counters.contains(CaseItem.COUNTER_FAILED_FLOW_NODES)) {
+            fillFlowNodesCounter(items, CaseItem.COUNTER_FAILED_FLOW_NODES, getFailedFlowNodesFilters());
+        }
+        if (counters.contains(CaseItem.COUNTER_ACTIVE_FLOW_NODES)) {
+            fillFlowNodesCounter(items, CaseItem.COUNTER_ACTIVE_FLOW_NODES, new HashMap<String, String>());
+        }
+    }
+
+    /**
+     * Count the flow nodes of all the cases with one search using the filters of the case by case count. Cases are counted one by one only when
+     * too many flow nodes match to group them.
+     */
+    private void fillFlowNodesCounter(final List<CaseItem> items, final String counter, final Map<String, String> counterFilters) {
+        if (items.isEmpty()) {
+            return;
+        }
+        final List<Long> caseIds = new ArrayList<Long>(items.size());
+        for (final CaseItem item : items) {
+            caseIds.add(item.getId().toLong());
+        }
+        final Map<Long, Long> flowNodesByCase = getFlowNodeDatastore().countByParentCase(caseIds, counterFilters, MAX_GROUPED_FLOW_NODES);
+        for (final CaseItem item : items) {
+            item.setAttribute(counter, flowNodesByCase != null ? flowNodesByCase.get(item.getId().toLong()) : countFlowNodes(item, counterFilters));
+        }
+    }
+
     UserDatastore getUserDatastore() {
         return new UserDatastore(getEngineSession());
     }
@@ -27,7 +27,10 @@ import org.bonitasoft.web.rest.model.bpm.flownode.FlowNodeDefinition;
 import org.bonitasoft.web.rest.model.bpm.flownode.FlowNodeItem;
 import org.bonitasoft.web.rest.model.bpm.flownode.HumanTaskItem;
 import org.bonitasoft.web.rest.model.bpm.flownode.IFlowNodeItem;
+import org.bonitasoft.web.rest.model.bpm.process.ProcessItem;
+import org.bonitasoft.web.rest.model.identity.UserItem;
 import org.bonitasoft.web.rest.server.api.ConsoleAPI;
+import org.bonitasoft.web.rest.server.api.deployer.BatchDeployHelper;
 import org.bonitasoft.web.rest.server.api.deployer.GenericDeployer;
 import org.bonitasoft.web.rest.server.datastore.bpm.cases.ArchivedCaseDatastore;
 import org.bonitasoft.web.rest.server.datastore.bpm.cases.CaseDatastore;
@@ -158,6 +161,21 @@ APIHasSearch<ITEM> {
                     new UserDatastore(getEngineSession()).get(item.getAttributeValueAsAPIID(HumanTaskItem.ATTRIBUTE_ASSIGNED_USER_ID)));
         }
 
+        super.fillDeploys(item, deploys);
+    }
+
+    @Override
+    protected void fillDeploys(final List<ITEM> items, final List<String> deploys) {
+        final List<String> itemDeploys = new ArrayList<String>(deploys);
+        itemDeploys.removeAll(new BatchDeployHelper<ProcessItem>(new ProcessDatastore(getEngineSession())).deployIn(items, deploys,
+                FlowNodeItem.ATTRIBUTE_PROCESS_ID));
+        itemDeploys.removeAll(new BatchDeployHelper<UserItem>(new UserDatastore(getEngineSession())).deployIn(items, deploys,
+                FlowNodeItem.ATTRIBUTE_EXECUTED_BY_USER_ID, FlowNodeItem.ATTRIBUTE_EXECUTED_BY_SUBSTITUTE_USER_ID, HumanTaskItem.ATTRIBUTE_ASSIGNED_USER_ID));
+        super.fillDeploys(items, itemDeploys);
+    }
+
+    @Override
+    protected void defineDeployers() {
         addDeployer(new GenericDeployer<IItem>(new DatastoreHasGet<IItem>() {
 
             @Override
@@ -167,8 +185,6 @@ APIHasSearch<ITEM> {
                         new ArchivedTaskDatastore(getEngineSession())).find(id);
             }
         }, HumanTaskItem.ATTRIBUTE_PARENT_TASK_ID));
-
-        super.fillDeploys(item, deploys);
     }
 
     protected CaseDatastore getCaseDatastore() {
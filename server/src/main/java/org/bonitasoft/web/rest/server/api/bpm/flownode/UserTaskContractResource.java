@@ -13,6 +13,7 @@
  **/
 package org.bonitasoft.web.rest.server.api.bpm.flownode;
 
+import org.bonitasoft.console.common.server.utils.ContractDefinitionCache;
 import org.bonitasoft.console.common.server.utils.ContractTypeConverter;
 import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.engine.bpm.contract.ContractDefinition;
@@ -33,13 +34,20 @@ public class UserTaskContractResource extends CommonResource {
 
     protected ContractTypeConverter typeConverterUtil = new ContractTypeConverter(ContractTypeConverter.ISO_8601_DATE_PATTERNS);
 
+    private final ContractDefinitionCache contractDefinitionCache;
+
     public UserTaskContractResource(final ProcessAPI processAPI) {
+        this(processAPI, new ContractDefinitionCache());
+    }
+
+    public UserTaskContractResource(final ProcessAPI processAPI, final ContractDefinitionCache contractDefinitionCache) {
         this.processAPI = processAPI;
+        this.contractDefinitionCache = contractDefinitionCache;
     }
 
     @Get("json")
     public ContractDefinition getContract() throws UserTaskNotFoundException {
-        ContractDefinition processContract = processAPI.getUserTaskContract(getTaskIdParameter());
+        ContractDefinition processContract = contractDefinitionCache.getUserTaskContract(processAPI, getTaskIdParameter());
         return typeConverterUtil.getAdaptedContractDefinition(processContract);
     }
 
@@ -9,6 +9,7 @@
 
 package org.bonitasoft.web.rest.server.api.bpm.flownode;
 
+import org.bonitasoft.console.common.server.utils.ContractDefinitionCache;
 import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.web.rest.server.ResourceFinder;
 import org.restlet.Request;
@@ -23,6 +24,6 @@ public class UserTaskContractResourceFinder extends ResourceFinder {
     @Override
     public ServerResource create(final Request request, final Response response) {
         final ProcessAPI processAPI = getProcessAPI(request);
-        return new UserTaskContractResource(processAPI);
+        return new UserTaskContractResource(processAPI, ContractDefinitionCache.getInstance(getAPISession(request).getTenantId()));
     }
 }
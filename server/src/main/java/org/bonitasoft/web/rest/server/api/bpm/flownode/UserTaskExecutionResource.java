@@ -14,6 +14,7 @@
 package org.bonitasoft.web.rest.server.api.bpm.flownode;
 
 import org.bonitasoft.console.common.server.preferences.properties.PropertiesFactory;
+import org.bonitasoft.console.common.server.utils.ContractDefinitionCache;
 import org.bonitasoft.console.common.server.utils.ContractTypeConverter;
 import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.engine.bpm.contract.ContractDefinition;
@@ -45,9 +46,16 @@ public class UserTaskExecutionResource extends CommonResource {
 
     protected ContractTypeConverter typeConverterUtil = new ContractTypeConverter(ContractTypeConverter.ISO_8601_DATE_PATTERNS);
 
+    private final ContractDefinitionCache contractDefinitionCache;
+
     public UserTaskExecutionResource(final ProcessAPI processAPI, final APISession apiSession) {
+        this(processAPI, apiSession, new ContractDefinitionCache());
+    }
+
+    public UserTaskExecutionResource(final ProcessAPI processAPI, final APISession apiSession, final ContractDefinitionCache contractDefinitionCache) {
         this.processAPI = processAPI;
         this.apiSession = apiSession;
+        this.contractDefinitionCache = contractDefinitionCache;
     }
 
     @Post("json")
@@ -55,7 +63,7 @@ public class UserTaskExecutionResource extends CommonResource {
         final String userId = getRequestParameter(USER_PARAM);
         final long taskId = getTaskIdParameter();
         try {
-            final ContractDefinition taskContract = processAPI.getUserTaskContract(taskId);
+            final ContractDefinition taskContract = contractDefinitionCache.getUserTaskContract(processAPI, taskId);
             final long tenantId = apiSession.getTenantId();
             final long maxSizeForTenant = PropertiesFactory.getConsoleProperties(tenantId).getMaxSize();
             final Map<String, Serializable> processedInputs = typeConverterUtil.getProcessedInput(taskContract, inputs, maxSizeForTenant, tenantId, false);
@@ -65,15 +73,15 @@ public class UserTaskExecutionResource extends CommonResource {
                 processAPI.executeUserTask(Long.parseLong(userId), taskId, processedInputs);
     		}
             //clean temp files
-            deleteFiles(taskContract, inputs, maxSizeForTenant, tenantId);
+            deleteFiles();
 
         } catch (final ContractViolationException e) {
             manageContractViolationException(e, "Cannot execute task.");
         }
     }
 
-    protected void deleteFiles(ContractDefinition processContract, Map<String, Serializable> inputs, long maxSizeForTenant, long tenantId) throws FileNotFoundException {
-        typeConverterUtil.getProcessedInput(processContract, inputs, maxSizeForTenant, tenantId, true);
+    protected void deleteFiles() {
+        typeConverterUtil.deleteTemporaryFiles();
     }
 
     protected long getTaskIdParameter() {
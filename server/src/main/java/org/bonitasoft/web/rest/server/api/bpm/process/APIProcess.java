@@ -14,6 +14,7 @@
  */
 package org.bonitasoft.web.rest.server.api.bpm.process;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +50,11 @@ public class APIProcess extends ConsoleAPI<ProcessItem> implements
         APIHasSearch<ProcessItem>,
         APIHasDelete {
 
+    /**
+     * Maximum number of cases fetched to compute a counter of a page of processes at once
+     */
+    static final int MAX_GROUPED_CASES = 1000;
+
     // //////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // CONFIGURE
     // //////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -101,10 +107,9 @@ public class APIProcess extends ConsoleAPI<ProcessItem> implements
     }
 
     @Override
-    protected void fillDeploys(final ProcessItem item, final List<String> deploys) {
+    protected void defineDeployers() {
         addDeployer(new UserDeployer(
                 new UserDatastore(getEngineSession()), ProcessItem.ATTRIBUTE_DEPLOYED_BY_USER_ID));
-        super.fillDeploys(item, deploys);
     }
 
     @Override
@@ -115,21 +120,61 @@ public class APIProcess extends ConsoleAPI<ProcessItem> implements
 
     private void fillNumberOfFailedCasesIfFailedCounterExists(final ProcessItem item, final List<String> counters) {
         if (counters.contains(ProcessItem.COUNTER_FAILED_CASES)) {
-            final Map<String, String> filters = new HashMap<>();
-            filters.put(CaseItem.FILTER_CALLER, "any");
-            filters.put(CaseItem.ATTRIBUTE_PROCESS_ID, item.getId().toString());
-            filters.put(CaseItem.FILTER_STATE, ProcessInstanceState.ERROR.name());
-            item.setAttribute(ProcessItem.COUNTER_FAILED_CASES, getCaseDatastore().count(null, null, filters));
+            item.setAttribute(ProcessItem.COUNTER_FAILED_CASES, countCases(item, getFailedCasesFilters()));
         }
     }
 
     private void fillNumberOfOpenCasesIfOpenCounterExists(final ProcessItem item, final List<String> counters) {
         if (counters.contains(ProcessItem.COUNTER_OPEN_CASES)) {
-            // Open is all states without the terminal states
-            final Map<String, String> filters = new HashMap<>();
-            filters.put(CaseItem.FILTER_CALLER, "any");
-            filters.put(CaseItem.ATTRIBUTE_PROCESS_ID, item.getId().toString());
-            item.setAttribute(ProcessItem.COUNTER_OPEN_CASES, getCaseDatastore().count(null, null, filters));
+            item.setAttribute(ProcessItem.COUNTER_OPEN_CASES, countCases(item, getOpenCasesFilters()));
+        }
+    }
+
+    private Map<String, String> getFailedCasesFilters() {
+        final Map<String, String> filters = new HashMap<>();
+        filters.put(CaseItem.FILTER_CALLER, "any");
+        filters.put(CaseItem.FILTER_STATE, ProcessInstanceState.ERROR.name());
+        return filters;
+    }
+
+    private Map<String, String> getOpenCasesFilters() {
+        // Open is all states without the terminal states
+        final Map<String, String> filters = new HashMap<>();
+        filters.put(CaseItem.FILTER_CALLER, "any");
+        return filters;
+    }
+
+    private long countCases(final ProcessItem item, final Map<String, String> counterFilters) {
+        final Map<String, String> filters = new HashMap<>(counterFilters);
+        filters.put(CaseItem.ATTRIBUTE_PROCESS_ID, item.getId().toString());
+        return getCaseDatastore().count(null, null, filters);
+    }
+
+    @Override
+    protected void fillCounters(final List<ProcessItem> items, final List<String> counters) {
+        if (counters.contains(ProcessItem.COUNTER_FAILED_CASES)) {
+            fillCasesCounter(items, ProcessItem.COUNTER_FAILED_CASES, getFailedCasesFilters());
+        }
+        if (counters.contains(ProcessItem.COUNTER_OPEN_CASES)) {
+            fillCasesCounter(items, ProcessItem.COUNTER_OPEN_CASES, getOpenCasesFilters());
+        }
+    }
+
+    /**
+     * Count the cases of all the processes with one search using the filters of the process by process count. Processes are counted one by one
+     * only when too many cases match to group them.
+     */
+    private void fillCasesCounter(final List<ProcessItem> items, final String counter, final Map<String, String> counterFilters) {
+        if (items.isEmpty()) {
+            return;
+        }
+        final List<Long> processIds = new ArrayList<>(items.size());
+        for (final ProcessItem item : items) {
+            processIds.add(item.getId().toLong());
+        }
+        final Map<Long, Long> casesByProcess = getCaseDatastore().countByProcess(processIds, counterFilters, MAX_GROUPED_CASES);
+        for (final ProcessItem item : items) {
+            item.setAttribute(counter, casesByProcess != null ? casesByProcess.get(item.getId().toLong()) : countCases(item, counterFilters));
         }
     }
 
@@ -13,6 +13,7 @@
  **/
 package org.bonitasoft.web.rest.server.api.bpm.process;
 
+import org.bonitasoft.console.common.server.utils.ContractDefinitionCache;
 import org.bonitasoft.console.common.server.utils.ContractTypeConverter;
 import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.engine.bpm.contract.ContractDefinition;
@@ -32,13 +33,20 @@ public class ProcessContractResource extends CommonResource {
 
     protected ContractTypeConverter typeConverterUtil = new ContractTypeConverter(ContractTypeConverter.ISO_8601_DATE_PATTERNS);
 
+    private final ContractDefinitionCache contractDefinitionCache;
+
     public ProcessContractResource(final ProcessAPI processAPI) {
+        this(processAPI, new ContractDefinitionCache());
+    }
+
+    public ProcessContractResource(final ProcessAPI processAPI, final ContractDefinitionCache contractDefinitionCache) {
         this.processAPI = processAPI;
+        this.contractDefinitionCache = contractDefinitionCache;
     }
 
     @Get("json")
     public ContractDefinition getContract() throws ProcessDefinitionNotFoundException {
-        ContractDefinition processContract = processAPI.getProcessContract(getProcessDefinitionIdParameter());
+        ContractDefinition processContract = contractDefinitionCache.getProcessContract(processAPI, getProcessDefinitionIdParameter());
         return typeConverterUtil.getAdaptedContractDefinition(processContract);
     }
 
@@ -9,6 +9,7 @@
 
 package org.bonitasoft.web.rest.server.api.bpm.process;
 
+import org.bonitasoft.console.common.server.utils.ContractDefinitionCache;
 import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.web.rest.server.ResourceFinder;
 import org.restlet.Request;
@@ -23,6 +24,6 @@ public class ProcessContractResourceFinder extends ResourceFinder {
     @Override
     public ServerResource create(final Request request, final Response response) {
         final ProcessAPI processAPI = getProcessAPI(request);
-        return new ProcessContractResource(processAPI);
+        return new ProcessContractResource(processAPI, ContractDefinitionCache.getInstance(getAPISession(request).getTenantId()));
     }
 }
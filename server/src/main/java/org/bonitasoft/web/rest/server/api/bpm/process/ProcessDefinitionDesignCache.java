@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.api.bpm.process;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bonitasoft.console.common.server.utils.TenantRegistry;
+import org.bonitasoft.web.rest.server.api.resource.JsonPayload;
+
+/**
+ * Cache of the serialized designs of the processes of a tenant.<br>
+ * The design of a deployed process never changes, so its JSON is computed once and kept until the total size of the cached designs exceeds
+ * the maximum size, the least recently used designs being evicted first.
+ */
+public class ProcessDefinitionDesignCache {
+
+    /**
+     * Maximum size in bytes of the designs kept by tenant
+     */
+    static final long DEFAULT_MAX_SIZE = 32L * 1024 * 1024;
+
+    private static final TenantRegistry<ProcessDefinitionDesignCache> INSTANCES = new TenantRegistry<ProcessDefinitionDesignCache>() {
+
+        @Override
+        protected ProcessDefinitionDesignCache create(final long tenantId) {
+            return new ProcessDefinitionDesignCache();
+        }
+    };
+
+    private final Map<Long, JsonPayload> designs = new LinkedHashMap<Long, JsonPayload>(16, .75F, true);
+
+    private final long maxSize;
+
+    private long size = 0;
+
+    public ProcessDefinitionDesignCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    ProcessDefinitionDesignCache(final long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public static ProcessDefinitionDesignCache getInstance(final long tenantId) {
+        return INSTANCES.get(tenantId);
+    }
+
+    public synchronized JsonPayload get(final long processDefinitionId) {
+        return designs.get(processDefinitionId);
+    }
+
+    public synchronized void put(final long processDefinitionId, final JsonPayload design) {
+        remove(processDefinitionId);
+        if (design.getSize() > maxSize) {
+            return;
+        }
+        designs.put(processDefinitionId, design);
+        size += design.getSize();
+        final Iterator<JsonPayload> eldestDesigns = designs.values().iterator();
+        while (size > maxSize) {
+            size -= eldestDesigns.next().getSize();
+            eldestDesigns.remove();
+        }
+    }
+
+    /**
+     * Forget the designs of deleted processes
+     */
+    public synchronized void removeDesigns(final List<Long> processDefinitionIds) {
+        for (final Long processDefinitionId : processDefinitionIds) {
+            remove(processDefinitionId);
+        }
+    }
+
+    synchronized long getSize() {
+        return size;
+    }
+
+    private void remove(final long processDefinitionId) {
+        final JsonPayload removedDesign = designs.remove(processDefinitionId);
+        if (removedDesign != null) {
+            size -= removedDesign.getSize();
+        }
+    }
+}
@@ -14,17 +14,25 @@
 package org.bonitasoft.web.rest.server.api.bpm.process;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 
 import org.bonitasoft.engine.api.ProcessAPI;
-import org.bonitasoft.engine.bpm.process.DesignProcessDefinition;
 import org.bonitasoft.engine.bpm.process.ProcessDefinitionNotFoundException;
 import org.bonitasoft.web.rest.server.api.resource.CommonResource;
+import org.bonitasoft.web.rest.server.api.resource.JsonPayload;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
-import org.restlet.data.CharacterSet;
-import org.restlet.ext.jackson.JacksonRepresentation;
+import org.restlet.representation.Representation;
 import org.restlet.resource.Get;
 
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 /**
  * @author Nicolas Tith
@@ -33,28 +41,42 @@ public class ProcessDefinitionDesignResource extends CommonResource {
 
     private static final String PROCESS_DEFINITION_ID = "processDefinitionId";
 
+    private static final String ID_PROPERTY = "id";
+
+    /**
+     * Ids are written as strings because javascript numbers cannot hold all long values
+     */
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+            .registerModule(new SimpleModule().setSerializerModifier(new LongIdToStringSerializerModifier()));
+
     private final ProcessAPI processAPI;
 
+    private final ProcessDefinitionDesignCache designCache;
+
     public ProcessDefinitionDesignResource(final ProcessAPI processAPI) {
+        this(processAPI, new ProcessDefinitionDesignCache());
+    }
+
+    public ProcessDefinitionDesignResource(final ProcessAPI processAPI, final ProcessDefinitionDesignCache designCache) {
         this.processAPI = processAPI;
+        this.designCache = designCache;
     }
 
     @Get("json")
-    public String getDesign() throws ProcessDefinitionNotFoundException, IOException {
-        final DesignProcessDefinition design = processAPI.getDesignProcessDefinition(getProcessDefinitionIdParameter());
-        final JacksonRepresentation<DesignProcessDefinition> jacksonRepresentation = new JacksonRepresentation<DesignProcessDefinition>(design);
-        jacksonRepresentation.getObjectMapper().configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-        jacksonRepresentation.setCharacterSet(CharacterSet.UTF_8);
-        return replaceLongIdToString(jacksonRepresentation.getText());
+    public Representation getDesign() throws ProcessDefinitionNotFoundException, IOException {
+        final long processDefinitionId = getProcessDefinitionIdParameter();
+        JsonPayload design = designCache.get(processDefinitionId);
+        if (design == null) {
+            final byte[] json = toJson(processAPI.getDesignProcessDefinition(processDefinitionId));
+            design = new JsonPayload(json, Long.toHexString(processDefinitionId) + "-" + Integer.toHexString(Arrays.hashCode(json)));
+            designCache.put(processDefinitionId, design);
+        }
+        return buildJsonRepresentation(design);
     }
 
-    /**
-     * @param design
-     * @return
-     * @throws IOException
-     */
-    protected String replaceLongIdToString(final String design) throws IOException {
-        return design.replaceAll("([^\\\\]\"id\"\\s*:\\s*)(\\d+)", "$1\"$2\"");
+    protected byte[] toJson(final Object design) throws IOException {
+        return OBJECT_MAPPER.writeValueAsBytes(design);
     }
 
     protected long getProcessDefinitionIdParameter() {
@@ -64,4 +86,19 @@ public class ProcessDefinitionDesignResource extends CommonResource {
         }
         return Long.parseLong(processDefinitionId);
     }
+
+    private static class LongIdToStringSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(final SerializationConfig config, final BeanDescription beanDesc,
+                final List<BeanPropertyWriter> beanProperties) {
+            for (final BeanPropertyWriter beanProperty : beanProperties) {
+                final Class<?> propertyType = beanProperty.getPropertyType();
+                if (ID_PROPERTY.equals(beanProperty.getName()) && (long.class.equals(propertyType) || Long.class.equals(propertyType))) {
+                    beanProperty.assignSerializer(ToStringSerializer.instance);
+                }
+            }
+            return beanProperties;
+        }
+    }
 }
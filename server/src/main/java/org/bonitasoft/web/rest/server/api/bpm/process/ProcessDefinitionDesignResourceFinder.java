@@ -23,6 +23,6 @@ public class ProcessDefinitionDesignResourceFinder extends ResourceFinder {
     @Override
     public ServerResource create(final Request request, final Response response) {
         final ProcessAPI processAPI = getProcessAPI(request);
-        return new ProcessDefinitionDesignResource(processAPI);
+        return new ProcessDefinitionDesignResource(processAPI, ProcessDefinitionDesignCache.getInstance(getAPISession(request).getTenantId()));
     }
 }
@@ -18,6 +18,7 @@ import java.io.Serializable;
 import java.util.Map;
 
 import org.bonitasoft.console.common.server.preferences.properties.PropertiesFactory;
+import org.bonitasoft.console.common.server.utils.ContractDefinitionCache;
 import org.bonitasoft.console.common.server.utils.ContractTypeConverter;
 import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.engine.bpm.contract.ContractDefinition;
@@ -53,9 +54,16 @@ public class ProcessInstantiationResource extends CommonResource {
 
     protected ContractTypeConverter typeConverterUtil = new ContractTypeConverter(ContractTypeConverter.ISO_8601_DATE_PATTERNS);
 
+    private final ContractDefinitionCache contractDefinitionCache;
+
     public ProcessInstantiationResource(final ProcessAPI processAPI, final APISession apiSession) {
+        this(processAPI, apiSession, new ContractDefinitionCache());
+    }
+
+    public ProcessInstantiationResource(final ProcessAPI processAPI, final APISession apiSession, final ContractDefinitionCache contractDefinitionCache) {
         this.processAPI = processAPI;
         this.apiSession = apiSession;
+        this.contractDefinitionCache = contractDefinitionCache;
     }
 
     @Post("json")
@@ -64,7 +72,7 @@ public class ProcessInstantiationResource extends CommonResource {
         final String userId = getRequestParameter(USER_PARAM);
         final long processDefinitionId = getProcessDefinitionIdParameter();
         try {
-            final ContractDefinition processContract = processAPI.getProcessContract(processDefinitionId);
+            final ContractDefinition processContract = contractDefinitionCache.getProcessContract(processAPI, processDefinitionId);
             final long tenantId = apiSession.getTenantId();
             final long maxSizeForTenant = PropertiesFactory.getConsoleProperties(tenantId).getMaxSize();
             final Map<String, Serializable> processedInputs = typeConverterUtil.getProcessedInput(processContract, inputs, maxSizeForTenant, tenantId, false);
@@ -75,7 +83,7 @@ public class ProcessInstantiationResource extends CommonResource {
                 processInstanceId = processAPI.startProcessWithInputs(Long.parseLong(userId), processDefinitionId, processedInputs).getId();
             }
             //clean temp files
-            deleteFiles(processContract, inputs, maxSizeForTenant, tenantId);
+            deleteFiles();
 
             final JsonNodeFactory factory = JsonNodeFactory.instance;
             final ObjectNode returnedObject = factory.objectNode();
@@ -87,8 +95,8 @@ public class ProcessInstantiationResource extends CommonResource {
         }
     }
 
-    protected void deleteFiles(final ContractDefinition processContract, final Map<String, Serializable> inputs, final long maxSizeForTenant, final long tenantId) throws FileNotFoundException {
-        typeConverterUtil.getProcessedInput(processContract, inputs, maxSizeForTenant, tenantId, true);
+    protected void deleteFiles() {
+        typeConverterUtil.deleteTemporaryFiles();
     }
 
     protected CaseItem convertEngineToConsoleItem(final ProcessInstance item) {
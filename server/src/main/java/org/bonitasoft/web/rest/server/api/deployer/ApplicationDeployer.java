@@ -16,15 +16,18 @@
  */
 package org.bonitasoft.web.rest.server.api.deployer;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.bonitasoft.web.rest.model.application.ApplicationItem;
-import org.bonitasoft.web.rest.server.framework.Deployer;
+import org.bonitasoft.web.rest.server.framework.BatchDeployer;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGet;
 import org.bonitasoft.web.toolkit.client.data.item.IItem;
 
 /**
  * @author Julien Mege
  */
-public class ApplicationDeployer implements Deployer {
+public class ApplicationDeployer implements BatchDeployer {
 
     private final DatastoreHasGet<ApplicationItem> getter;
 
@@ -47,6 +50,11 @@ public class ApplicationDeployer implements Deployer {
         }
     }
 
+    @Override
+    public void deployIn(final List<? extends IItem> items) {
+        new BatchDeployHelper<ApplicationItem>(getter).deployIn(items, Collections.singletonList(attribute), attribute);
+    }
+
     protected final boolean isDeployable(final String attribute, final IItem item) {
         return item.getAttributeValueAsAPIID(attribute) != null;
     }
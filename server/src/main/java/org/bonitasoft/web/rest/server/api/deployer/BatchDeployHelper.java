@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.api.deployer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGet;
+import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGetByIds;
+import org.bonitasoft.web.toolkit.client.data.APIID;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
+
+/**
+ * Deploy attributes on a page of items, collecting the distinct ids across the whole page and fetching them once.
+ */
+public class BatchDeployHelper<T extends IItem> {
+
+    private final DatastoreHasGet<T> getter;
+
+    public BatchDeployHelper(final DatastoreHasGet<T> getter) {
+        this.getter = getter;
+    }
+
+    /**
+     * Deploy the given attributes that are requested in deploys.
+     *
+     * @return the attributes that have been deployed
+     */
+    public List<String> deployIn(final List<? extends IItem> items, final List<String> deploys, final String... attributes) {
+        final List<String> deployedAttributes = new ArrayList<String>();
+        for (final String attribute : attributes) {
+            if (deploys.contains(attribute)) {
+                deployedAttributes.add(attribute);
+            }
+        }
+        if (deployedAttributes.isEmpty()) {
+            return deployedAttributes;
+        }
+
+        final Set<APIID> ids = new LinkedHashSet<APIID>();
+        for (final IItem item : items) {
+            for (final String attribute : deployedAttributes) {
+                final APIID id = item.getAttributeValueAsAPIID(attribute);
+                if (id != null) {
+                    ids.add(id);
+                }
+            }
+        }
+        if (!ids.isEmpty()) {
+            final Map<APIID, T> deployedItems = fetch(ids);
+            for (final IItem item : items) {
+                for (final String attribute : deployedAttributes) {
+                    final APIID id = item.getAttributeValueAsAPIID(attribute);
+                    if (id != null) {
+                        item.setDeploy(attribute, deployedItems.get(id));
+                    }
+                }
+            }
+        }
+        return deployedAttributes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<APIID, T> fetch(final Set<APIID> ids) {
+        final Map<APIID, T> deployedItems = new HashMap<APIID, T>();
+        if (getter instanceof DatastoreHasGetByIds<?>) {
+            deployedItems.putAll(((DatastoreHasGetByIds<T>) getter).getByIds(ids));
+        }
+        // keep the single get behavior (null or exception) for ids the batch call didn't return
+        for (final APIID id : ids) {
+            if (!deployedItems.containsKey(id)) {
+                deployedItems.put(id, getter.get(id));
+            }
+        }
+        return deployedItems;
+    }
+}
@@ -16,7 +16,10 @@
  */
 package org.bonitasoft.web.rest.server.api.deployer;
 
-import org.bonitasoft.web.rest.server.framework.Deployer;
+import java.util.Collections;
+import java.util.List;
+
+import org.bonitasoft.web.rest.server.framework.BatchDeployer;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGet;
 import org.bonitasoft.web.toolkit.client.data.APIID;
 import org.bonitasoft.web.toolkit.client.data.item.IItem;
@@ -25,7 +28,7 @@ import org.bonitasoft.web.toolkit.client.data.item.IItem;
  * @author Vincent Elcrin
  * 
  */
-public class GenericDeployer<I extends IItem> implements Deployer {
+public class GenericDeployer<I extends IItem> implements BatchDeployer {
 
     private final DatastoreHasGet<I> getter;
 
@@ -48,6 +51,11 @@ public class GenericDeployer<I extends IItem> implements Deployer {
         }
     }
 
+    @Override
+    public void deployIn(final List<? extends IItem> items) {
+        new BatchDeployHelper<I>(getter).deployIn(items, Collections.singletonList(attribute), attribute);
+    }
+
     protected final boolean isDeployable(final String attribute, final IItem item) {
         return item.getAttributeValueAsAPIID(attribute) != null;
     }
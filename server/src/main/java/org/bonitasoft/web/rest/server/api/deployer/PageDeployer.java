@@ -16,8 +16,11 @@
  */
 package org.bonitasoft.web.rest.server.api.deployer;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.bonitasoft.web.rest.model.portal.page.PageItem;
-import org.bonitasoft.web.rest.server.framework.Deployer;
+import org.bonitasoft.web.rest.server.framework.BatchDeployer;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGet;
 import org.bonitasoft.web.toolkit.client.data.APIID;
 import org.bonitasoft.web.toolkit.client.data.item.IItem;
@@ -25,7 +28,7 @@ import org.bonitasoft.web.toolkit.client.data.item.IItem;
 /**
  * @author Julien Mege
  */
-public class PageDeployer implements Deployer {
+public class PageDeployer implements BatchDeployer {
 
     private final DatastoreHasGet<PageItem> getter;
 
@@ -48,6 +51,11 @@ public class PageDeployer implements Deployer {
         }
     }
 
+    @Override
+    public void deployIn(final List<? extends IItem> items) {
+        new BatchDeployHelper<PageItem>(getter).deployIn(items, Collections.singletonList(attribute), attribute);
+    }
+
     private APIID getPageId(final IItem item) {
         return item.getAttributeValueAsAPIID(attribute);
     }
@@ -16,8 +16,11 @@
  */
 package org.bonitasoft.web.rest.server.api.deployer;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.bonitasoft.web.rest.model.identity.UserItem;
-import org.bonitasoft.web.rest.server.framework.Deployer;
+import org.bonitasoft.web.rest.server.framework.BatchDeployer;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGet;
 import org.bonitasoft.web.toolkit.client.data.APIID;
 import org.bonitasoft.web.toolkit.client.data.item.IItem;
@@ -26,7 +29,7 @@ import org.bonitasoft.web.toolkit.client.data.item.IItem;
  * @author Vincent Elcrin
  * 
  */
-public class UserDeployer implements Deployer {
+public class UserDeployer implements BatchDeployer {
 
     private final DatastoreHasGet<UserItem> getter;
 
@@ -49,6 +52,11 @@ public class UserDeployer implements Deployer {
         }
     }
 
+    @Override
+    public void deployIn(final List<? extends IItem> items) {
+        new BatchDeployHelper<UserItem>(getter).deployIn(items, Collections.singletonList(attribute), attribute);
+    }
+
     private APIID getUserId(IItem item) {
         return item.getAttributeValueAsAPIID(attribute);
     }
@@ -30,8 +30,8 @@ import org.bonitasoft.web.rest.server.datastore.utils.SearchOptionsCreator;
 import org.bonitasoft.web.rest.server.datastore.utils.Sorts;
 import org.bonitasoft.web.rest.server.engineclient.CustomUserInfoEngineClient;
 import org.bonitasoft.web.rest.server.engineclient.CustomUserInfoEngineClientCreator;
+import org.bonitasoft.web.rest.server.framework.api.APIHasBulkUpdate;
 import org.bonitasoft.web.rest.server.framework.api.APIHasSearch;
-import org.bonitasoft.web.rest.server.framework.api.APIHasUpdate;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.toolkit.client.common.i18n._;
 import org.bonitasoft.web.toolkit.client.data.APIID;
@@ -45,7 +45,7 @@ import static org.bonitasoft.web.rest.server.api.APIPreconditions.containsOnly;
  * @author Vincent Elcrin
  */
 public class APICustomUserInfoValue extends ConsoleAPI<CustomUserInfoItem>
-        implements APIHasSearch<CustomUserInfoItem>, APIHasUpdate<CustomUserInfoItem> {
+        implements APIHasSearch<CustomUserInfoItem>, APIHasBulkUpdate<CustomUserInfoItem> {
 
     private CustomUserInfoEngineClientCreator engineClientCreator;
 
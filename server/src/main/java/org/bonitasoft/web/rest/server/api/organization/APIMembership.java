@@ -28,7 +28,7 @@ import org.bonitasoft.web.rest.server.datastore.organization.GroupDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.MembershipDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.RoleDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.UserDatastore;
-import org.bonitasoft.web.rest.server.framework.api.APIHasAdd;
+import org.bonitasoft.web.rest.server.framework.api.APIHasBulkAdd;
 import org.bonitasoft.web.rest.server.framework.api.APIHasDelete;
 import org.bonitasoft.web.rest.server.framework.api.APIHasSearch;
 import org.bonitasoft.web.rest.server.framework.api.Datastore;
@@ -43,7 +43,7 @@ import org.bonitasoft.web.toolkit.client.data.item.ItemDefinition;
  * 
  */
 public class APIMembership extends ConsoleAPI<MembershipItem> implements
-        APIHasAdd<MembershipItem>,
+        APIHasBulkAdd<MembershipItem>,
         APIHasSearch<MembershipItem>,
         APIHasDelete
 {
@@ -86,6 +86,10 @@ public class APIMembership extends ConsoleAPI<MembershipItem> implements
 
     @Override
     protected Datastore defineDefaultDatastore() {
+        return getMembershipDatastore();
+    }
+
+    MembershipDatastore getMembershipDatastore() {
         return new MembershipDatastore(getEngineSession());
     }
 
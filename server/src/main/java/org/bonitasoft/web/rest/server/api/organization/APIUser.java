@@ -14,25 +14,26 @@
  */
 package org.bonitasoft.web.rest.server.api.organization;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 import org.bonitasoft.console.common.server.preferences.properties.PropertiesFactory;
 import org.bonitasoft.web.rest.model.identity.UserDefinition;
 import org.bonitasoft.web.rest.model.identity.UserItem;
 import org.bonitasoft.web.rest.server.api.ConsoleAPI;
+import org.bonitasoft.web.rest.server.api.deployer.BatchDeployHelper;
+import org.bonitasoft.web.rest.server.api.organization.password.validator.PasswordValidatorRegistry;
 import org.bonitasoft.web.rest.server.datastore.bpm.flownode.HumanTaskDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.PersonalContactDataDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.ProfessionalContactDataDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.UserDatastore;
-import org.bonitasoft.web.rest.server.framework.api.APIHasAdd;
+import org.bonitasoft.web.rest.server.framework.api.APIHasBulkAdd;
+import org.bonitasoft.web.rest.server.framework.api.APIHasBulkUpdate;
 import org.bonitasoft.web.rest.server.framework.api.APIHasDelete;
 import org.bonitasoft.web.rest.server.framework.api.APIHasGet;
 import org.bonitasoft.web.rest.server.framework.api.APIHasSearch;
-import org.bonitasoft.web.rest.server.framework.api.APIHasUpdate;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.toolkit.client.common.util.MapUtil;
 import org.bonitasoft.web.toolkit.client.common.util.StringUtil;
@@ -40,20 +41,14 @@ import org.bonitasoft.web.toolkit.client.data.APIID;
 import org.bonitasoft.web.toolkit.client.data.item.ItemDefinition;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationError;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationException;
-import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.AbstractStringValidator;
 
 /**
  * @author Séverin Moussel
  */
 // TODO : implements APIhasFile
-public class APIUser extends ConsoleAPI<UserItem> implements APIHasAdd<UserItem>, APIHasDelete, APIHasUpdate<UserItem>,
+public class APIUser extends ConsoleAPI<UserItem> implements APIHasBulkAdd<UserItem>, APIHasDelete, APIHasBulkUpdate<UserItem>,
         APIHasGet<UserItem>, APIHasSearch<UserItem> {
 
-    /**
-     * Logger
-     */
-    private static final Logger LOGGER = Logger.getLogger(APIUser.class.getName());
-
     @Override
     protected ItemDefinition<UserItem> defineItemDefinition() {
         return UserDefinition.get();
@@ -83,36 +78,16 @@ public class APIUser extends ConsoleAPI<UserItem> implements APIHasAdd<UserItem>
     }
 
     private void checkPasswordRobustness(final String password) {
-        try {
-            final Class<?> validatorClass = Class.forName(getValidatorClassName());
-            Object instanceClass;
-            try {
-                instanceClass = validatorClass.newInstance();
-                final AbstractStringValidator validator = (AbstractStringValidator) instanceClass;
-                validator.setLocale(getLocale());
-                validator.check(password);
-                if (!validator.getErrors().isEmpty()) {
-                    throw new ValidationException(validator.getErrors());
-                }
-            } catch (final InstantiationException e) {
-                if (LOGGER.isLoggable(Level.SEVERE)) {
-                    LOGGER.log(Level.SEVERE, "Error while instanciating the class", e);
-                }
-                e.printStackTrace();
-            } catch (final IllegalAccessException e) {
-                if (LOGGER.isLoggable(Level.SEVERE)) {
-                    LOGGER.log(Level.SEVERE, "Illegal access with the file ", e);
-                }
-                e.printStackTrace();
-            }
-        } catch (final ClassNotFoundException e) {
-            if (LOGGER.isLoggable(Level.SEVERE)) {
-                LOGGER.log(Level.SEVERE, "Class not found", e);
-            }
-            e.printStackTrace();
+        final List<ValidationError> errors = getPasswordValidatorRegistry().validate(getValidatorClassName(), password, getLocale());
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
         }
     }
 
+    PasswordValidatorRegistry getPasswordValidatorRegistry() {
+        return PasswordValidatorRegistry.getInstance(getEngineSession().getTenantId());
+    }
+
     String getValidatorClassName() {
         return PropertiesFactory.getSecurityProperties(getEngineSession().getTenantId()).getPasswordValidator();
     }
@@ -164,6 +139,14 @@ public class APIUser extends ConsoleAPI<UserItem> implements APIHasAdd<UserItem>
         getUserDatastore().delete(ids);
     }
 
+    @Override
+    protected void fillDeploys(final List<UserItem> items, final List<String> deploys) {
+        final List<String> itemDeploys = new ArrayList<String>(deploys);
+        itemDeploys.removeAll(new BatchDeployHelper<UserItem>(getUserDatastore()).deployIn(items, deploys,
+                UserItem.ATTRIBUTE_MANAGER_ID, UserItem.ATTRIBUTE_CREATED_BY_USER_ID));
+        super.fillDeploys(items, itemDeploys);
+    }
+
     @Override
     protected void fillDeploys(final UserItem item, final List<String> deploys) {
         if (isDeployable(UserItem.ATTRIBUTE_MANAGER_ID, deploys, item)) {
@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.api.organization.password.validator;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.bonitasoft.console.common.server.utils.TenantRegistry;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationError;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.AbstractStringValidator;
+
+/**
+ * Per tenant registry of the password validator configured in the security configuration.<br>
+ * The validator class is resolved once, and again only when the configured class name changes. Validators keep their errors and locale,
+ * so each validation uses a new instance created from the resolved constructor.
+ */
+public class PasswordValidatorRegistry {
+
+    private static final Logger LOGGER = Logger.getLogger(PasswordValidatorRegistry.class.getName());
+
+    private static final TenantRegistry<PasswordValidatorRegistry> INSTANCES = new TenantRegistry<PasswordValidatorRegistry>() {
+
+        @Override
+        protected PasswordValidatorRegistry create(final long tenantId) {
+            return new PasswordValidatorRegistry();
+        }
+    };
+
+    private volatile ValidatorFactory validatorFactory;
+
+    public static PasswordValidatorRegistry getInstance(final long tenantId) {
+        return INSTANCES.get(tenantId);
+    }
+
+    /**
+     * @return the errors found by the validator, empty if the password is valid or if the validator cannot be instantiated
+     */
+    public List<ValidationError> validate(final String validatorClassName, final String password, final String locale) {
+        final AbstractStringValidator validator = getValidatorFactory(validatorClassName).newValidator();
+        if (validator == null) {
+            return Collections.emptyList();
+        }
+        validator.setLocale(locale);
+        validator.check(password);
+        return new ArrayList<ValidationError>(validator.getErrors());
+    }
+
+    private ValidatorFactory getValidatorFactory(final String validatorClassName) {
+        ValidatorFactory currentValidatorFactory = validatorFactory;
+        if (currentValidatorFactory == null || !currentValidatorFactory.isFactoryOf(validatorClassName)) {
+            currentValidatorFactory = new ValidatorFactory(validatorClassName);
+            validatorFactory = currentValidatorFactory;
+        }
+        return currentValidatorFactory;
+    }
+
+    private static class ValidatorFactory {
+
+        private final String className;
+
+        private final Constructor<? extends AbstractStringValidator> constructor;
+
+        ValidatorFactory(final String className) {
+            this.className = className;
+            constructor = resolveConstructor(className);
+        }
+
+        private static Constructor<? extends AbstractStringValidator> resolveConstructor(final String className) {
+            if (className == null) {
+                log("No password validator configured", null);
+                return null;
+            }
+            try {
+                return Class.forName(className).asSubclass(AbstractStringValidator.class).getConstructor();
+            } catch (final ClassNotFoundException e) {
+                log("Class not found", e);
+            } catch (final ClassCastException e) {
+                log("The password validator must extend " + AbstractStringValidator.class.getName(), e);
+            } catch (final NoSuchMethodException e) {
+                log("Error while instanciating the class", e);
+            }
+            return null;
+        }
+
+        boolean isFactoryOf(final String validatorClassName) {
+            return className == null ? validatorClassName == null : className.equals(validatorClassName);
+        }
+
+        AbstractStringValidator newValidator() {
+            if (constructor == null) {
+                return null;
+            }
+            try {
+                return constructor.newInstance();
+            } catch (final InstantiationException | InvocationTargetException e) {
+                log("Error while instanciating the class", e);
+            } catch (final IllegalAccessException e) {
+                log("Illegal access with the file ", e);
+            }
+            return null;
+        }
+
+        private static void log(final String message, final Exception e) {
+            if (LOGGER.isLoggable(Level.SEVERE)) {
+                LOGGER.log(Level.SEVERE, message, e);
+            }
+        }
+    }
+}
@@ -20,9 +20,11 @@ import java.util.List;
 import java.util.Map;
 
 import org.bonitasoft.console.common.server.preferences.constants.WebBonitaConstantsUtils;
+import org.bonitasoft.console.common.server.utils.ProfilePermissionsCache;
 import org.bonitasoft.engine.api.PageAPI;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
 import org.bonitasoft.engine.profile.ProfileEntry;
+import org.bonitasoft.livingapps.ApplicationModelCache;
 import org.bonitasoft.web.rest.model.portal.page.PageDefinition;
 import org.bonitasoft.web.rest.model.portal.page.PageItem;
 import org.bonitasoft.web.rest.model.portal.profile.ProfileEntryItem;
@@ -73,17 +75,32 @@ APIHasDelete {
 
     @Override
     public PageItem add(final PageItem item) {
-        return getPageDatastore().add(item);
+        final PageItem addedPage = getPageDatastore().add(item);
+        ApplicationModelCache.invalidate(getEngineSession().getTenantId());
+        clearProfilePermissionsCache();
+        return addedPage;
     }
 
     @Override
     public PageItem update(final APIID id, final Map<String, String> attributes) {
-        return getPageDatastore().update(id, attributes);
+        final PageItem updatedPage = getPageDatastore().update(id, attributes);
+        ApplicationModelCache.invalidate(getEngineSession().getTenantId());
+        clearProfilePermissionsCache();
+        return updatedPage;
     }
 
     @Override
     public void delete(final List<APIID> ids) {
         getPageDatastore().delete(ids);
+        ApplicationModelCache.invalidate(getEngineSession().getTenantId());
+        clearProfilePermissionsCache();
+    }
+
+    /**
+     * Pages give permissions to the profiles using them, permissions computed at login must be computed again
+     */
+    private void clearProfilePermissionsCache() {
+        ProfilePermissionsCache.getInstance(getEngineSession().getTenantId()).clear();
     }
 
     @Override
@@ -152,7 +169,7 @@ APIHasDelete {
     }
 
     @Override
-    protected void fillDeploys(final PageItem item, final List<String> deploys) {
+    protected void defineDeployers() {
         /*
          * Need to be done there and not in constructor
          * because need the engine session which is set
@@ -160,7 +177,6 @@ APIHasDelete {
          */
         addDeployer(getDeployerFactory().createUserDeployer(PageItem.ATTRIBUTE_CREATED_BY_USER_ID));
         addDeployer(getDeployerFactory().createUserDeployer(PageItem.ATTRIBUTE_UPDATED_BY_USER_ID));
-        super.fillDeploys(item, deploys);
     }
 
     protected DeployerFactory getDeployerFactory() {
@@ -20,6 +20,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import org.bonitasoft.console.common.server.utils.TenantsManagementUtils;
 import org.bonitasoft.engine.api.PlatformAPI;
 import org.bonitasoft.engine.api.PlatformAPIAccessor;
 import org.bonitasoft.engine.platform.Platform;
@@ -57,6 +58,7 @@ public class APIPlatform extends org.bonitasoft.web.rest.server.api.PlatformAPI<
             final PlatformAPI platformAPI = getPlatformAPI();
             if (!platformAPI.isPlatformCreated()) {
                 platformAPI.createAndInitializePlatform();
+                TenantsManagementUtils.clearDefaultTenantId();
             } else {
                 throw new APIException(new _("The platform already exist !"));
             }
@@ -127,6 +129,7 @@ public class APIPlatform extends org.bonitasoft.web.rest.server.api.PlatformAPI<
             final PlatformAPI platformAPI = getPlatformAPI();
             if (platformAPI.isPlatformCreated()) {
                 platformAPI.cleanAndDeletePlaftorm();
+                TenantsManagementUtils.clearDefaultTenantId();
                 // TODO delete tenant directories in bonita home client-side
             }
         } catch (final Exception e) {
@@ -14,8 +14,6 @@
  */
 package org.bonitasoft.web.rest.server.api.profile;
 
-import java.util.List;
-
 import org.bonitasoft.web.rest.model.portal.page.PageItem;
 import org.bonitasoft.web.rest.model.portal.profile.ProfileDefinition;
 import org.bonitasoft.web.rest.model.portal.profile.ProfileItem;
@@ -38,11 +36,9 @@ import org.bonitasoft.web.toolkit.client.data.item.ItemDefinition;
 public class APIProfile extends ConsoleAPI<ProfileItem> implements APIHasGet<ProfileItem>, APIHasSearch<ProfileItem> {
 
     @Override
-    protected void fillDeploys(ProfileItem item, List<String> deploys) {
+    protected void defineDeployers() {
         addDeployer(getDeployerFactory().createUserDeployer(PageItem.ATTRIBUTE_CREATED_BY_USER_ID));
         addDeployer(getDeployerFactory().createUserDeployer(PageItem.ATTRIBUTE_UPDATED_BY_USER_ID));
-        
-        super.fillDeploys(item, deploys);
     }
 
     protected DeployerFactory getDeployerFactory() {
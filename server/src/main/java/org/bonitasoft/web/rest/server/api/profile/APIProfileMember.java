@@ -29,8 +29,6 @@ import org.bonitasoft.web.rest.server.engineclient.ProfileMemberEngineClient;
 import org.bonitasoft.web.rest.server.framework.api.Datastore;
 import org.bonitasoft.web.toolkit.client.data.item.ItemDefinition;
 
-import java.util.List;
-
 /**
  * @author Nicolas Tith
  * @author Séverin Moussel
@@ -61,15 +59,13 @@ public class APIProfileMember extends AbstractAPIMember<ProfileMemberItem> {
     }
 
     @Override
-    protected void fillDeploys(final ProfileMemberItem item, final List<String> deploys) {
+    protected void defineDeployers() {
         /*
          * Need to be done there and not in constructor
          * because need the engine session which is set
          * by setter instead of being injected in API constructor...
          */
         addDeployer(getDeployerFactory().createProfileDeployer(ProfileMemberItem.ATTRIBUTE_PROFILE_ID));
-        super.fillDeploys(item, deploys);
-
     }
 
     protected DeployerFactory getDeployerFactory() {
@@ -38,9 +38,15 @@ import org.bonitasoft.web.rest.server.datastore.utils.Sorts;
 import org.bonitasoft.web.rest.server.framework.APIServletCall;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
 import org.restlet.data.CharacterSet;
+import org.restlet.data.Dimension;
+import org.restlet.data.Encoding;
 import org.restlet.data.Header;
+import org.restlet.data.MediaType;
+import org.restlet.data.Preference;
 import org.restlet.data.Status;
+import org.restlet.data.Tag;
 import org.restlet.ext.servlet.ServletUtils;
+import org.restlet.representation.ByteArrayRepresentation;
 import org.restlet.representation.Representation;
 import org.restlet.representation.Variant;
 import org.restlet.resource.ResourceException;
@@ -172,6 +178,34 @@ public class CommonResource extends ServerResource {
         return new Filters(getSearchFilters());
     }
 
+    /**
+     * Build the representation of a pre-serialized JSON content, using its gzipped version when the client accepts it.<br>
+     * The representation carries the payload entity tag, allowing Restlet to answer conditional requests.
+     */
+    protected Representation buildJsonRepresentation(final JsonPayload payload) {
+        getResponse().getDimensions().add(Dimension.ENCODING);
+        final Representation representation;
+        if (acceptsGzip()) {
+            representation = new ByteArrayRepresentation(payload.getGzippedJson(), MediaType.APPLICATION_JSON);
+            representation.getEncodings().add(Encoding.GZIP);
+            representation.setTag(new Tag(payload.getTag() + "-gzip", false));
+        } else {
+            representation = new ByteArrayRepresentation(payload.getJson(), MediaType.APPLICATION_JSON);
+            representation.setTag(new Tag(payload.getTag(), false));
+        }
+        representation.setCharacterSet(CharacterSet.UTF_8);
+        return representation;
+    }
+
+    private boolean acceptsGzip() {
+        for (final Preference<Encoding> acceptedEncoding : getRequest().getClientInfo().getAcceptedEncodings()) {
+            if (Encoding.GZIP.equals(acceptedEncoding.getMetadata()) && acceptedEncoding.getQuality() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     protected void doCatch(final Throwable throwable) {
         final Throwable t = throwable.getCause() != null ? throwable.getCause() : throwable;
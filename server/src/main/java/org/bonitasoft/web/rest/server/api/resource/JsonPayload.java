@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.api.resource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-serialized UTF-8 JSON content, kept along with its gzipped version and its entity tag so that it can be served again without any
+ * serialization.
+ */
+public class JsonPayload {
+
+    private final byte[] json;
+
+    private final byte[] gzippedJson;
+
+    private final String tag;
+
+    public JsonPayload(final byte[] json, final String tag) throws IOException {
+        this.json = json;
+        gzippedJson = gzip(json);
+        this.tag = tag;
+    }
+
+    private static byte[] gzip(final byte[] content) throws IOException {
+        final ByteArrayOutputStream gzippedContent = new ByteArrayOutputStream(content.length / 4 + 32);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(gzippedContent)) {
+            gzipOutputStream.write(content);
+        }
+        return gzippedContent.toByteArray();
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzippedJson() {
+        return gzippedJson;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * @return the number of bytes kept in memory
+     */
+    public long getSize() {
+        return json.length + gzippedJson.length;
+    }
+}
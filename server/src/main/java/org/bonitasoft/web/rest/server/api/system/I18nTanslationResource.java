@@ -14,17 +14,16 @@
 
 package org.bonitasoft.web.rest.server.api.system;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
 
 import org.bonitasoft.console.common.server.i18n.I18n;
-import org.bonitasoft.engine.command.CommandExecutionException;
-import org.bonitasoft.engine.command.CommandNotFoundException;
-import org.bonitasoft.engine.command.CommandParameterizationException;
 import org.bonitasoft.web.rest.server.api.resource.CommonResource;
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
+import org.restlet.data.CacheDirective;
 import org.restlet.data.Status;
+import org.restlet.representation.Representation;
 import org.restlet.resource.Get;
 
 /**
@@ -32,28 +31,38 @@ import org.restlet.resource.Get;
  */
 public class I18nTanslationResource extends CommonResource {
 
-    private I18n i18n;
+    /**
+     * Catalogs only change when the server is restarted, browsers revalidate them with their entity tag once this delay is over
+     */
+    static final int MAX_AGE_IN_SECONDS = 24 * 60 * 60;
 
-    public I18nTanslationResource(I18n i18n) {
+    private final I18n i18n;
+
+    private final I18nTranslationCache translationCache;
+
+    public I18nTanslationResource(final I18n i18n) {
+        this(i18n, new I18nTranslationCache());
+    }
+
+    public I18nTanslationResource(final I18n i18n, final I18nTranslationCache translationCache) {
         this.i18n = i18n;
+        this.translationCache = translationCache;
     }
 
     @Get("json")
-    public List<Translation> getI18nTanslation() throws CommandNotFoundException, CommandExecutionException, CommandParameterizationException {
-        List<Translation> items = new ArrayList<>();
-
-        String locale = getLocale();
+    public Representation getI18nTanslation() throws IOException {
+        final String locale = getLocale();
         if (locale == null) {
             getResponse().setStatus(Status.CLIENT_ERROR_BAD_REQUEST, "Request should contains 'locale' parameter.");
             return null;
         }
-        Map<String, String> translations = i18n.getLocale(AbstractI18n.stringToLocale(locale));
-
-        for (final Map.Entry<String, String> entry : translations.entrySet()) {
-            items.add(new Translation(entry.getKey(), entry.getValue()));
+        final AbstractI18n.LOCALE i18nLocale = AbstractI18n.stringToLocale(locale);
+        Map<String, String> catalog = i18n.getLocale(i18nLocale);
+        if (catalog == null) {
+            catalog = Collections.emptyMap();
         }
-
-        return items;
+        getResponse().getCacheDirectives().add(CacheDirective.maxAge(MAX_AGE_IN_SECONDS));
+        return buildJsonRepresentation(translationCache.getTranslations(i18nLocale, catalog));
     }
 
     private String getLocale() {
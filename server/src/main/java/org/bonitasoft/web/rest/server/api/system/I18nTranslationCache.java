@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.api.system;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.bonitasoft.web.rest.server.api.resource.JsonPayload;
+import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.LOCALE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Cache of the serialized translations of each locale.<br>
+ * A payload is built once for each loaded catalog: it is built again only when the locale is reloaded, I18n then providing a new catalog.
+ */
+public class I18nTranslationCache {
+
+    private static final I18nTranslationCache INSTANCE = new I18nTranslationCache();
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ConcurrentMap<LOCALE, CachedTranslations> translations = new ConcurrentHashMap<LOCALE, CachedTranslations>();
+
+    public static I18nTranslationCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param locale
+     *        the locale of the catalog, null if the catalog is not the one of a known locale (in which case it is not cached)
+     * @param catalog
+     *        the translations of the locale as currently loaded by I18n
+     */
+    public JsonPayload getTranslations(final LOCALE locale, final Map<String, String> catalog) throws IOException {
+        if (locale == null) {
+            return buildPayload(catalog);
+        }
+        CachedTranslations cachedTranslations = translations.get(locale);
+        if (cachedTranslations == null || cachedTranslations.catalog != catalog) {
+            cachedTranslations = new CachedTranslations(catalog, buildPayload(catalog));
+            translations.put(locale, cachedTranslations);
+        }
+        return cachedTranslations.payload;
+    }
+
+    private JsonPayload buildPayload(final Map<String, String> catalog) throws IOException {
+        final List<Translation> items = new ArrayList<>(catalog.size());
+        for (final Map.Entry<String, String> entry : catalog.entrySet()) {
+            items.add(new Translation(entry.getKey(), entry.getValue()));
+        }
+        final byte[] json = OBJECT_MAPPER.writeValueAsBytes(items);
+        return new JsonPayload(json, SHA1Generator.getStringFromBytes(sha1(json)));
+    }
+
+    private byte[] sha1(final byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(content);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedTranslations {
+
+        private final Map<String, String> catalog;
+
+        private final JsonPayload payload;
+
+        CachedTranslations(final Map<String, String> catalog, final JsonPayload payload) {
+            this.catalog = catalog;
+            this.payload = payload;
+        }
+    }
+}
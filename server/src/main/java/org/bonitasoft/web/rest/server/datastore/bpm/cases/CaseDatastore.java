@@ -39,6 +39,7 @@ import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
 import org.bonitasoft.web.toolkit.client.common.util.MapUtil;
 import org.bonitasoft.web.toolkit.client.data.APIID;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -62,6 +63,45 @@ DatastoreHasDelete, DatastoreHasAdd<CaseItem> {
         return search(0, 0, search, orders, filters).getTotal();
     }
 
+    /**
+     * Count with a single search the cases of several processes matching the filters of a process by process count.
+     *
+     * @param filters
+     *        the filters of the process by process count, without the process id
+     * @return for each process id, its number of matching cases, or null if more than maxResults cases match. In that case they have to be
+     *         counted process by process.
+     */
+    public Map<Long, Long> countByProcess(final List<Long> processIds, final Map<String, String> filters, final int maxResults) {
+        try {
+            final SearchOptionsBuilder builder = buildSearchOptions(0, maxResults, null, null, filters);
+            builder.leftParenthesis();
+            for (int i = 0; i < processIds.size(); i++) {
+                if (i > 0) {
+                    builder.or();
+                }
+                builder.filter(ProcessInstanceSearchDescriptor.PROCESS_DEFINITION_ID, processIds.get(i));
+            }
+            builder.rightParenthesis();
+            final SearchResult<ProcessInstance> result = searchProcessInstances(filters, builder.done());
+            if (result.getCount() > maxResults) {
+                return null;
+            }
+            final Map<Long, Long> counters = new HashMap<Long, Long>();
+            for (final Long processId : processIds) {
+                counters.put(processId, 0L);
+            }
+            for (final ProcessInstance processInstance : result.getResult()) {
+                final Long count = counters.get(processInstance.getProcessDefinitionId());
+                if (count != null) {
+                    counters.put(processInstance.getProcessDefinitionId(), count + 1);
+                }
+            }
+            return counters;
+        } catch (final Exception e) {
+            throw new APIException(e);
+        }
+    }
+
     /**
      * convenience for stubbing during unit test
      *
@@ -16,7 +16,14 @@
  */
 package org.bonitasoft.web.rest.server.datastore.bpm.flownode;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.bonitasoft.engine.bpm.flownode.FlowNodeInstance;
+import org.bonitasoft.engine.bpm.flownode.FlowNodeInstanceSearchDescriptor;
+import org.bonitasoft.engine.search.SearchOptionsBuilder;
+import org.bonitasoft.engine.search.SearchResult;
 import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.web.rest.model.bpm.flownode.FlowNodeItem;
 
@@ -29,4 +36,39 @@ public class FlowNodeDatastore extends AbstractFlowNodeDatastore<FlowNodeItem, F
     public FlowNodeDatastore(final APISession engineSession) {
         super(engineSession);
     }
+
+    /**
+     * Count with a single search the flow nodes of several parent cases matching the filters of a case by case count.
+     *
+     * @param filters
+     *        the filters of the case by case count, without the parent case id
+     * @return for each parent case id, its number of matching flow nodes, or null if more than maxResults flow nodes match. In that case they
+     *         have to be counted case by case.
+     */
+    public Map<Long, Long> countByParentCase(final List<Long> parentCaseIds, final Map<String, String> filters, final int maxResults) {
+        final SearchOptionsBuilder builder = makeSearchOptionBuilder(0, maxResults, null, null, filters);
+        builder.leftParenthesis();
+        for (int i = 0; i < parentCaseIds.size(); i++) {
+            if (i > 0) {
+                builder.or();
+            }
+            builder.filter(FlowNodeInstanceSearchDescriptor.PARENT_PROCESS_INSTANCE_ID, parentCaseIds.get(i));
+        }
+        builder.rightParenthesis();
+        final SearchResult<FlowNodeInstance> result = runSearch(builder, filters);
+        if (result.getCount() > maxResults) {
+            return null;
+        }
+        final Map<Long, Long> counters = new HashMap<Long, Long>();
+        for (final Long parentCaseId : parentCaseIds) {
+            counters.put(parentCaseId, 0L);
+        }
+        for (final FlowNodeInstance flowNode : result.getResult()) {
+            final Long count = counters.get(flowNode.getParentProcessInstanceId());
+            if (count != null) {
+                counters.put(flowNode.getParentProcessInstanceId(), count + 1);
+            }
+        }
+        return counters;
+    }
 }
@@ -16,6 +16,9 @@ package org.bonitasoft.web.rest.server.datastore.bpm.process;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -26,6 +29,7 @@ import org.bonitasoft.console.common.server.preferences.properties.Configuration
 import org.bonitasoft.console.common.server.preferences.properties.PropertiesFactory;
 import org.bonitasoft.console.common.server.utils.BPMEngineException;
 import org.bonitasoft.console.common.server.utils.BonitaHomeFolderAccessor;
+import org.bonitasoft.console.common.server.utils.ContractDefinitionCache;
 import org.bonitasoft.console.common.server.utils.FormsResourcesUtils;
 import org.bonitasoft.console.common.server.utils.PlatformManagementUtils;
 import org.bonitasoft.console.common.server.utils.UnauthorizedFolderException;
@@ -43,6 +47,7 @@ import org.bonitasoft.engine.search.SearchOptionsBuilder;
 import org.bonitasoft.engine.search.SearchResult;
 import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.web.rest.model.bpm.process.ProcessItem;
+import org.bonitasoft.web.rest.server.api.bpm.process.ProcessDefinitionDesignCache;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
 import org.bonitasoft.web.rest.server.datastore.bpm.process.helper.ProcessItemConverter;
 import org.bonitasoft.web.rest.server.datastore.bpm.process.helper.SearchProcessHelper;
@@ -51,7 +56,7 @@ import org.bonitasoft.web.rest.server.engineclient.EngineClientFactory;
 import org.bonitasoft.web.rest.server.engineclient.ProcessEngineClient;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasAdd;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasDelete;
-import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGet;
+import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGetByIds;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasSearch;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasUpdate;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
@@ -67,7 +72,7 @@ import org.bonitasoft.web.toolkit.client.data.APIID;
 public class ProcessDatastore extends CommonDatastore<ProcessItem, ProcessDeploymentInfo> implements
         DatastoreHasAdd<ProcessItem>,
         DatastoreHasUpdate<ProcessItem>,
-        DatastoreHasGet<ProcessItem>,
+        DatastoreHasGetByIds<ProcessItem>,
         DatastoreHasSearch<ProcessItem>,
         DatastoreHasDelete {
 
@@ -188,13 +193,26 @@ public class ProcessDatastore extends CommonDatastore<ProcessItem, ProcessDeploy
         return convertEngineToConsoleItem(processDeploymentInfo);
     }
 
+    @Override
+    public Map<APIID, ProcessItem> getByIds(final Collection<APIID> ids) {
+        final Map<APIID, ProcessItem> processes = new HashMap<>();
+        final ProcessEngineClient engineClient = getProcessEngineClient();
+        for (final ProcessDeploymentInfo processDeploymentInfo : engineClient.getProcessDeploymentInfos(APIID.toLongList(new ArrayList<APIID>(ids))).values()) {
+            processes.put(APIID.makeAPIID(processDeploymentInfo.getProcessId()), convertEngineToConsoleItem(processDeploymentInfo));
+        }
+        return processes;
+    }
+
     @Override
     public void delete(final List<APIID> ids) {
         for (final APIID id : ids) {
             removeProcessPagesFromHome(id);
         }
         final ProcessEngineClient engineClient = getProcessEngineClient();
-        engineClient.deleteDisabledProcesses(APIID.toLongList(ids));
+        final List<Long> processDefinitionIds = APIID.toLongList(ids);
+        engineClient.deleteDisabledProcesses(processDefinitionIds);
+        ContractDefinitionCache.getInstance(getEngineSession().getTenantId()).removeProcessContracts(processDefinitionIds);
+        ProcessDefinitionDesignCache.getInstance(getEngineSession().getTenantId()).removeDesigns(processDefinitionIds);
     }
 
     protected void removeProcessPagesFromHome(final APIID id) {
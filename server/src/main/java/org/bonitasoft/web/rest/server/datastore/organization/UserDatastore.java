@@ -14,6 +14,9 @@
  */
 package org.bonitasoft.web.rest.server.datastore.organization;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -33,7 +36,7 @@ import org.bonitasoft.web.rest.server.engineclient.EngineAPIAccessor;
 import org.bonitasoft.web.rest.server.engineclient.EngineClientFactory;
 import org.bonitasoft.web.rest.server.engineclient.ProcessEngineClient;
 import org.bonitasoft.web.rest.server.engineclient.UserEngineClient;
-import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGet;
+import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGetByIds;
 import org.bonitasoft.web.rest.server.framework.exception.APIAttributeException;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
@@ -43,7 +46,7 @@ import org.bonitasoft.web.toolkit.client.data.APIID;
  * @author Séverin Moussel
  */
 public class UserDatastore extends CommonDatastore<UserItem, User>
-        implements DatastoreHasGet<UserItem> {
+        implements DatastoreHasGetByIds<UserItem> {
 
     protected EngineClientFactory engineClientFactory;
 
@@ -81,6 +84,15 @@ public class UserDatastore extends CommonDatastore<UserItem, User>
         return userItemConverter.convert(user);
     }
 
+    @Override
+    public Map<APIID, UserItem> getByIds(final Collection<APIID> ids) {
+        final Map<APIID, UserItem> users = new HashMap<>();
+        for (final User user : getUserEngineClient().get(APIID.toLongList(new ArrayList<APIID>(ids))).values()) {
+            users.put(APIID.makeAPIID(user.getId()), userItemConverter.convert(user));
+        }
+        return users;
+    }
+
     /**
      * Search for users
      *
@@ -22,9 +22,11 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 import org.bonitasoft.console.common.server.utils.UnauthorizedFolderException;
@@ -62,6 +64,8 @@ public abstract class API<ITEM extends IItem> {
 
     private final Map<String, Deployer> deployers = new HashMap<>();
 
+    private boolean deployersDefined = false;
+
     private static Logger LOGGER = Logger.getLogger(API.class.getName());
 
     // //////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -188,6 +192,96 @@ public abstract class API<ITEM extends IItem> {
 
     }
 
+    /**
+     * Add a chunk of a bulk request. Each item is added on its own so that a failure is only reported on the item that caused it.<br>
+     * Override this method when the engine is able to create several items at once.
+     *
+     * @return the outcome of each item, in the order of the given items
+     */
+    public List<BulkItemResult> runAddAll(final List<IItem> items) {
+        final List<BulkItemResult> results = new ArrayList<>(items.size());
+        for (final IItem item : items) {
+            try {
+                results.add(BulkItemResult.success(runAdd(item)));
+            } catch (final RuntimeException e) {
+                results.add(bulkItemFailure(e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Update a chunk of a bulk request. Each item holds the id of the item to update and the attributes to set.
+     *
+     * @return the outcome of each item, in the order of the given items
+     */
+    public List<BulkItemResult> runUpdateAll(final List<IItem> items) {
+        final List<BulkItemResult> results = new ArrayList<>(items.size());
+        final List<String> primaryKeys = getItemDefinition().getPrimaryKeys();
+        for (final IItem item : items) {
+            final APIID id = getIdOfItemToUpdate(item);
+            if (id == null) {
+                results.add(BulkItemResult.failure(HttpServletResponse.SC_BAD_REQUEST, "Id of the item to update is missing"));
+                continue;
+            }
+            final Map<String, String> attributes = getAttributesWithDeploysAsJsonString(item);
+            attributes.keySet().removeAll(primaryKeys);
+            attributes.remove(ItemHasUniqueId.ATTRIBUTE_ID);
+            try {
+                results.add(BulkItemResult.success(runUpdate(id, attributes)));
+            } catch (final RuntimeException e) {
+                results.add(bulkItemFailure(e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @return the id of the item to update held by an item of a bulk update request, null if one of its parts is missing
+     */
+    public static APIID getIdOfItemToUpdate(final IItem item) {
+        final ItemDefinition<?> itemDefinition = item.getItemDefinition();
+        List<String> idAttributes = itemDefinition.getPrimaryKeys();
+        if (item instanceof ItemHasUniqueId || idAttributes.isEmpty()) {
+            idAttributes = Collections.singletonList(ItemHasUniqueId.ATTRIBUTE_ID);
+        }
+        final List<String> ids = new ArrayList<>(idAttributes.size());
+        for (final String idAttribute : idAttributes) {
+            final String id = item.getAttributeValue(idAttribute);
+            if (id == null || id.isEmpty()) {
+                return null;
+            }
+            ids.add(id);
+        }
+        final APIID apiId = APIID.makeAPIID(ids);
+        if (apiId != null) {
+            apiId.setItemDefinition(itemDefinition);
+        }
+        return apiId;
+    }
+
+    protected BulkItemResult bulkItemFailure(final RuntimeException e) {
+        final BulkItemResult result = BulkItemResult.failure(e);
+        if (result.getStatus() == HttpServletResponse.SC_INTERNAL_SERVER_ERROR && LOGGER.isLoggable(Level.SEVERE)) {
+            LOGGER.log(Level.SEVERE, e.getMessage(), e);
+        }
+        return result;
+    }
+
+    /**
+     * Get deploys and add them in json representation in map<String, String>
+     * Workaround to be able to have included json objects in main object in PUT request
+     * You have to unserialize them to be able to use them in java representation
+     */
+    static HashMap<String, String> getAttributesWithDeploysAsJsonString(final IItem item) {
+        final HashMap<String, String> map = new HashMap<String, String>();
+        map.putAll(item.getAttributes());
+        for (final Entry<String, IItem> deploy : item.getDeploys().entrySet()) {
+            map.put(deploy.getKey(), deploy.getValue().toJson());
+        }
+        return map;
+    }
+
     public ITEM runGet(final APIID id, final List<String> deploys, final List<String> counters) {
         // FIXME Activate at end of APIs refactoring
         // if (!(this instanceof APIHasGet)) {
@@ -239,10 +333,8 @@ public abstract class API<ITEM extends IItem> {
 
         final ItemSearchResult<ITEM> searchResult = search(page, resultsByPage, search, realOrders, filters != null ? filters : new HashMap<String, String>());
 
-        for (final ITEM item : searchResult.getResults()) {
-            fillDeploys(item, deploys != null ? deploys : new ArrayList<String>());
-            fillCounters(item, counters != null ? counters : new ArrayList<String>());
-        }
+        fillDeploys(searchResult.getResults(), deploys != null ? deploys : new ArrayList<String>());
+        fillCounters(searchResult.getResults(), counters != null ? counters : new ArrayList<String>());
 
         return searchResult;
     }
@@ -422,12 +514,59 @@ public abstract class API<ITEM extends IItem> {
         return Collections.unmodifiableMap(deployers);
     }
 
+    /**
+     * Override this method to register the deployers of this API using {@link #addDeployer(Deployer)}.<br>
+     * It is called once, before the first deploy, as deployers usually need the engine session of the caller.
+     */
+    protected void defineDeployers() {
+        // Do Nothing if not override
+    }
+
+    private void ensureDeployersDefined() {
+        if (!deployersDefined) {
+            deployersDefined = true;
+            defineDeployers();
+        }
+    }
+
     protected void fillDeploys(final ITEM item, final List<String> deploys) {
+        ensureDeployersDefined();
         for (final String attribute : deploys) {
             deployAttribute(attribute, item);
         }
     }
 
+    /**
+     * Fill the deploys of a whole page of items.<br>
+     * Attributes handled by a {@link BatchDeployer} are deployed for all the items at once, the other ones are deployed item by item using
+     * {@link #fillDeploys(IItem, List)}. Override this method to batch deploys that are not handled by deployers.
+     */
+    protected void fillDeploys(final List<ITEM> items, final List<String> deploys) {
+        ensureDeployersDefined();
+        final List<String> itemDeploys = new ArrayList<>(deploys);
+        for (final String attribute : deploys) {
+            final Deployer deployer = deployers.get(attribute);
+            if (deployer instanceof BatchDeployer) {
+                deployAttribute(attribute, (BatchDeployer) deployer, items);
+                itemDeploys.remove(attribute);
+            }
+        }
+        for (final ITEM item : items) {
+            fillDeploys(item, itemDeploys);
+        }
+    }
+
+    private void deployAttribute(final String attribute, final BatchDeployer deployer, final List<ITEM> items) {
+        try {
+            deployer.deployIn(items);
+        } catch (final Exception e) {
+            // fall back on item by item deploy to only skip the failing items
+            for (final ITEM item : items) {
+                deployAttribute(attribute, item);
+            }
+        }
+    }
+
     private void deployAttribute(final String attribute, final ITEM item) {
         if (deployers.containsKey(attribute)) {
             try {
@@ -450,6 +589,17 @@ public abstract class API<ITEM extends IItem> {
         // Do Nothing if not override
     }
 
+    /**
+     * Fill the counters of a whole page of items.<br>
+     * By default counters are filled item by item using {@link #fillCounters(IItem, List)}. Override this method to compute the counters of all
+     * the items with a bounded number of engine calls.
+     */
+    protected void fillCounters(final List<ITEM> items, final List<String> counters) {
+        for (final ITEM item : items) {
+            fillCounters(item, counters);
+        }
+    }
+
     /**
      * @param attributeName
      * @param deploys
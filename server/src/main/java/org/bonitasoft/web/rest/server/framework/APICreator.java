@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.framework;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
+
+/**
+ * Create a new {@link API} instance for each call of a resource.<br>
+ * Creators are registered once in a {@link RestAPIFactory} routing table, so that resolving a resource does not require to look it up again
+ * for each request.
+ */
+public abstract class APICreator {
+
+    public abstract API<? extends IItem> create();
+
+    /**
+     * Creator using the public no-arg constructor of an API class. The constructor is resolved once, when the creator is built.
+     */
+    public static APICreator of(final Class<? extends API<? extends IItem>> apiClass) {
+        final Constructor<? extends API<? extends IItem>> constructor;
+        try {
+            constructor = apiClass.getConstructor();
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalArgumentException(apiClass.getName() + " must have a public no-arg constructor", e);
+        }
+        return new APICreator() {
+
+            @Override
+            public API<? extends IItem> create() {
+                try {
+                    return constructor.newInstance();
+                } catch (final InvocationTargetException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new APIException(e.getCause());
+                } catch (final ReflectiveOperationException e) {
+                    throw new APIException(e);
+                }
+            }
+        };
+    }
+
+}
@@ -20,7 +20,6 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.TimeZone;
 import java.util.logging.Logger;
 
@@ -28,19 +27,27 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.bonitasoft.console.common.server.i18n.I18n;
+import org.bonitasoft.console.common.server.preferences.properties.PropertiesFactory;
+import org.bonitasoft.console.common.server.utils.SessionUtil;
+import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.web.rest.server.framework.api.APIHasBulkAdd;
+import org.bonitasoft.web.rest.server.framework.api.APIHasBulkUpdate;
 import org.bonitasoft.web.rest.server.framework.exception.APIMissingIdException;
 import org.bonitasoft.web.rest.server.framework.json.JSonSimpleDeserializer;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.rest.server.framework.utils.RestRequestParser;
+import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
 import org.bonitasoft.web.toolkit.client.common.AbstractTreeNode;
 import org.bonitasoft.web.toolkit.client.common.Tree;
 import org.bonitasoft.web.toolkit.client.common.TreeLeaf;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
+import org.bonitasoft.web.toolkit.client.common.exception.api.APIMethodNotAllowedException;
 import org.bonitasoft.web.toolkit.client.common.json.JSonItemReader;
 import org.bonitasoft.web.toolkit.client.common.json.JSonItemWriter;
 import org.bonitasoft.web.toolkit.client.data.APIID;
 import org.bonitasoft.web.toolkit.client.data.item.IItem;
-import org.bonitasoft.web.toolkit.client.data.item.Item;
+import org.bonitasoft.web.toolkit.client.data.item.ItemDefinition;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationException;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidatorEngine;
 import org.bonitasoft.web.toolkit.server.ServletCall;
 
@@ -120,13 +127,85 @@ public class APIServletCall extends ServletCall {
      * Read the inputStream and parse it as an IItem compatible with the called API.
      */
     private IItem getJSonStreamAsItem() {
-        final IItem item = JSonItemReader.parseItem(getInputStream(), api.getItemDefinition());
+        final IItem item = JSonItemReader.parseItem(getInputStream(), getRequestItemDefinition());
 
         ValidatorEngine.validate(item, false);
 
         return item;
     }
 
+    /**
+     * The item definitions of the APIs are shared by all the requests while validators keep the state of their last check. The items of a
+     * request are therefore parsed and validated with a new instance of the item definition, holding validators of their own.
+     */
+    private ItemDefinition<?> getRequestItemDefinition() {
+        final ItemDefinition<?> apiItemDefinition = api.getItemDefinition();
+        final ItemDefinition<?> itemDefinition = ItemDefinitionFactory.getDefaultFactory().defineItemDefinitions(apiItemDefinition.getToken());
+        if (itemDefinition == null || itemDefinition.getClass() != apiItemDefinition.getClass()) {
+            return apiItemDefinition;
+        }
+        return itemDefinition;
+    }
+
+    /**
+     * A JSON array sent to an API without id in the URL is a bulk request
+     */
+    private boolean isBulkRequest() {
+        final String inputStream = getInputStream();
+        for (int i = 0; i < inputStream.length(); i++) {
+            final char c = inputStream.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '[';
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parse and validate all the items of the request before submitting the valid ones to the API by chunks.
+     *
+     * @return the outcome of each item of the request, in the order of the request
+     */
+    private List<Map<String, Object>> runBulk(final boolean update) {
+        final List<? extends IItem> items = JSonItemReader.parseItems(getInputStream(), getRequestItemDefinition(), false);
+        final BulkItemResult[] results = new BulkItemResult[items.size()];
+
+        final List<Integer> validIndexes = new ArrayList<Integer>(items.size());
+        final List<IItem> validItems = new ArrayList<IItem>(items.size());
+        int index = 0;
+        for (final IItem item : items) {
+            try {
+                ValidatorEngine.validate(item, false);
+                validIndexes.add(index);
+                validItems.add(item);
+            } catch (final ValidationException e) {
+                results[index] = BulkItemResult.failure(e);
+            }
+            index++;
+        }
+
+        final int chunkSize = getBulkChunkSize();
+        for (int from = 0; from < validItems.size(); from += chunkSize) {
+            final int to = Math.min(from + chunkSize, validItems.size());
+            final List<IItem> chunk = validItems.subList(from, to);
+            final List<BulkItemResult> chunkResults = update ? api.runUpdateAll(chunk) : api.runAddAll(chunk);
+            for (int i = 0; i < chunkResults.size(); i++) {
+                results[validIndexes.get(from + i)] = chunkResults.get(i);
+            }
+        }
+
+        final List<Map<String, Object>> output = new ArrayList<Map<String, Object>>(results.length);
+        for (int i = 0; i < results.length; i++) {
+            output.add(results[i].toJsonMap(i));
+        }
+        return output;
+    }
+
+    int getBulkChunkSize() {
+        final APISession apiSession = (APISession) getHttpSession().getAttribute(SessionUtil.API_SESSION_PARAM_KEY);
+        return PropertiesFactory.getConsoleProperties(apiSession.getTenantId()).getBulkChunkSize();
+    }
+
     /**
      * Read elements form the request
      * <ul>
@@ -209,6 +288,14 @@ public class APIServletCall extends ServletCall {
     @Override
     public final void doPost() {
         try {
+            if (isBulkRequest()) {
+                if (!(api instanceof APIHasBulkAdd<?>)) {
+                    throw new APIMethodNotAllowedException("Bulk POST method not allowed.");
+                }
+                output(runBulk(false));
+                return;
+            }
+
             final IItem jSonStreamAsItem = getJSonStreamAsItem();
             final IItem outputItem = api.runAdd(jSonStreamAsItem);
 
@@ -227,6 +314,14 @@ public class APIServletCall extends ServletCall {
     @Override
     public final void doPut() {
         try {
+            if (id == null && isBulkRequest()) {
+                if (!(api instanceof APIHasBulkUpdate<?>)) {
+                    throw new APIMethodNotAllowedException("Bulk PUT method not allowed.");
+                }
+                output(runBulk(true));
+                return;
+            }
+
             if (id == null) {
                 throw new APIMissingIdException(getRequestURL());
             }
@@ -237,9 +332,8 @@ public class APIServletCall extends ServletCall {
                 return;
             }
 
-            Item.setApplyValidatorMandatoryByDefault(false);
             final IItem item = getJSonStreamAsItem();
-            api.runUpdate(id, getAttributesWithDeploysAsJsonString(item));
+            api.runUpdate(id, API.getAttributesWithDeploysAsJsonString(item));
         } catch (final APIException e) {
             e.setApi(apiName);
             e.setResource(resourceName);
@@ -248,20 +342,6 @@ public class APIServletCall extends ServletCall {
         }
     }
 
-    /**
-     * Get deploys and add them in json representation in map<String, String>
-     * Workaround to be able to have included json objects in main object in PUT request
-     * You have to unserialize them to be able to use them in java representation
-     */
-    private HashMap<String, String> getAttributesWithDeploysAsJsonString(final IItem item) {
-        final HashMap<String, String> map = new HashMap<String, String>();
-        map.putAll(item.getAttributes());
-        for (final Entry<String, IItem> deploy : item.getDeploys().entrySet()) {
-            map.put(deploy.getKey(), deploy.getValue().toJson());
-        }
-        return map;
-    }
-
     /**
      * Entry point for DELETE
      */
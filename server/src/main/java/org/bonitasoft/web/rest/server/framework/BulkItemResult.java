@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.framework;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.bonitasoft.web.rest.server.framework.exception.APIAttributesException;
+import org.bonitasoft.web.toolkit.client.common.exception.api.APIForbiddenException;
+import org.bonitasoft.web.toolkit.client.common.exception.api.APIItemNotFoundException;
+import org.bonitasoft.web.toolkit.client.common.exception.api.APIMethodNotAllowedException;
+import org.bonitasoft.web.toolkit.client.common.exception.api.APINotFoundException;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationException;
+
+/**
+ * Outcome of one item of a bulk add or update.<br>
+ * A failed item carries the HTTP status the same request would have got for this single item.
+ */
+public class BulkItemResult {
+
+    private final int status;
+
+    private final IItem item;
+
+    private final String message;
+
+    private BulkItemResult(final int status, final IItem item, final String message) {
+        this.status = status;
+        this.item = item;
+        this.message = message;
+    }
+
+    public static BulkItemResult success(final IItem item) {
+        return new BulkItemResult(HttpServletResponse.SC_OK, item, null);
+    }
+
+    public static BulkItemResult failure(final int status, final String message) {
+        return new BulkItemResult(status, null, message);
+    }
+
+    public static BulkItemResult failure(final Throwable exception) {
+        return failure(getStatus(exception), exception.getMessage());
+    }
+
+    private static int getStatus(final Throwable exception) {
+        if (exception instanceof ValidationException || exception instanceof APIAttributesException) {
+            return HttpServletResponse.SC_BAD_REQUEST;
+        } else if (exception instanceof APIMethodNotAllowedException) {
+            return HttpServletResponse.SC_METHOD_NOT_ALLOWED;
+        } else if (exception instanceof APINotFoundException || exception instanceof APIItemNotFoundException) {
+            return HttpServletResponse.SC_NOT_FOUND;
+        } else if (exception instanceof APIForbiddenException) {
+            return HttpServletResponse.SC_FORBIDDEN;
+        }
+        return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+    }
+
+    public boolean isSuccessful() {
+        return status == HttpServletResponse.SC_OK;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public IItem getItem() {
+        return item;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * @return the JSON representation of this result for the item at the given index of the request
+     */
+    public Map<String, Object> toJsonMap(final int index) {
+        final Map<String, Object> json = new LinkedHashMap<String, Object>();
+        json.put("index", index);
+        json.put("status", status);
+        if (isSuccessful()) {
+            json.put("item", item);
+        } else {
+            json.put("message", message);
+        }
+        return json;
+    }
+}
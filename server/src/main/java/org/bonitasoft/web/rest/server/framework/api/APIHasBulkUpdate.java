@@ -0,0 +1,26 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.framework.api;
+
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
+
+/**
+ * An API accepting a JSON array of items on PUT without id in the URL. Each item holds the id of the item to update.<br>
+ * The items are validated all together, then updated by chunks through
+ * {@link org.bonitasoft.web.rest.server.framework.API#runUpdateAll(java.util.List)} and the outcome of each item is reported in the response.
+ */
+public interface APIHasBulkUpdate<T extends IItem> extends APIHasUpdate<T> {
+
+}
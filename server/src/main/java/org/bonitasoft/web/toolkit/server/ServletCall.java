@@ -37,7 +37,7 @@ import javax.servlet.http.HttpSession;
 
 import org.apache.commons.io.IOUtils;
 import org.bonitasoft.web.toolkit.client.common.exception.http.ServerException;
-import org.bonitasoft.web.toolkit.client.common.json.JSonSerializer;
+import org.bonitasoft.web.toolkit.server.utils.JSonStreamSerializer;
 import org.bonitasoft.web.toolkit.server.utils.LocaleUtils;
 
 /**
@@ -321,12 +321,14 @@ public abstract class ServletCall {
      * Write into the output
      *
      * @param object
-     *            An object that will be transform into JSon
+     *            An object that will be transform into JSon and streamed to the response writer
      */
     protected void output(final Object object) {
-        final PrintWriter outputWriter = getOutputWriter();
-        outputWriter.print(JSonSerializer.serialize(object));
-        outputWriter.flush();
+        try {
+            new JSonStreamSerializer(getOutputWriter()).serialize(object);
+        } catch (final IOException e) {
+            throw new ServerException(e);
+        }
     }
 
     /**
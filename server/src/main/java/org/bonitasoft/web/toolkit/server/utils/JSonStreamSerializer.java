@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.toolkit.server.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Map;
+
+import org.bonitasoft.web.toolkit.client.common.json.JSonSerializer;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
+import org.bonitasoft.web.toolkit.client.data.item.Item;
+
+/**
+ * Server side counterpart of {@link JSonSerializer} writing the JSON directly into a {@link Writer}.<br>
+ * The produced characters are exactly the ones {@link JSonSerializer#serialize(Object)} would return, but collections, maps and items are never
+ * materialized as one big String.
+ */
+public class JSonStreamSerializer {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Writer writer;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private int position = 0;
+
+    public JSonStreamSerializer(final Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Serialize an object and flush the internal buffer into the underlying writer.
+     */
+    public void serialize(final Object object) throws IOException {
+        write(object);
+        flush();
+    }
+
+    public void flush() throws IOException {
+        if (position > 0) {
+            writer.write(buffer, 0, position);
+            position = 0;
+        }
+        writer.flush();
+    }
+
+    private void write(final Object object) throws IOException {
+        if (object == null) {
+            append("null");
+        } else if (object instanceof Item) {
+            writeItem((Item) object);
+        } else if (object instanceof Collection<?>) {
+            writeCollection((Collection<?>) object);
+        } else if (object instanceof Map<?, ?>) {
+            writeMap((Map<?, ?>) object);
+        } else {
+            append(JSonSerializer.serialize(object));
+        }
+    }
+
+    /**
+     * Same output as {@link Item#toJson()}
+     */
+    private void writeItem(final Item item) throws IOException {
+        final Map<String, IItem> deploys = item.getDeploys();
+        append('{');
+        boolean first = true;
+        for (final String attribute : item.getAttributeNames()) {
+            if (!first) {
+                append(',');
+            }
+            writeQuoted(attribute);
+            append(':');
+            if (deploys.containsKey(attribute)) {
+                write(deploys.get(attribute));
+            } else {
+                writeQuoted(item.getAttributeValue(attribute));
+            }
+            first = false;
+        }
+        append('}');
+    }
+
+    private void writeCollection(final Collection<?> collection) throws IOException {
+        append('[');
+        boolean first = true;
+        for (final Object element : collection) {
+            if (!first) {
+                append(',');
+            }
+            write(element);
+            first = false;
+        }
+        append(']');
+    }
+
+    private void writeMap(final Map<?, ?> map) throws IOException {
+        append('{');
+        boolean first = true;
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                append(',');
+            }
+            writeQuoted(entry.getKey().toString());
+            append(':');
+            write(entry.getValue());
+            first = false;
+        }
+        append('}');
+    }
+
+    /**
+     * Same output as {@link JSonSerializer#quote(String)} without building intermediate Strings
+     */
+    private void writeQuoted(final String value) throws IOException {
+        append('"');
+        if (value != null) {
+            char previous;
+            char c = 0;
+            final int length = value.length();
+            for (int i = 0; i < length; i++) {
+                previous = c;
+                c = value.charAt(i);
+                switch (c) {
+                    case '\\':
+                    case '"':
+                        append('\\');
+                        append(c);
+                        break;
+                    case '/':
+                        if (previous == '<') {
+                            append('\\');
+                        }
+                        append(c);
+                        break;
+                    case '\b':
+                        append("\\b");
+                        break;
+                    case '\t':
+                        append("\\t");
+                        break;
+                    case '\n':
+                        append("\\n");
+                        break;
+                    case '\f':
+                        append("\\f");
+                        break;
+                    case '\r':
+                        append("\\r");
+                        break;
+                    default:
+                        if (c < ' ' || c >= '\u0080' && c < '\u00a0' || c >= '\u2000' && c < '\u2100') {
+                            final String hex = "000" + Integer.toHexString(c);
+                            append("\\u");
+                            append(hex.substring(hex.length() - 4));
+                        } else {
+                            append(c);
+                        }
+                }
+            }
+        }
+        append('"');
+    }
+
+    private void append(final char c) throws IOException {
+        if (position == BUFFER_SIZE) {
+            writer.write(buffer, 0, position);
+            position = 0;
+        }
+        buffer[position++] = c;
+    }
+
+    private void append(final String string) throws IOException {
+        final int length = string.length();
+        if (length > BUFFER_SIZE - position) {
+            writer.write(buffer, 0, position);
+            position = 0;
+            if (length > BUFFER_SIZE) {
+                writer.write(string);
+                return;
+            }
+        }
+        string.getChars(0, length, buffer, position);
+        position += length;
+    }
+
+}
@@ -2,8 +2,11 @@ package org.bonitasoft.console.common.server.login.credentials;
 
 import org.bonitasoft.console.common.server.preferences.properties.ConfigurationFilesManager;
 import org.bonitasoft.console.common.server.preferences.properties.ProcessIdentifier;
+import org.apache.commons.io.FileUtils;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -25,6 +28,9 @@ public class AutoLoginCredentialsFinderTest {
     private static final long TENANT_ID = 43882L;
     private File autoLoginConfiguration;
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @InjectMocks
     public AutoLoginCredentialsFinder autoLoginCredentialsFinder;
 
@@ -65,4 +71,22 @@ public class AutoLoginCredentialsFinderTest {
 
         assertThat(autoLoginCredentials).isEqualTo(null);
     }
+
+    @Test
+    public void should_read_configuration_again_only_when_tenant_configuration_is_updated() throws Exception{
+        final long tenantId = 98765L;
+        final File configuration = temporaryFolder.newFile("autologin-v6.json");
+        FileUtils.copyFile(autoLoginConfiguration, configuration);
+        when(configurationFilesManager.getTenantAutoLoginConfiguration(tenantId)).thenReturn(configuration);
+        when(configurationFilesManager.getConfigurationsVersion()).thenReturn(1L);
+        autoLoginCredentialsFinder.getCredential(new ProcessIdentifier("my process", "2.0"), tenantId);
+        FileUtils.writeStringToFile(configuration, "[{\"processname\": \"my process\", \"processversion\": \"2.0\", \"username\": \"helen.kelly\", \"password\": \"bpm\"}]");
+
+        AutoLoginCredentials credentialsBeforeUpdate = autoLoginCredentialsFinder.getCredential(new ProcessIdentifier("my process", "2.0"), tenantId);
+        when(configurationFilesManager.getConfigurationsVersion()).thenReturn(2L);
+        AutoLoginCredentials credentialsAfterUpdate = autoLoginCredentialsFinder.getCredential(new ProcessIdentifier("my process", "2.0"), tenantId);
+
+        assertThat(credentialsBeforeUpdate.getUserName()).isEqualTo("john.bates");
+        assertThat(credentialsAfterUpdate.getUserName()).isEqualTo("helen.kelly");
+    }
 }
@@ -3,6 +3,7 @@ package org.bonitasoft.console.common.server.login.filter;
 import static org.mockito.Mockito.doReturn;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -31,6 +32,7 @@ public class MultiReadHttpServletRequestTest {
             fakeInputStream = new FakeServletInputStream();
             doReturn(fakeInputStream).when(request).getInputStream();
             final MultiReadHttpServletRequest multiReadHttpServletRequest = new MultiReadHttpServletRequest(request);
+            multiReadHttpServletRequest.bufferBody();
 
             final InputStream inputStream = multiReadHttpServletRequest.getInputStream();
             Assert.assertEquals("body content", IOUtils.toString(inputStream));
@@ -52,6 +54,7 @@ public class MultiReadHttpServletRequestTest {
             fakeInputStream = new FakeServletInputStream();
             doReturn(fakeInputStream).when(request).getInputStream();
             final MultiReadHttpServletRequest multiReadHttpServletRequest = new MultiReadHttpServletRequest(request);
+            multiReadHttpServletRequest.bufferBody();
 
             final BufferedReader bufferedReader = multiReadHttpServletRequest.getReader();
             Assert.assertEquals("body content", IOUtils.toString(bufferedReader));
@@ -65,6 +68,52 @@ public class MultiReadHttpServletRequestTest {
         }
     }
 
+    @Test
+    public void should_getInputStream_return_the_request_stream_when_the_body_is_not_buffered() throws Exception {
+        final ServletInputStream fakeInputStream = new FakeServletInputStream();
+        doReturn(fakeInputStream).when(request).getInputStream();
+        final MultiReadHttpServletRequest multiReadHttpServletRequest = new MultiReadHttpServletRequest(request);
+
+        final InputStream inputStream = multiReadHttpServletRequest.getInputStream();
+
+        Assert.assertSame(fakeInputStream, inputStream);
+        Assert.assertFalse(multiReadHttpServletRequest.isBodyBuffered());
+        fakeInputStream.close();
+    }
+
+    @Test
+    public void should_write_body_bigger_than_threshold_in_a_temporary_file() throws Exception {
+        final ServletInputStream fakeInputStream = new FakeServletInputStream();
+        doReturn(fakeInputStream).when(request).getInputStream();
+        final MultiReadHttpServletRequest multiReadHttpServletRequest = new MultiReadHttpServletRequest(request, 4);
+
+        multiReadHttpServletRequest.bufferBody();
+
+        final InputStream inputStream = multiReadHttpServletRequest.getInputStream();
+        Assert.assertEquals("body content", IOUtils.toString(inputStream));
+        inputStream.close();
+        final InputStream inputStream2 = multiReadHttpServletRequest.getInputStream();
+        Assert.assertEquals("body content", IOUtils.toString(inputStream2));
+        inputStream2.close();
+        fakeInputStream.close();
+    }
+
+    @Test
+    public void should_release_delete_the_temporary_file_of_the_body() throws Exception {
+        final ServletInputStream fakeInputStream = new FakeServletInputStream();
+        doReturn(fakeInputStream).when(request).getInputStream();
+        final MultiReadHttpServletRequest multiReadHttpServletRequest = new MultiReadHttpServletRequest(request, 4);
+        multiReadHttpServletRequest.bufferBody();
+        final File bodyFile = multiReadHttpServletRequest.getBodyFile();
+        Assert.assertTrue(bodyFile.isFile());
+
+        multiReadHttpServletRequest.release();
+
+        Assert.assertFalse(bodyFile.exists());
+        Assert.assertFalse(multiReadHttpServletRequest.isBodyBuffered());
+        fakeInputStream.close();
+    }
+
     class FakeServletInputStream extends ServletInputStream {
 
         private final StringInputStream inputStream = new StringInputStream("body content");
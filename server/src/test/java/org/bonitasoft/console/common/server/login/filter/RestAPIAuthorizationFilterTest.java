@@ -24,6 +24,7 @@ import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -33,6 +34,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import javax.servlet.FilterConfig;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -46,7 +48,12 @@ import org.bonitasoft.engine.exception.ExecutionException;
 import org.bonitasoft.engine.exception.NotFoundException;
 import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.engine.session.PlatformSession;
+import org.bonitasoft.web.rest.model.ModelFactory;
+import org.bonitasoft.web.rest.model.identity.UserItem;
+import org.bonitasoft.web.rest.server.framework.API;
+import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
 import org.bonitasoft.web.toolkit.client.data.APIID;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -97,6 +104,26 @@ public class RestAPIAuthorizationFilterTest {
         return permissions;
     }
 
+    @Test
+    public void should_init_read_the_body_memory_threshold() throws Exception {
+        final FilterConfig filterConfig = mock(FilterConfig.class);
+        doReturn("2048").when(filterConfig).getInitParameter(RestAPIAuthorizationFilter.BODY_MEMORY_THRESHOLD_PARAM);
+
+        restAPIAuthorizationFilter.init(filterConfig);
+
+        assertThat(restAPIAuthorizationFilter.getBodyMemoryThreshold()).isEqualTo(2048);
+    }
+
+    @Test
+    public void should_init_use_the_default_body_memory_threshold_when_the_value_is_invalid() throws Exception {
+        final FilterConfig filterConfig = mock(FilterConfig.class);
+        doReturn("1MB").when(filterConfig).getInitParameter(RestAPIAuthorizationFilter.BODY_MEMORY_THRESHOLD_PARAM);
+
+        restAPIAuthorizationFilter.init(filterConfig);
+
+        assertThat(restAPIAuthorizationFilter.getBodyMemoryThreshold()).isEqualTo(MultiReadHttpServletRequest.DEFAULT_MEMORY_THRESHOLD);
+    }
+
     @Test
     public void should_checkPermissions_call_dynamic_check_if_secu_is_enabled() throws Exception {
         final RestAPIAuthorizationFilter restAPIAuthorizationFilterSpy = spy(restAPIAuthorizationFilter);
@@ -455,6 +482,85 @@ public class RestAPIAuthorizationFilterTest {
         assertThat(isAuthorized).isTrue();
     }
 
+    @Test
+    public void should_checkPermissions_check_each_item_of_a_bulk_update() throws Exception {
+        final RestAPIAuthorizationFilter restAPIAuthorizationFilterSpy = initBulkUpdateSpy(user(12L), user(13L));
+        returnPermissionFor("PUT", "identity", "user", Arrays.asList("12"), Arrays.asList("MyPermission"));
+        returnPermissionFor("PUT", "identity", "user", Arrays.asList("13"), Arrays.asList("SecondPermission"));
+
+        final boolean isAuthorized = restAPIAuthorizationFilterSpy.checkPermissions(request, "identity", "user", null);
+
+        assertThat(isAuthorized).isFalse();
+    }
+
+    @Test
+    public void should_checkPermissions_authorize_a_bulk_update_when_each_item_is_authorized() throws Exception {
+        final RestAPIAuthorizationFilter restAPIAuthorizationFilterSpy = initBulkUpdateSpy(user(12L), user(13L));
+        returnPermissionFor("PUT", "identity", "user", Arrays.asList("12"), Arrays.asList("MyPermission"));
+        returnPermissionFor("PUT", "identity", "user", Arrays.asList("13"), Arrays.asList("MyPermission"));
+
+        final boolean isAuthorized = restAPIAuthorizationFilterSpy.checkPermissions(request, "identity", "user", null);
+
+        assertThat(isAuthorized).isTrue();
+    }
+
+    @Test
+    public void should_checkPermissions_not_parse_a_bulk_update_when_the_resource_cannot_be_updated() throws Exception {
+        final RestAPIAuthorizationFilter restAPIAuthorizationFilterSpy = initBulkUpdateSpy(user(12L));
+        returnPermissionFor("PUT", "identity", "user", null, Arrays.asList("SecondPermission"));
+        returnPermissionFor("PUT", "identity", "user", Arrays.asList("12"), Arrays.asList("MyPermission"));
+
+        final boolean isAuthorized = restAPIAuthorizationFilterSpy.checkPermissions(request, "identity", "user", null);
+
+        assertThat(isAuthorized).isFalse();
+        verify(restAPIAuthorizationFilterSpy, never()).parseBulkUpdateItems(any(API.class), anyString());
+    }
+
+    @Test
+    public void should_checkPermissions_not_read_the_body_of_a_put_without_id_on_an_api_without_bulk_update() throws Exception {
+        final RestAPIAuthorizationFilter restAPIAuthorizationFilterSpy = initBulkUpdateSpy();
+        doReturn(null).when(restAPIAuthorizationFilterSpy).getBulkUpdateAPI("identity", "user");
+
+        restAPIAuthorizationFilterSpy.checkPermissions(request, "identity", "user", null);
+
+        verify(restAPIAuthorizationFilterSpy, never()).getRequestBody(request);
+    }
+
+    @Test
+    public void should_tenantAPIsCheck_answer_bad_request_when_a_bulk_update_cannot_be_parsed() throws Exception {
+        final RestAPIAuthorizationFilter restAPIAuthorizationFilterSpy = initBulkUpdateSpy();
+        doReturn("API/identity/user").when(request).getPathInfo();
+        doThrow(new IllegalArgumentException("JSon format error")).when(restAPIAuthorizationFilterSpy).parseBulkUpdateItems(any(API.class), anyString());
+
+        final boolean isValid = restAPIAuthorizationFilterSpy.tenantAPIsCheck(request, response);
+
+        assertThat(isValid).isFalse();
+        verify(response).setStatus(HttpServletResponse.SC_BAD_REQUEST);
+    }
+
+    private RestAPIAuthorizationFilter initBulkUpdateSpy(final IItem... items) throws ServletException {
+        ItemDefinitionFactory.setDefaultFactory(new ModelFactory());
+        final RestAPIAuthorizationFilter restAPIAuthorizationFilterSpy = spy(restAPIAuthorizationFilter);
+        initSpy(restAPIAuthorizationFilterSpy, new HashSet<String>(Arrays.asList("MyPermission")));
+        doReturn("PUT").when(request).getMethod();
+        doReturn("[]").when(restAPIAuthorizationFilterSpy).getRequestBody(request);
+        final API<?> bulkUpdateAPI = mock(API.class);
+        doReturn(bulkUpdateAPI).when(restAPIAuthorizationFilterSpy).getBulkUpdateAPI("identity", "user");
+        doReturn(Arrays.asList(items)).when(restAPIAuthorizationFilterSpy).parseBulkUpdateItems(bulkUpdateAPI, "[]");
+        // the permission of the resource itself must not be enough to update any of its items
+        returnPermissionFor("PUT", "identity", "user", null, Arrays.asList("MyPermission"));
+        doReturn(true).when(restAPIAuthorizationFilterSpy).isApiAuthorizationsCheckEnabled(1l);
+        doReturn(new HashSet<String>()).when(restAPIAuthorizationFilterSpy).getDeclaredPermissions(anyString(), anyString(),
+                anyString(), any(APIID.class), isA(DynamicPermissionsChecks.class));
+        return restAPIAuthorizationFilterSpy;
+    }
+
+    private UserItem user(final long id) {
+        final UserItem user = new UserItem();
+        user.setId(id);
+        return user;
+    }
+
     private void returnPermissionFor(final String method, final String apiName, final String resourceName, final List<String> resourceQualifiers,
             final List<String> toBeReturned) {
         if (resourceQualifiers != null) {
@@ -36,6 +36,7 @@ import java.util.Set;
 
 import javax.servlet.http.HttpServletRequest;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.bonitasoft.console.common.server.page.extension.PageContextImpl;
 import org.bonitasoft.console.common.server.page.extension.PageResourceProviderImpl;
@@ -165,6 +166,64 @@ public class CustomPageServiceTest {
         assertNotNull(restApiController);
     }
 
+    @Test
+    public void should_compile_rest_api_page_only_once_per_classloader() throws Exception {
+        // Given
+        when(apiSession.getTenantId()).thenReturn(0L);
+        final File pageFile = new File(getClass().getResource("/IndexRestApi.groovy").toURI());
+        final File pageDir = pageFile.getParentFile();
+        when(pageResourceProvider.getPageDirectory()).thenReturn(pageDir);
+        doReturn(Thread.currentThread().getContextClassLoader()).when(customPageService).getParentClassloader(anyString(),
+                any(CustomPageDependenciesResolver.class),
+                any(BDMClientDependenciesResolver.class));
+        final GroovyClassLoader classloader = customPageService.getPageClassloader(apiSession, pageResourceProvider);
+        final Class<?> restApiControllerClass = customPageService.registerRestApiPage(classloader, pageFile);
+
+        // When
+        final Class<?> cachedClass = customPageService.registerRestApiPage(classloader, pageFile);
+        CustomPageService.clearCachedClassloaders();
+        final GroovyClassLoader newClassloader = customPageService.getPageClassloader(apiSession, pageResourceProvider);
+        final Class<?> recompiledClass = customPageService.registerRestApiPage(newClassloader, pageFile);
+
+        // Then
+        assertThat(cachedClass).isSameAs(restApiControllerClass);
+        assertThat(recompiledClass).isNotSameAs(restApiControllerClass);
+    }
+
+    @Test
+    public void should_not_check_page_last_update_date_again_during_freshness_check_delay() throws Exception {
+        // Given
+        final File pageDirectory = temporaryFolder.newFolder("freshPage");
+        FileUtils.writeStringToFile(new File(pageDirectory, ".lastupdate"), "0");
+        when(pageResourceProvider.getPageDirectory()).thenReturn(pageDirectory);
+        when(consoleProperties.getPageFreshnessCheckDelay()).thenReturn(10000L);
+        doReturn(0L).when(customPageService).getPageLastUpdateDateFromEngine(apiSession, pageResourceProvider);
+
+        // When
+        customPageService.ensurePageFolderIsUpToDate(apiSession, pageResourceProvider);
+        customPageService.ensurePageFolderIsUpToDate(apiSession, pageResourceProvider);
+
+        // Then
+        verify(customPageService, times(1)).getPageLastUpdateDateFromEngine(apiSession, pageResourceProvider);
+    }
+
+    @Test
+    public void should_check_page_last_update_date_each_time_when_freshness_check_delay_is_zero() throws Exception {
+        // Given
+        final File pageDirectory = temporaryFolder.newFolder("checkedPage");
+        FileUtils.writeStringToFile(new File(pageDirectory, ".lastupdate"), "0");
+        when(pageResourceProvider.getPageDirectory()).thenReturn(pageDirectory);
+        when(consoleProperties.getPageFreshnessCheckDelay()).thenReturn(0L);
+        doReturn(0L).when(customPageService).getPageLastUpdateDateFromEngine(apiSession, pageResourceProvider);
+
+        // When
+        customPageService.ensurePageFolderIsUpToDate(apiSession, pageResourceProvider);
+        customPageService.ensurePageFolderIsUpToDate(apiSession, pageResourceProvider);
+
+        // Then
+        verify(customPageService, times(2)).getPageLastUpdateDateFromEngine(apiSession, pageResourceProvider);
+    }
+
     @Test
     public void should_retrievePageZipContent_save_it_in_bonita_home() throws Exception {
         // Given
@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -100,13 +101,23 @@ public class ResourceRendererTest {
         verify(servletContext).getMimeType("file.css");
         verify(res).setContentType("text/css");
         verify(res).setContentLength((int) contentLength);
-        verify(res).setBufferSize((int) contentLength);
         verify(res).setHeader("Cache-Control", "no-cache");
         verify(outputStream).write(any(byte[].class), eq(0), eq((int) contentLength));
         verify(res).flushBuffer();
         verify(outputStream).close();
     }
 
+    @Test
+    public void renderFile_should_answer_not_modified_when_resource_was_not_modified() throws Exception {
+        final File resourceFile = getResourceFile();
+        when(req.getDateHeader("If-Modified-Since")).thenReturn(resourceFile.lastModified() + 1000);
+
+        resourceRenderer.renderFile(req, res, resourceFile, apiSession);
+
+        verify(res).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(outputStream, never()).write(any(byte[].class), any(int.class), any(int.class));
+    }
+
     private File getResourceFile() throws URISyntaxException {
         return new File(ResourceRendererTest.class.getResource("file.css").toURI());
     }
@@ -57,4 +57,59 @@ public class ConsolePropertiesTest {
         assertEquals("Cannot return property default value", defaultValue, "defaultValue");
     }
 
+    @Test
+    public void should_return_page_freshness_check_delay_in_milliseconds() throws Exception {
+        ConfigurationFilesManager.getInstance().setTenantConfigurations(Collections.singletonMap("console-config.properties",
+                "custom.page.freshness.check.delay=30".getBytes()), TENANT_ID);
+
+        assertEquals(30000L, properties.getPageFreshnessCheckDelay());
+    }
+
+    @Test
+    public void should_return_default_page_freshness_check_delay_when_not_configured() throws Exception {
+        assertEquals(10000L, properties.getPageFreshnessCheckDelay());
+    }
+
+    @Test
+    public void should_return_default_page_freshness_check_delay_when_invalid() throws Exception {
+        ConfigurationFilesManager.getInstance().setTenantConfigurations(Collections.singletonMap("console-config.properties",
+                "custom.page.freshness.check.delay=ten".getBytes()), TENANT_ID);
+
+        assertEquals(10000L, properties.getPageFreshnessCheckDelay());
+    }
+
+    @Test
+    public void should_return_resource_cache_control_of_the_content_type() throws Exception {
+        ConfigurationFilesManager.getInstance().setTenantConfigurations(Collections.singletonMap("console-config.properties",
+                ("resource.cache.control=no-cache\n"
+                        + "resource.cache.control.text/css=max-age=3600").getBytes()), TENANT_ID);
+
+        assertEquals("max-age=3600", properties.getResourceCacheControl("text/css"));
+        assertEquals("max-age=3600", properties.getResourceCacheControl("text/css; charset=UTF-8"));
+        assertEquals("no-cache", properties.getResourceCacheControl("image/png"));
+    }
+
+    @Test
+    public void should_return_no_cache_as_default_resource_cache_control() throws Exception {
+        assertEquals("no-cache", properties.getResourceCacheControl("text/css"));
+    }
+
+    @Test
+    public void should_return_configured_bulk_chunk_size() throws Exception {
+        ConfigurationFilesManager.getInstance().setTenantConfigurations(Collections.singletonMap("console-config.properties",
+                "rest.api.bulk.chunk.size=25".getBytes()), TENANT_ID);
+
+        assertEquals(25, properties.getBulkChunkSize());
+    }
+
+    @Test
+    public void should_return_default_bulk_chunk_size_when_not_configured_or_invalid() throws Exception {
+        assertEquals(100, properties.getBulkChunkSize());
+
+        ConfigurationFilesManager.getInstance().setTenantConfigurations(Collections.singletonMap("console-config.properties",
+                "rest.api.bulk.chunk.size=0".getBytes()), TENANT_ID);
+
+        assertEquals(100, properties.getBulkChunkSize());
+    }
+
 }
@@ -0,0 +1,60 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.servlet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bonitasoft.engine.identity.impl.IconImpl;
+import org.junit.Test;
+
+public class IconCacheTest {
+
+    @Test
+    public void should_return_cached_icon() throws Exception {
+        final IconCache iconCache = new IconCache();
+
+        iconCache.put(new IconImpl(1L, "image/png", "content".getBytes()));
+
+        assertThat(iconCache.get(1L).getContent()).isEqualTo("content".getBytes());
+        assertThat(iconCache.get(1L).getMimeType()).isEqualTo("image/png");
+        assertThat(iconCache.get(2L)).isNull();
+    }
+
+    @Test
+    public void should_evict_least_recently_used_icons_when_max_size_is_exceeded() throws Exception {
+        final IconCache iconCache = new IconCache(10);
+        iconCache.put(new IconImpl(1L, "image/png", new byte[4]));
+        iconCache.put(new IconImpl(2L, "image/png", new byte[4]));
+        iconCache.get(1L);
+
+        iconCache.put(new IconImpl(3L, "image/png", new byte[4]));
+
+        assertThat(iconCache.get(1L)).isNotNull();
+        assertThat(iconCache.get(2L)).isNull();
+        assertThat(iconCache.get(3L)).isNotNull();
+        assertThat(iconCache.getSize()).isEqualTo(8);
+    }
+
+    @Test
+    public void should_not_cache_icons_bigger_than_max_size() throws Exception {
+        final IconCache iconCache = new IconCache(10);
+
+        final IconCache.CachedIcon icon = iconCache.put(new IconImpl(1L, "image/png", new byte[11]));
+
+        assertThat(icon.getContent()).hasSize(11);
+        assertThat(iconCache.get(1L)).isNull();
+        assertThat(iconCache.getSize()).isEqualTo(0);
+    }
+}
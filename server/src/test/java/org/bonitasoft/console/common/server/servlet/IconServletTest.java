@@ -17,6 +17,9 @@ package org.bonitasoft.console.common.server.servlet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import javax.servlet.http.HttpServletResponse;
 
@@ -49,6 +52,7 @@ public class IconServletTest {
     @Before
     public void before() throws Exception {
         doReturn(identityAPI).when(iconServlet).getIdentityApi(httpServletRequest);
+        doReturn(new IconCache()).when(iconServlet).getIconCache(httpServletRequest);
     }
 
     private void havingIcon(long iconId, byte[] content) throws NotFoundException {
@@ -132,4 +136,49 @@ public class IconServletTest {
 
         assertThat(httpServletResponse.getContentType()).isEqualTo("theMimeTypeOfTheIcon");
     }
+
+    @Test
+    public void should_set_immutable_cache_headers() throws Exception {
+        havingIcon(ICON_ID, "content".getBytes());
+        httpServletRequest.setPathInfo("/" + String.valueOf(ICON_ID));
+
+        iconServlet.doGet(httpServletRequest, httpServletResponse);
+
+        assertThat(httpServletResponse.getHeader("ETag")).isEqualTo("\"" + ICON_ID + "\"");
+        assertThat(httpServletResponse.getHeader("Cache-Control")).isEqualTo(IconServlet.CACHE_CONTROL);
+    }
+
+    @Test
+    public void should_status_be_NOT_MODIFIED_without_calling_the_engine_when_icon_is_already_known_by_the_browser() throws Exception {
+        httpServletRequest.setPathInfo("/" + String.valueOf(ICON_ID));
+        httpServletRequest.addHeader("If-None-Match", "\"" + ICON_ID + "\"");
+
+        iconServlet.doGet(httpServletRequest, httpServletResponse);
+
+        assertThat(httpServletResponse.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(httpServletResponse.getContentAsByteArray()).isEmpty();
+        verify(identityAPI, never()).getIcon(ICON_ID);
+    }
+
+    @Test
+    public void should_retrieve_each_icon_only_once_from_the_engine_when_displaying_many_avatars() throws Exception {
+        for (long iconId = 1; iconId <= 10; iconId++) {
+            havingIcon(iconId, ("content" + iconId).getBytes());
+        }
+
+        for (int page = 0; page < 5; page++) {
+            for (long iconId = 1; iconId <= 10; iconId++) {
+                httpServletRequest.setPathInfo("/" + iconId);
+                final MockHttpServletResponse response = new MockHttpServletResponse();
+
+                iconServlet.doGet(httpServletRequest, response);
+
+                assertThat(response.getContentAsByteArray()).isEqualTo(("content" + iconId).getBytes());
+            }
+        }
+
+        for (long iconId = 1; iconId <= 10; iconId++) {
+            verify(identityAPI, times(1)).getIcon(iconId);
+        }
+    }
 }
@@ -1,12 +1,15 @@
 package org.bonitasoft.console.common.server.servlet;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 import java.io.File;
 
+import org.bonitasoft.console.common.server.utils.TenantsManagementUtils;
 import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.engine.theme.ThemeType;
 import org.bonitasoft.forms.server.ThemeExtractor;
+import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -26,6 +29,11 @@ public class PlatformTenantListenerTest {
     @Spy
     PlatformTenantListener platformTenantListener;
 
+    @After
+    public void tearDown() {
+        TenantsManagementUtils.clearDefaultTenantId();
+    }
+
     @Test
     public void initializeDefaultTenant_should_call_extract_current_portal_theme() throws Exception {
         final APISession session = mock(APISession.class);
@@ -38,4 +46,18 @@ public class PlatformTenantListenerTest {
 
         verify(themeExtractor).retrieveAndExtractCurrentTheme(any(File.class), eq(session), eq(ThemeType.PORTAL));
     }
+
+    @Test
+    public void initializeDefaultTenant_should_register_the_default_tenant_id() throws Exception {
+        final APISession session = mock(APISession.class);
+        doReturn(12L).when(session).getTenantId();
+        doReturn(session).when(platformTenantListener).login();
+        doNothing().when(platformTenantListener).logout(session);
+        doNothing().when(themeExtractor).retrieveAndExtractCurrentTheme(any(File.class), eq(session), eq(ThemeType.PORTAL));
+
+        platformTenantListener.initializeDefaultTenant(themeExtractor);
+
+        assertThat(TenantsManagementUtils.getDefaultTenantId()).isEqualTo(12L);
+        verify(platformTenantListener, times(1)).login();
+    }
 }
@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.utils;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.bonitasoft.engine.api.ProcessAPI;
+import org.bonitasoft.engine.bpm.contract.ContractDefinition;
+import org.bonitasoft.engine.bpm.contract.impl.ContractDefinitionImpl;
+import org.bonitasoft.engine.bpm.flownode.ActivityInstance;
+import org.bonitasoft.engine.bpm.flownode.ActivityInstanceNotFoundException;
+import org.bonitasoft.engine.bpm.flownode.UserTaskNotFoundException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ContractDefinitionCacheTest {
+
+    @Mock
+    private ProcessAPI processAPI;
+
+    private final ContractDefinitionCache contractDefinitionCache = new ContractDefinitionCache();
+
+    @Before
+    public void initializeMocks() throws Exception {
+        final ActivityInstance userTaskInstance = mockUserTaskInstance(1L, "step1");
+        doReturn(userTaskInstance).when(processAPI).getActivityInstance(2L);
+        doReturn(userTaskInstance).when(processAPI).getActivityInstance(3L);
+    }
+
+    private ActivityInstance mockUserTaskInstance(final long processDefinitionId, final String name) {
+        final ActivityInstance userTaskInstance = mock(ActivityInstance.class);
+        doReturn(processDefinitionId).when(userTaskInstance).getProcessDefinitionId();
+        doReturn(name).when(userTaskInstance).getName();
+        return userTaskInstance;
+    }
+
+    @Test
+    public void should_retrieve_the_user_task_contract_from_the_engine_only_once() throws Exception {
+        final ContractDefinition contract = new ContractDefinitionImpl();
+        doReturn(contract).when(processAPI).getUserTaskContract(2L);
+
+        contractDefinitionCache.getUserTaskContract(processAPI, 2L);
+        final ContractDefinition cachedContract = contractDefinitionCache.getUserTaskContract(processAPI, 2L);
+
+        assertThat(cachedContract).isSameAs(contract);
+        verify(processAPI, times(1)).getUserTaskContract(2L);
+    }
+
+    @Test
+    public void should_retrieve_the_process_contract_again_once_the_process_is_deleted() throws Exception {
+        doReturn(new ContractDefinitionImpl()).when(processAPI).getProcessContract(1L);
+
+        contractDefinitionCache.getProcessContract(processAPI, 1L);
+        contractDefinitionCache.getProcessContract(processAPI, 1L);
+        contractDefinitionCache.removeProcessContracts(singletonList(1L));
+        contractDefinitionCache.getProcessContract(processAPI, 1L);
+
+        verify(processAPI, times(2)).getProcessContract(1L);
+    }
+
+    @Test
+    public void should_share_the_user_task_contract_between_the_instances_of_a_task() throws Exception {
+        final ContractDefinition contract = new ContractDefinitionImpl();
+        doReturn(contract).when(processAPI).getUserTaskContract(2L);
+
+        contractDefinitionCache.getUserTaskContract(processAPI, 2L);
+        final ContractDefinition cachedContract = contractDefinitionCache.getUserTaskContract(processAPI, 3L);
+
+        assertThat(cachedContract).isSameAs(contract);
+        verify(processAPI, times(1)).getUserTaskContract(2L);
+        verify(processAPI, times(0)).getUserTaskContract(3L);
+    }
+
+    @Test
+    public void should_not_share_the_user_task_contract_between_tasks_of_other_processes() throws Exception {
+        final ActivityInstance otherUserTaskInstance = mockUserTaskInstance(4L, "step1");
+        doReturn(otherUserTaskInstance).when(processAPI).getActivityInstance(5L);
+        doReturn(new ContractDefinitionImpl()).when(processAPI).getUserTaskContract(2L);
+        doReturn(new ContractDefinitionImpl()).when(processAPI).getUserTaskContract(5L);
+
+        contractDefinitionCache.getUserTaskContract(processAPI, 2L);
+        contractDefinitionCache.getUserTaskContract(processAPI, 5L);
+
+        verify(processAPI, times(1)).getUserTaskContract(5L);
+    }
+
+    @Test
+    public void should_retrieve_the_user_task_instance_from_the_engine_only_once() throws Exception {
+        doReturn(new ContractDefinitionImpl()).when(processAPI).getUserTaskContract(2L);
+
+        contractDefinitionCache.getUserTaskContract(processAPI, 2L);
+        contractDefinitionCache.getUserTaskContract(processAPI, 2L);
+
+        verify(processAPI, times(1)).getActivityInstance(2L);
+    }
+
+    @Test(expected = UserTaskNotFoundException.class)
+    public void should_not_find_the_contract_of_an_unknown_user_task() throws Exception {
+        doThrow(new ActivityInstanceNotFoundException(6L)).when(processAPI).getActivityInstance(6L);
+
+        contractDefinitionCache.getUserTaskContract(processAPI, 6L);
+    }
+
+    @Test
+    public void should_retrieve_the_user_task_contract_again_once_the_process_is_deleted() throws Exception {
+        doReturn(new ContractDefinitionImpl()).when(processAPI).getUserTaskContract(2L);
+
+        contractDefinitionCache.getUserTaskContract(processAPI, 2L);
+        contractDefinitionCache.removeProcessContracts(singletonList(1L));
+        contractDefinitionCache.getUserTaskContract(processAPI, 2L);
+
+        verify(processAPI, times(2)).getActivityInstance(2L);
+        verify(processAPI, times(2)).getUserTaskContract(2L);
+    }
+}
@@ -3,6 +3,7 @@ package org.bonitasoft.console.common.server.utils;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -252,6 +253,23 @@ public class ContractTypeConverterTest {
         verify(contractTypeConverter, times(1)).deleteFile(any(File.class), anyString());
     }
 
+    @Test
+    public void deleteTemporaryFiles_should_delete_the_files_read_by_the_conversion_without_reading_them_again() throws Exception {
+        final List<InputDefinition> inputDefinition = generateSimpleInputDefinition(true);
+        when(contractDefinition.getInputs()).thenReturn(inputDefinition);
+        final String tempFilePath = "tempFile";
+        final File tempFile = generateTempFile();
+        doReturn(tempFile).when(bonitaHomeFolderAccessor).getTempFile(tempFilePath, tenantId);
+        final Map<String, Serializable> input = generateInputMap(tempFilePath);
+        contractTypeConverter.getProcessedInput(contractDefinition, input, maxSizeForTenant, tenantId, false);
+
+        contractTypeConverter.deleteTemporaryFiles();
+
+        verify(contractTypeConverter, times(1)).deleteFile(tempFile, tempFilePath);
+        verify(contractTypeConverter, times(1)).getFileContent(any(File.class), anyString(), anyBoolean());
+        assertThat(tempFile).doesNotExist();
+    }
+
 
     @Test
     public void getAdaptedContractDefinition_should_return_a_converter_contract() throws IOException {
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collections;
@@ -25,7 +26,10 @@ import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ApplicationModelFactoryTest {
@@ -36,6 +40,9 @@ public class ApplicationModelFactoryTest {
     @Mock
     PageAPI customPageApi;
 
+    @Spy
+    ApplicationModelCache applicationModelCache = new ApplicationModelCache();
+
     @InjectMocks
     ApplicationModelFactory factory;
 
@@ -80,4 +87,60 @@ public class ApplicationModelFactoryTest {
         assertThat(filter.getField()).isEqualTo("token");
         assertThat(filter.getValue()).isEqualTo("bar");
     }
+
+    @Test
+    public void should_search_an_application_only_once() throws Exception {
+        final ApplicationImpl application = new ApplicationImpl("foobar", "1.0", "bazqux");
+        application.setId(3);
+        given(applicationApi.searchApplications(any(SearchOptions.class))).willReturn(
+                new SearchResultImpl<Application>(1, asList((Application) application)));
+        given(applicationApi.getApplicationHomePage(3)).willReturn(new ApplicationPageImpl(1, 1, "home"));
+
+        factory.createApplicationModel("foobar").getApplicationHomePage();
+        final ApplicationModel model = factory.createApplicationModel("foobar");
+
+        assertThat(model.getId()).isEqualTo(3);
+        assertThat(model.getApplicationHomePage()).isEqualTo("home/");
+        verify(applicationApi, times(1)).searchApplications(any(SearchOptions.class));
+        verify(applicationApi, times(1)).getApplicationHomePage(3);
+    }
+
+    @Test
+    public void should_search_an_application_again_once_the_cache_is_cleared() throws Exception {
+        given(applicationApi.searchApplications(any(SearchOptions.class))).willReturn(
+                new SearchResultImpl<Application>(1, asList(mock(Application.class))));
+
+        factory.createApplicationModel("foobar");
+        applicationModelCache.clear();
+        factory.createApplicationModel("foobar");
+
+        verify(applicationApi, times(2)).searchApplications(any(SearchOptions.class));
+    }
+
+    @Test
+    public void should_not_keep_an_application_searched_before_the_cache_is_cleared() throws Exception {
+        given(applicationApi.searchApplications(any(SearchOptions.class))).willAnswer(new Answer<SearchResultImpl<Application>>() {
+
+            @Override
+            public SearchResultImpl<Application> answer(final InvocationOnMock invocation) throws Throwable {
+                // the application is modified while it is searched
+                applicationModelCache.clear();
+                return new SearchResultImpl<Application>(1, asList(mock(Application.class)));
+            }
+        });
+
+        factory.createApplicationModel("foobar");
+
+        assertThat(applicationModelCache.get("foobar")).isNull();
+    }
+
+    @Test
+    public void should_keep_the_first_value_filled_in_a_cached_application() throws Exception {
+        final ApplicationModelCache.CachedApplication cachedApplication = new ApplicationModelCache.CachedApplication(mock(Application.class));
+
+        cachedApplication.setHomePageToken("home");
+        cachedApplication.setHomePageToken("other");
+
+        assertThat(cachedApplication.getHomePageToken()).isEqualTo("home");
+    }
 }
@@ -2,6 +2,9 @@ package org.bonitasoft.livingapps;
 
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
@@ -18,7 +21,9 @@ import org.bonitasoft.console.common.server.page.extension.PageResourceProviderI
 import org.bonitasoft.console.common.server.utils.BonitaHomeFolderAccessor;
 import org.bonitasoft.engine.session.APISession;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
 import org.mockito.InjectMocks;
@@ -64,6 +69,9 @@ public class ApplicationRouterTest {
     @InjectMocks
     ApplicationRouter applicationRouter;
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Before
     public void beforeEach() throws Exception {
         given(apiSession.getTenantId()).willReturn(1L);
@@ -119,6 +127,34 @@ public class ApplicationRouterTest {
         verify(resourceRenderer).renderFile(hsRequest, hsResponse, new File("layout/resources/css/file.css"), apiSession);
     }
 
+    @Test
+    public void should_serve_an_already_resolved_resource_without_resolving_the_file_again() throws Exception {
+        final File resourceFile = temporaryFolder.newFile("file.css");
+        accessAuthorizedPage("HumanResources", "theme/css/file.css");
+        given(hsRequest.getPathInfo()).willReturn("/HumanResources/theme/css/file.css");
+        given(applicationModel.getCachedResourceFile("/HumanResources/theme/css/file.css")).willReturn(resourceFile);
+        doNothing().when(resourceRenderer).renderFile(hsRequest, hsResponse, resourceFile, apiSession);
+
+        applicationRouter.route(hsRequest, hsResponse, apiSession, pageRenderer, resourceRenderer, bonitaHomeFolderAccessor);
+
+        verify(resourceRenderer).renderFile(hsRequest, hsResponse, resourceFile, apiSession);
+        verify(pageRenderer, never()).getPageResourceProvider(anyString(), anyLong());
+    }
+
+    @Test
+    public void should_not_serve_an_already_resolved_resource_once_no_profile_is_mapped_to_the_application() throws Exception {
+        final File resourceFile = temporaryFolder.newFile("file.css");
+        accessAuthorizedPage("HumanResources", "theme/css/file.css");
+        given(hsRequest.getPathInfo()).willReturn("/HumanResources/theme/css/file.css");
+        given(applicationModel.hasProfileMapped()).willReturn(false);
+        given(applicationModel.getCachedResourceFile("/HumanResources/theme/css/file.css")).willReturn(resourceFile);
+
+        applicationRouter.route(hsRequest, hsResponse, apiSession, pageRenderer, resourceRenderer, bonitaHomeFolderAccessor);
+
+        verify(hsResponse).sendError(HttpServletResponse.SC_NOT_FOUND, "No profile mapped to living application");
+        verify(resourceRenderer, never()).renderFile(hsRequest, hsResponse, resourceFile, apiSession);
+    }
+
     @Test
     public void should_access_Theme_resource() throws Exception {
         accessAuthorizedPage("HumanResources", "theme/css/file.css");
@@ -3,11 +3,18 @@ package org.bonitasoft.livingapps.menu;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import org.bonitasoft.engine.api.ApplicationAPI;
 import org.bonitasoft.engine.business.application.ApplicationMenu;
+import org.bonitasoft.engine.business.application.ApplicationPage;
 import org.bonitasoft.engine.business.application.impl.ApplicationMenuImpl;
 import org.bonitasoft.engine.business.application.impl.ApplicationPageImpl;
+import org.bonitasoft.engine.search.SearchOptions;
+import org.bonitasoft.engine.search.impl.SearchResultImpl;
 import org.bonitasoft.livingapps.menu.MenuFactory;
 import org.junit.Before;
 import org.junit.Test;
@@ -72,4 +79,17 @@ public class MenuFactoryTest {
                         .append("<li><a href=\"token\">nested-link</a></li>")
                         .append("</ul></li>").toString());
     }
+
+    @Test
+    public void should_retrieve_the_page_tokens_of_all_the_menu_links_with_one_search() throws Exception {
+        final ApplicationPageImpl page = new ApplicationPageImpl(1L, 5L, "searched-token");
+        page.setId(2L);
+        given(applicationApi.searchApplicationPages(any(SearchOptions.class))).willReturn(
+                new SearchResultImpl<ApplicationPage>(1, asList((ApplicationPage) page)));
+        MenuFactory factory = new MenuFactory(applicationApi);
+
+        assertThat(factory.create(asList((ApplicationMenu) aMenuLink, aMenuContainer, aNestedMenuLink)).get(0).getHtml())
+                .isEqualTo("<li><a href=\"searched-token\">link</a></li>");
+        verify(applicationApi, never()).getApplicationPage(anyLong());
+    }
 }
@@ -3,9 +3,14 @@ package org.bonitasoft.web.rest.server;
 import org.bonitasoft.web.rest.server.api.organization.APICustomUserInfoDefinition;
 import org.bonitasoft.web.rest.server.api.organization.APICustomUserInfoUser;
 import org.bonitasoft.web.rest.server.api.organization.APICustomUserInfoValue;
+import org.bonitasoft.web.rest.server.api.organization.APIUser;
+import org.bonitasoft.web.rest.server.framework.API;
+import org.bonitasoft.web.toolkit.client.common.exception.api.APINotFoundException;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -34,4 +39,22 @@ public class BonitaRestAPIFactoryTest extends APITestWithMock {
     public void should_provide_an_APICustomUserInfoValue_when_requesting_custom_user_info_value() throws Exception {
         assertTrue(factory.defineApis("customuserinfo", "value") instanceof APICustomUserInfoValue);
     }
+
+    @Test
+    public void should_provide_a_new_api_instance_for_each_call() throws Exception {
+        final API<? extends IItem> api = factory.defineApis("identity", "user");
+
+        assertTrue(api instanceof APIUser);
+        assertNotSame(api, factory.defineApis("identity", "user"));
+    }
+
+    @Test(expected = APINotFoundException.class)
+    public void should_throw_not_found_exception_for_an_unknown_resource() throws Exception {
+        factory.defineApis("identity", "unknown");
+    }
+
+    @Test(expected = APINotFoundException.class)
+    public void should_throw_not_found_exception_for_an_unknown_api() throws Exception {
+        factory.defineApis("unknown", "user");
+    }
 }
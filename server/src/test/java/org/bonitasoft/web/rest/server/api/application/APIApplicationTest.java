@@ -133,13 +133,12 @@ public class APIApplicationTest {
     }
 
     @Test
-    public void fillDeploys_should_add_deployers_for_createdBy_updatedBy_ProfileId_and_LayoutId() throws Exception {
+    public void defineDeployers_should_add_deployers_for_createdBy_updatedBy_ProfileId_and_LayoutId() throws Exception {
         //given
-        final ApplicationItem item = mock(ApplicationItem.class);
         doReturn(new GenericDeployer<ProfileItem>(null, ApplicationItem.ATTRIBUTE_PROFILE_ID)).when(deployerFactory)
                 .createProfileDeployer(ApplicationItem.ATTRIBUTE_PROFILE_ID);
         //when
-        apiApplication.fillDeploys(item, Collections.<String> emptyList());
+        apiApplication.defineDeployers();
 
         //then
         final Map<String, Deployer> deployers = apiApplication.getDeployers();
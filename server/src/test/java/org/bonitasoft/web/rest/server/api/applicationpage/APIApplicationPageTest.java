@@ -1,6 +1,5 @@
 package org.bonitasoft.web.rest.server.api.applicationpage;
 
-import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -130,7 +129,8 @@ public class APIApplicationPageTest {
         application.setDisplayName("foo");
         given(applicationDataStore.get(APIID.makeAPIID(1L))).willReturn(application);
 
-        apiApplicationPage.fillDeploys(applicationPage, singletonList(ApplicationPageItem.ATTRIBUTE_APPLICATION_ID));
+        apiApplicationPage.defineDeployers();
+        apiApplicationPage.getDeployers().get(ApplicationPageItem.ATTRIBUTE_APPLICATION_ID).deployIn(applicationPage);
 
         assertThat(applicationPage.getApplication()).isEqualTo(application);
     }
@@ -143,7 +143,8 @@ public class APIApplicationPageTest {
         customPage.setContentName("bar");
         given(pageDataStore.get(APIID.makeAPIID(2L))).willReturn(customPage);
 
-        apiApplicationPage.fillDeploys(applicationPage, singletonList(ApplicationPageItem.ATTRIBUTE_PAGE_ID));
+        apiApplicationPage.defineDeployers();
+        apiApplicationPage.getDeployers().get(ApplicationPageItem.ATTRIBUTE_PAGE_ID).deployIn(applicationPage);
 
         assertThat(applicationPage.getPage()).isEqualTo(customPage);
     }
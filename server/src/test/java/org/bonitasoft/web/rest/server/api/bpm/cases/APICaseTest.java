@@ -43,8 +43,11 @@ import org.bonitasoft.web.toolkit.client.data.item.Item;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 
 /**
  * @author Celine Souchet
@@ -411,4 +414,111 @@ public class APICaseTest {
         // Then
         verify(item).setAttribute(CaseItem.COUNTER_ACTIVE_FLOW_NODES, numberOfFailedFlowNodes);
     }
+
+    @Test
+    public void fillCounters_should_count_the_flow_nodes_of_all_cases_with_one_grouped_search() {
+        // Given
+        final CaseItem case1 = mockCase(1L);
+        final CaseItem case2 = mockCase(2L);
+        final Map<Long, Long> flowNodesByCase = new HashMap<Long, Long>();
+        flowNodesByCase.put(1L, 0L);
+        flowNodesByCase.put(2L, 0L);
+        doReturn(flowNodesByCase).when(flowNodeDatastore).countByParentCase(eq(Arrays.asList(1L, 2L)), anyMapOf(String.class, String.class),
+                eq(APICase.MAX_GROUPED_FLOW_NODES));
+
+        // When
+        apiCase.fillCounters(Arrays.asList(case1, case2), Arrays.asList(CaseItem.COUNTER_FAILED_FLOW_NODES, CaseItem.COUNTER_ACTIVE_FLOW_NODES));
+
+        // Then
+        verify(case1).setAttribute(CaseItem.COUNTER_FAILED_FLOW_NODES, 0L);
+        verify(case1).setAttribute(CaseItem.COUNTER_ACTIVE_FLOW_NODES, 0L);
+        verify(case2).setAttribute(CaseItem.COUNTER_FAILED_FLOW_NODES, 0L);
+        verify(case2).setAttribute(CaseItem.COUNTER_ACTIVE_FLOW_NODES, 0L);
+        verify(flowNodeDatastore, never()).count(anyString(), anyString(), anyMapOf(String.class, String.class));
+    }
+
+    @Test
+    public void fillCounters_of_a_page_should_give_the_same_values_as_case_by_case_counters() {
+        // Given flow nodes, as parent case id and state
+        final List<String[]> flowNodes = Arrays.asList(
+                new String[] { "1", FlowNodeItem.VALUE_STATE_FAILED },
+                new String[] { "1", "ready" },
+                new String[] { "1", FlowNodeItem.VALUE_STATE_FAILED },
+                new String[] { "3", "ready" });
+        doAnswer(new Answer<Long>() {
+
+            @Override
+            public Long answer(final InvocationOnMock invocation) throws Throwable {
+                final Map<String, String> filters = (Map<String, String>) invocation.getArguments()[2];
+                return countFlowNodes(flowNodes, Arrays.asList(Long.valueOf(filters.get(FlowNodeItem.ATTRIBUTE_PARENT_CASE_ID))), filters);
+            }
+        }).when(flowNodeDatastore).count(anyString(), anyString(), anyMapOf(String.class, String.class));
+        doAnswer(new Answer<Map<Long, Long>>() {
+
+            @Override
+            public Map<Long, Long> answer(final InvocationOnMock invocation) throws Throwable {
+                final Map<Long, Long> flowNodesByCase = new HashMap<Long, Long>();
+                for (final Long caseId : (List<Long>) invocation.getArguments()[0]) {
+                    flowNodesByCase.put(caseId, countFlowNodes(flowNodes, Arrays.asList(caseId), (Map<String, String>) invocation.getArguments()[1]));
+                }
+                return flowNodesByCase;
+            }
+        }).when(flowNodeDatastore).countByParentCase(anyListOf(Long.class), anyMapOf(String.class, String.class), anyInt());
+        final List<String> counters = Arrays.asList(CaseItem.COUNTER_FAILED_FLOW_NODES, CaseItem.COUNTER_ACTIVE_FLOW_NODES);
+        final List<CaseItem> page = Arrays.asList(mockCase(1L), mockCase(2L), mockCase(3L));
+
+        // When
+        apiCase.fillCounters(page, counters);
+
+        // Then
+        for (final CaseItem pageItem : page) {
+            final CaseItem item = mockCase(pageItem.getId().toLong());
+            apiCase.fillCounters(item, counters);
+            for (final String counter : counters) {
+                assertEquals(getCounter(item, counter), getCounter(pageItem, counter));
+            }
+        }
+        assertEquals(Long.valueOf(2L), getCounter(page.get(0), CaseItem.COUNTER_FAILED_FLOW_NODES));
+        assertEquals(Long.valueOf(1L), getCounter(page.get(2), CaseItem.COUNTER_ACTIVE_FLOW_NODES));
+    }
+
+    @Test
+    public void fillCounters_should_count_case_by_case_when_too_many_flow_nodes_match_to_group_them() {
+        // Given
+        final CaseItem item = mockCase(78L);
+        doReturn(null).when(flowNodeDatastore).countByParentCase(eq(Arrays.asList(78L)), anyMapOf(String.class, String.class),
+                eq(APICase.MAX_GROUPED_FLOW_NODES));
+        final Map<String, String> filters = new HashMap<String, String>();
+        filters.put(FlowNodeItem.ATTRIBUTE_PARENT_CASE_ID, "78");
+        doReturn(4L).when(flowNodeDatastore).count(null, null, filters);
+
+        // When
+        apiCase.fillCounters(Arrays.asList(item), Arrays.asList(CaseItem.COUNTER_ACTIVE_FLOW_NODES));
+
+        // Then
+        verify(item).setAttribute(CaseItem.COUNTER_ACTIVE_FLOW_NODES, 4L);
+    }
+
+    private CaseItem mockCase(final long id) {
+        final CaseItem item = mock(CaseItem.class);
+        doReturn(APIID.makeAPIID(id)).when(item).getId();
+        return item;
+    }
+
+    private Long getCounter(final CaseItem item, final String counter) {
+        final ArgumentCaptor<Object> value = ArgumentCaptor.forClass(Object.class);
+        verify(item).setAttribute(eq(counter), value.capture());
+        return (Long) value.getValue();
+    }
+
+    private long countFlowNodes(final List<String[]> flowNodes, final List<Long> parentCaseIds, final Map<String, String> filters) {
+        final String state = filters.get(FlowNodeItem.ATTRIBUTE_STATE);
+        long count = 0;
+        for (final String[] flowNode : flowNodes) {
+            if (parentCaseIds.contains(Long.valueOf(flowNode[0])) && (state == null || state.equals(flowNode[1]))) {
+                count++;
+            }
+        }
+        return count;
+    }
 }
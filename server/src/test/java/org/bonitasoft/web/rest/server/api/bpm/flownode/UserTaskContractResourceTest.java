@@ -16,6 +16,7 @@ package org.bonitasoft.web.rest.server.api.bpm.flownode;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.bonitasoft.web.rest.server.utils.ResponseAssert.assertThat;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
@@ -25,6 +26,7 @@ import org.bonitasoft.engine.bpm.contract.Type;
 import org.bonitasoft.engine.bpm.contract.impl.ConstraintDefinitionImpl;
 import org.bonitasoft.engine.bpm.contract.impl.ContractDefinitionImpl;
 import org.bonitasoft.engine.bpm.contract.impl.InputDefinitionImpl;
+import org.bonitasoft.engine.bpm.flownode.ActivityInstance;
 import org.bonitasoft.engine.bpm.flownode.UserTaskNotFoundException;
 import org.bonitasoft.web.rest.server.utils.RestletTest;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
@@ -47,6 +49,9 @@ public class UserTaskContractResourceTest extends RestletTest {
     @Mock
     private ProcessAPI processAPI;
 
+    @Mock
+    private ActivityInstance userTaskInstance;
+
     UserTaskContractResource taskContractResource;
 
     @Override
@@ -55,8 +60,9 @@ public class UserTaskContractResourceTest extends RestletTest {
     }
 
     @Before
-    public void initializeMocks() {
+    public void initializeMocks() throws Exception {
         taskContractResource = spy(new UserTaskContractResource(processAPI));
+        when(processAPI.getActivityInstance(anyLong())).thenReturn(userTaskInstance);
     }
 
     @Test
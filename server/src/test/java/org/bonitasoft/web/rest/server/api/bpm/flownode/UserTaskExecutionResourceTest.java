@@ -17,9 +17,7 @@ package org.bonitasoft.web.rest.server.api.bpm.flownode;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.bonitasoft.web.rest.server.utils.ResponseAssert.assertThat;
-import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyLong;
-import static org.mockito.Matchers.anyMap;
 import static org.mockito.Matchers.anyMapOf;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -32,6 +30,7 @@ import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.engine.bpm.contract.ContractDefinition;
 import org.bonitasoft.engine.bpm.contract.ContractViolationException;
 import org.bonitasoft.engine.bpm.contract.InputDefinition;
+import org.bonitasoft.engine.bpm.flownode.ActivityInstance;
 import org.bonitasoft.engine.bpm.flownode.FlowNodeExecutionException;
 import org.bonitasoft.engine.bpm.flownode.UserTaskNotFoundException;
 import org.bonitasoft.engine.bpm.process.ProcessActivationException;
@@ -83,9 +82,13 @@ public class UserTaskExecutionResourceTest extends RestletTest {
     @Mock
     private ContractDefinition contractDefinition;
 
+    @Mock
+    private ActivityInstance userTaskInstance;
+
     @Before
-    public void initializeMocks() {
+    public void initializeMocks() throws Exception {
         userTaskExecutionResource = spy(new UserTaskExecutionResource(processAPI, apiSession));
+        when(processAPI.getActivityInstance(anyLong())).thenReturn(userTaskInstance);
         when(contractDefinition.getInputs()).thenReturn(Collections.<InputDefinition> emptyList());
     }
 
@@ -143,7 +146,7 @@ public class UserTaskExecutionResourceTest extends RestletTest {
         assertThat(response)
                 .hasJsonEntityEqualTo(
                         "{\"exception\":\"class org.bonitasoft.engine.bpm.contract.ContractViolationException\",\"message\":\"aMessage\",\"explanations\":[\"first explanation\",\"second explanation\"]}");
-        verify(userTaskExecutionResource, times(0)).deleteFiles(any(ContractDefinition.class),anyMap(),anyLong(),anyLong());
+        verify(userTaskExecutionResource, times(0)).deleteFiles();
     }
 
     @Test
@@ -154,7 +157,7 @@ public class UserTaskExecutionResourceTest extends RestletTest {
         final Response response = request("/bpm/userTask/2/execution").post(VALID_POST_BODY);
 
         assertThat(response).hasStatus(Status.SERVER_ERROR_INTERNAL);
-        verify(userTaskExecutionResource, times(0)).deleteFiles(any(ContractDefinition.class),anyMap(),anyLong(),anyLong());
+        verify(userTaskExecutionResource, times(0)).deleteFiles();
     }
 
     @Test
@@ -162,7 +165,7 @@ public class UserTaskExecutionResourceTest extends RestletTest {
         final Response response = request("/bpm/userTask/2/execution").post("invalid json string");
 
         assertThat(response).hasStatus(Status.CLIENT_ERROR_BAD_REQUEST);
-        verify(userTaskExecutionResource, times(0)).deleteFiles(any(ContractDefinition.class),anyMap(),anyLong(),anyLong());
+        verify(userTaskExecutionResource, times(0)).deleteFiles();
     }
 
     @Test
@@ -174,7 +177,7 @@ public class UserTaskExecutionResourceTest extends RestletTest {
         final Response response = request("/bpm/userTask/2/execution").post(VALID_POST_BODY);
 
         assertThat(response).hasStatus(Status.CLIENT_ERROR_NOT_FOUND);
-        verify(userTaskExecutionResource, times(0)).deleteFiles(any(ContractDefinition.class),anyMap(),anyLong(),anyLong());
+        verify(userTaskExecutionResource, times(0)).deleteFiles();
     }
 
     @Test
@@ -198,7 +201,7 @@ public class UserTaskExecutionResourceTest extends RestletTest {
 
         //then
         verify(logger, times(1)).log(Level.INFO, message + "\nExplanations:\nexplanation1explanation2");
-        verify(userTaskExecutionResource, times(0)).deleteFiles(any(ContractDefinition.class),anyMap(),anyLong(),anyLong());
+        verify(userTaskExecutionResource, times(0)).deleteFiles();
     }
 
     @Test
@@ -213,7 +216,7 @@ public class UserTaskExecutionResourceTest extends RestletTest {
         //when
         userTaskExecutionResource.executeTask(inputs);
 
-        verify(userTaskExecutionResource, times(1)).deleteFiles(any(ContractDefinition.class),anyMap(),anyLong(),anyLong());
+        verify(userTaskExecutionResource, times(1)).deleteFiles();
     }
 
     @Test
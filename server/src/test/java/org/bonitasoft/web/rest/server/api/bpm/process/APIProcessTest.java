@@ -1,8 +1,13 @@
 package org.bonitasoft.web.rest.server.api.bpm.process;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyListOf;
 import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyMapOf;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
@@ -28,8 +33,11 @@ import org.bonitasoft.web.toolkit.client.data.APIID;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 
 /**
  * @author Alexis Hassler
@@ -154,4 +162,109 @@ public class APIProcessTest {
         // Then
         verify(item, never()).setAttribute(anyString(), anyLong());
     }
+
+    @Test
+    public void fillCounters_should_count_the_cases_of_all_processes_with_one_grouped_search() {
+        // Given
+        final ProcessItem process1 = mockProcess(1L);
+        final ProcessItem process2 = mockProcess(2L);
+        final Map<Long, Long> casesByProcess = new HashMap<>();
+        casesByProcess.put(1L, 0L);
+        casesByProcess.put(2L, 0L);
+        doReturn(casesByProcess).when(caseDatastore).countByProcess(eq(Arrays.asList(1L, 2L)), anyMapOf(String.class, String.class),
+                eq(APIProcess.MAX_GROUPED_CASES));
+
+        // When
+        apiProcess.fillCounters(Arrays.asList(process1, process2), Arrays.asList(ProcessItem.COUNTER_FAILED_CASES, ProcessItem.COUNTER_OPEN_CASES));
+
+        // Then
+        verify(process1).setAttribute(ProcessItem.COUNTER_FAILED_CASES, 0L);
+        verify(process1).setAttribute(ProcessItem.COUNTER_OPEN_CASES, 0L);
+        verify(process2).setAttribute(ProcessItem.COUNTER_FAILED_CASES, 0L);
+        verify(process2).setAttribute(ProcessItem.COUNTER_OPEN_CASES, 0L);
+        verify(caseDatastore, never()).count(anyString(), anyString(), anyMapOf(String.class, String.class));
+    }
+
+    @Test
+    public void fillCounters_of_a_page_should_give_the_same_values_as_process_by_process_counters() {
+        // Given cases, as process id and state
+        final List<String[]> cases = Arrays.asList(
+                new String[] { "1", ProcessInstanceState.ERROR.name() },
+                new String[] { "1", ProcessInstanceState.STARTED.name() },
+                new String[] { "3", ProcessInstanceState.ERROR.name() },
+                new String[] { "3", ProcessInstanceState.ERROR.name() });
+        doAnswer(new Answer<Long>() {
+
+            @Override
+            public Long answer(final InvocationOnMock invocation) throws Throwable {
+                final Map<String, String> filters = (Map<String, String>) invocation.getArguments()[2];
+                return countCases(cases, Arrays.asList(Long.valueOf(filters.get(CaseItem.ATTRIBUTE_PROCESS_ID))), filters);
+            }
+        }).when(caseDatastore).count(anyString(), anyString(), anyMapOf(String.class, String.class));
+        doAnswer(new Answer<Map<Long, Long>>() {
+
+            @Override
+            public Map<Long, Long> answer(final InvocationOnMock invocation) throws Throwable {
+                final Map<Long, Long> casesByProcess = new HashMap<>();
+                for (final Long processId : (List<Long>) invocation.getArguments()[0]) {
+                    casesByProcess.put(processId, countCases(cases, Arrays.asList(processId), (Map<String, String>) invocation.getArguments()[1]));
+                }
+                return casesByProcess;
+            }
+        }).when(caseDatastore).countByProcess(anyListOf(Long.class), anyMapOf(String.class, String.class), anyInt());
+        final List<String> counters = Arrays.asList(ProcessItem.COUNTER_FAILED_CASES, ProcessItem.COUNTER_OPEN_CASES);
+        final List<ProcessItem> page = Arrays.asList(mockProcess(1L), mockProcess(2L), mockProcess(3L));
+
+        // When
+        apiProcess.fillCounters(page, counters);
+
+        // Then
+        for (final ProcessItem pageItem : page) {
+            final ProcessItem item = mockProcess(pageItem.getId().toLong());
+            apiProcess.fillCounters(item, counters);
+            for (final String counter : counters) {
+                assertEquals(getCounter(item, counter), getCounter(pageItem, counter));
+            }
+        }
+        assertEquals(Long.valueOf(1L), getCounter(page.get(0), ProcessItem.COUNTER_FAILED_CASES));
+        assertEquals(Long.valueOf(2L), getCounter(page.get(2), ProcessItem.COUNTER_OPEN_CASES));
+    }
+
+    @Test
+    public void fillCounters_should_count_process_by_process_when_too_many_cases_match_to_group_them() {
+        // Given
+        final ProcessItem item = mockProcess(78L);
+        doReturn(null).when(caseDatastore).countByProcess(eq(Arrays.asList(78L)), anyMapOf(String.class, String.class),
+                eq(APIProcess.MAX_GROUPED_CASES));
+        doReturn(4L).when(caseDatastore).count(anyString(), anyString(), anyMapOf(String.class, String.class));
+
+        // When
+        apiProcess.fillCounters(Arrays.asList(item), Arrays.asList(ProcessItem.COUNTER_OPEN_CASES));
+
+        // Then
+        verify(item).setAttribute(ProcessItem.COUNTER_OPEN_CASES, 4L);
+    }
+
+    private ProcessItem mockProcess(final long id) {
+        final ProcessItem item = mock(ProcessItem.class);
+        doReturn(APIID.makeAPIID(id)).when(item).getId();
+        return item;
+    }
+
+    private Long getCounter(final ProcessItem item, final String counter) {
+        final ArgumentCaptor<Object> value = ArgumentCaptor.forClass(Object.class);
+        verify(item).setAttribute(eq(counter), value.capture());
+        return (Long) value.getValue();
+    }
+
+    private long countCases(final List<String[]> cases, final List<Long> processIds, final Map<String, String> filters) {
+        final String state = filters.get(CaseItem.FILTER_STATE);
+        long count = 0;
+        for (final String[] aCase : cases) {
+            if (processIds.contains(Long.valueOf(aCase[0])) && (state == null || state.equals(aCase[1]))) {
+                count++;
+            }
+        }
+        return count;
+    }
 }
@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.api.bpm.process;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.bonitasoft.web.rest.server.api.resource.JsonPayload;
+import org.junit.Test;
+
+public class ProcessDefinitionDesignCacheTest {
+
+    private final JsonPayload design = design();
+
+    private final ProcessDefinitionDesignCache designCache = new ProcessDefinitionDesignCache(2 * design.getSize());
+
+    private static JsonPayload design() {
+        try {
+            return new JsonPayload(new byte[40], "tag");
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    public void should_evict_the_least_recently_used_designs_when_max_size_is_exceeded() {
+        designCache.put(1L, design);
+        designCache.put(2L, design);
+        designCache.get(1L);
+
+        designCache.put(3L, design);
+
+        assertThat(designCache.get(1L)).isNotNull();
+        assertThat(designCache.get(2L)).isNull();
+        assertThat(designCache.get(3L)).isNotNull();
+        assertThat(designCache.getSize()).isEqualTo(2 * design.getSize());
+    }
+
+    @Test
+    public void should_not_cache_designs_bigger_than_max_size() {
+        final ProcessDefinitionDesignCache smallCache = new ProcessDefinitionDesignCache(design.getSize() - 1);
+
+        smallCache.put(1L, design);
+
+        assertThat(smallCache.get(1L)).isNull();
+        assertThat(smallCache.getSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_forget_the_designs_of_deleted_processes() {
+        designCache.put(1L, design);
+
+        designCache.removeDesigns(singletonList(1L));
+
+        assertThat(designCache.get(1L)).isNull();
+        assertThat(designCache.getSize()).isEqualTo(0);
+    }
+}
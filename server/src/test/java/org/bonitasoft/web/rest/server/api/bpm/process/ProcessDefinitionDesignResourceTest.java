@@ -74,15 +74,23 @@ public class ProcessDefinitionDesignResourceTest extends RestletTest {
     }
 
     @Test
-    public void testReplaceLongIdToString() throws Exception {
-        assertThat(processDefinitionDesignResource.replaceLongIdToString("{ \"id\": 123}")).isEqualToIgnoringCase("{ \"id\": \"123\"}");
-        assertThat(processDefinitionDesignResource.replaceLongIdToString("{ \"id\":123, \"test\": [ otherid: \"zerze\"]}")).isEqualToIgnoringCase(
-                "{ \"id\":\"123\", \"test\": [ otherid: \"zerze\"]}");
-        assertThat(processDefinitionDesignResource.replaceLongIdToString("{ \"iaed\": 123}")).isEqualToIgnoringCase("{ \"iaed\": 123}");
-        assertThat(processDefinitionDesignResource.replaceLongIdToString("{ \"name\": \"\\\"id\\\": 123\"}")).isEqualToIgnoringCase(
-                "{ \"name\": \"\\\"id\\\": 123\"}");
-        assertThat(processDefinitionDesignResource.replaceLongIdToString("{ \"name\": \"\\\"id\\\": 123\"}")).isEqualToIgnoringCase(
-                "{ \"name\": \"\\\"id\\\": 123\"}");
+    public void should_write_long_ids_as_strings() throws Exception {
+        final String json = new String(processDefinitionDesignResource.toJson(new DesignElement()), "UTF-8");
+
+        assertThat(json).contains("\"id\":\"123\"").contains("\"otherId\":456").contains("\"name\":\"\\\"id\\\": 789\"");
+    }
+
+    @Test
+    public void should_retrieve_the_design_from_the_engine_only_once() throws Exception {
+        final DesignProcessDefinition designProcessDefinition = new ProcessDefinitionBuilder().createNewInstance("process", "1.0").done();
+        when(processAPI.getDesignProcessDefinition(PROCESS_DEFINITION_ID)).thenReturn(designProcessDefinition);
+
+        final Response firstResponse = request(TEST_DESIGN_API_URL).get();
+        final Response secondResponse = request(TEST_DESIGN_API_URL).get();
+
+        assertThat(secondResponse.getEntityAsText()).isEqualTo(firstResponse.getEntityAsText());
+        assertThat(secondResponse.getEntity().getTag()).isNotNull();
+        verify(processAPI, times(1)).getDesignProcessDefinition(PROCESS_DEFINITION_ID);
     }
 
     @Test
@@ -102,4 +110,19 @@ public class ProcessDefinitionDesignResourceTest extends RestletTest {
         assertThat(entityAsText).doesNotContain("Ã©tape1");
     }
 
+    public static class DesignElement {
+
+        public long getId() {
+            return 123L;
+        }
+
+        public int getOtherId() {
+            return 456;
+        }
+
+        public String getName() {
+            return "\"id\": 789";
+        }
+    }
+
 }
@@ -3,9 +3,7 @@ package org.bonitasoft.web.rest.server.api.bpm.process;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.bonitasoft.web.rest.server.utils.ResponseAssert.assertThat;
-import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyLong;
-import static org.mockito.Matchers.anyMap;
 import static org.mockito.Matchers.anyMapOf;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -158,7 +156,7 @@ public class ProcessInstantiationResourceTest extends RestletTest {
         assertThat(response)
         .hasJsonEntityEqualTo(
                 "{\"exception\":\"class org.bonitasoft.engine.bpm.contract.ContractViolationException\",\"message\":\"aMessage\",\"explanations\":[\"first explanation\",\"second explanation\"]}");
-        verify(processInstantiationResource, times(0)).deleteFiles(any(ContractDefinition.class),anyMap(),anyLong(),anyLong());
+        verify(processInstantiationResource, times(0)).deleteFiles();
     }
 
     @Test
@@ -169,7 +167,7 @@ public class ProcessInstantiationResourceTest extends RestletTest {
         final Response response = request(URL_API_PROCESS_INSTANTIATION_TEST).post(VALID_POST_BODY);
 
         assertThat(response).hasStatus(Status.SERVER_ERROR_INTERNAL);
-        verify(processInstantiationResource, times(0)).deleteFiles(any(ContractDefinition.class),anyMap(),anyLong(),anyLong());
+        verify(processInstantiationResource, times(0)).deleteFiles();
     }
 
     @Test
@@ -177,7 +175,7 @@ public class ProcessInstantiationResourceTest extends RestletTest {
         final Response response = request(URL_API_PROCESS_INSTANTIATION_TEST).post("invalid json string");
 
         assertThat(response).hasStatus(Status.CLIENT_ERROR_BAD_REQUEST);
-        verify(processInstantiationResource, times(0)).deleteFiles(any(ContractDefinition.class),anyMap(),anyLong(),anyLong());
+        verify(processInstantiationResource, times(0)).deleteFiles();
     }
 
     @Test
@@ -211,7 +209,7 @@ public class ProcessInstantiationResourceTest extends RestletTest {
 
         // then
         verify(logger, times(1)).log(Level.INFO, message + "\nExplanations:\nexplanation1explanation2");
-        verify(processInstantiationResource, times(0)).deleteFiles(any(ContractDefinition.class),anyMap(),anyLong(),anyLong());
+        verify(processInstantiationResource, times(0)).deleteFiles();
     }
 
     @Test
@@ -227,7 +225,7 @@ public class ProcessInstantiationResourceTest extends RestletTest {
         //when
         processInstantiationResource.instantiateProcess(inputs);
 
-        verify(processInstantiationResource, times(1)).deleteFiles(any(ContractDefinition.class),anyMap(),anyLong(),anyLong());
+        verify(processInstantiationResource, times(1)).deleteFiles();
     }
 
     @Test
@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.api.deployer;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bonitasoft.web.rest.model.ModelFactory;
+import org.bonitasoft.web.rest.model.bpm.cases.CaseItem;
+import org.bonitasoft.web.rest.model.identity.UserItem;
+import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGetByIds;
+import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
+import org.bonitasoft.web.toolkit.client.data.APIID;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BatchDeployHelperTest {
+
+    @Mock
+    private DatastoreHasGetByIds<UserItem> userDatastore;
+
+    @Before
+    public void setUp() {
+        ItemDefinitionFactory.setDefaultFactory(new ModelFactory());
+    }
+
+    private CaseItem aCaseStartedBy(final long userId, final long substituteId) {
+        final CaseItem item = new CaseItem();
+        item.setAttribute(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID, String.valueOf(userId));
+        item.setAttribute(CaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID, String.valueOf(substituteId));
+        return item;
+    }
+
+    private UserItem aUser(final long id) {
+        final UserItem user = new UserItem();
+        user.setId(id);
+        return user;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void should_fetch_each_distinct_id_once_for_the_whole_page() throws Exception {
+        final Map<APIID, UserItem> users = new HashMap<APIID, UserItem>();
+        users.put(APIID.makeAPIID(1L), aUser(1L));
+        users.put(APIID.makeAPIID(2L), aUser(2L));
+        doReturn(users).when(userDatastore).getByIds(anyCollectionOf(APIID.class));
+        final List<CaseItem> cases = asList(aCaseStartedBy(1L, 2L), aCaseStartedBy(1L, 1L), aCaseStartedBy(2L, 1L));
+
+        final List<String> deployed = new BatchDeployHelper<UserItem>(userDatastore).deployIn(cases,
+                asList(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID, CaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID),
+                CaseItem.ATTRIBUTE_STARTED_BY_USER_ID, CaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID);
+
+        final ArgumentCaptor<Collection> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(userDatastore, times(1)).getByIds(ids.capture());
+        assertThat(ids.getValue()).containsOnly(APIID.makeAPIID(1L), APIID.makeAPIID(2L));
+        verify(userDatastore, never()).get(any(APIID.class));
+        assertThat(deployed).containsExactly(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID, CaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID);
+        assertThat(cases.get(1).getDeploy(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID)).isSameAs(users.get(APIID.makeAPIID(1L)));
+        assertThat(cases.get(0).getDeploy(CaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID)).isSameAs(users.get(APIID.makeAPIID(2L)));
+    }
+
+    @Test
+    public void should_fall_back_on_single_get_for_ids_not_returned_by_the_batch_get() throws Exception {
+        doReturn(Collections.emptyMap()).when(userDatastore).getByIds(anyCollectionOf(APIID.class));
+        final UserItem user = aUser(3L);
+        doReturn(user).when(userDatastore).get(APIID.makeAPIID(3L));
+        final List<CaseItem> cases = asList(aCaseStartedBy(3L, 0L), aCaseStartedBy(3L, 0L));
+
+        new BatchDeployHelper<UserItem>(userDatastore).deployIn(cases, asList(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID),
+                CaseItem.ATTRIBUTE_STARTED_BY_USER_ID);
+
+        verify(userDatastore, times(1)).get(APIID.makeAPIID(3L));
+        assertThat(cases.get(0).getDeploy(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID)).isSameAs(user);
+        assertThat(cases.get(1).getDeploy(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID)).isSameAs(user);
+    }
+
+    @Test
+    public void should_not_deploy_attributes_that_are_not_requested() throws Exception {
+        final List<CaseItem> cases = asList(aCaseStartedBy(1L, 2L));
+
+        final List<String> deployed = new BatchDeployHelper<UserItem>(userDatastore).deployIn(cases, Collections.<String> emptyList(),
+                CaseItem.ATTRIBUTE_STARTED_BY_USER_ID);
+
+        assertThat(deployed).isEmpty();
+        verify(userDatastore, never()).getByIds(anyCollectionOf(APIID.class));
+        assertThat(cases.get(0).getDeploy(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID)).isNull();
+    }
+}
@@ -3,6 +3,7 @@ package org.bonitasoft.web.rest.server.api.organization;
 import javax.servlet.http.HttpSession;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.bonitasoft.engine.api.IdentityAPI;
 import org.bonitasoft.engine.identity.CustomUserInfoValue;
@@ -16,9 +17,11 @@ import org.bonitasoft.web.rest.model.identity.CustomUserInfoItem;
 import org.bonitasoft.web.rest.server.engineclient.CustomUserInfoEngineClient;
 import org.bonitasoft.web.rest.server.engineclient.CustomUserInfoEngineClientCreator;
 import org.bonitasoft.web.rest.server.framework.APIServletCall;
+import org.bonitasoft.web.rest.server.framework.BulkItemResult;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
 import org.bonitasoft.web.toolkit.client.data.APIID;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -32,6 +35,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 /**
  * @author Vincent Elcrin
@@ -142,4 +146,26 @@ public class APICustomUserInfoValueTest {
 
         assertThat(value.getValue()).isEqualTo("foo");
     }
+
+    @Test
+    public void should_update_each_custom_item_value_of_a_bulk_request() throws Exception {
+        CustomUserInfoValueImpl update = new CustomUserInfoValueImpl();
+        update.setValue("foo");
+        given(engine.setCustomUserInfoValue(1L, 2L, "foo")).willReturn(update);
+        CustomUserInfoItem complete = new CustomUserInfoItem();
+        complete.setUserId(2L);
+        complete.setDefinition(APIID.makeAPIID(1L));
+        complete.setValue("foo");
+        CustomUserInfoItem withoutDefinition = new CustomUserInfoItem();
+        withoutDefinition.setUserId(3L);
+        withoutDefinition.setValue("bar");
+
+        List<BulkItemResult> results = api.runUpdateAll(Arrays.<IItem> asList(complete, withoutDefinition));
+
+        assertThat(results.get(0).getStatus()).isEqualTo(200);
+        assertThat(((CustomUserInfoItem) results.get(0).getItem()).getValue()).isEqualTo("foo");
+        assertThat(results.get(1).getStatus()).isEqualTo(400);
+        verify(engine).setCustomUserInfoValue(1L, 2L, "foo");
+        verifyNoMoreInteractions(engine);
+    }
 }
@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.api.organization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bonitasoft.web.rest.model.ModelFactory;
+import org.bonitasoft.web.rest.model.identity.MembershipItem;
+import org.bonitasoft.web.rest.server.datastore.organization.MembershipDatastore;
+import org.bonitasoft.web.rest.server.framework.BulkItemResult;
+import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
+import org.bonitasoft.web.toolkit.client.common.exception.api.APIForbiddenException;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
+import org.junit.Before;
+import org.junit.Test;
+
+public class APIMembershipTest {
+
+    private MembershipDatastore datastore;
+
+    private APIMembership api;
+
+    @Before
+    public void setUp() {
+        ItemDefinitionFactory.setDefaultFactory(new ModelFactory());
+        datastore = mock(MembershipDatastore.class);
+        api = spy(new APIMembership());
+        doReturn(datastore).when(api).getMembershipDatastore();
+    }
+
+    private MembershipItem membership(final long userId, final long groupId, final long roleId) {
+        final MembershipItem membership = new MembershipItem();
+        membership.setUserId(userId);
+        membership.setGroupId(groupId);
+        membership.setRoleId(roleId);
+        return membership;
+    }
+
+    @Test
+    public void should_add_the_memberships_one_by_one_and_return_the_persisted_ones() {
+        final MembershipItem walter = membership(1L, 10L, 20L);
+        final MembershipItem helen = membership(2L, 10L, 20L);
+        final MembershipItem persistedWalter = membership(1L, 10L, 20L);
+        final MembershipItem persistedHelen = membership(2L, 10L, 20L);
+        doReturn(persistedWalter).when(datastore).add(walter);
+        doReturn(persistedHelen).when(datastore).add(helen);
+
+        final List<BulkItemResult> results = api.runAddAll(Arrays.<IItem> asList(walter, helen));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getItem()).isSameAs(persistedWalter);
+        assertThat(results.get(1).getItem()).isSameAs(persistedHelen);
+    }
+
+    @Test
+    public void should_report_the_failure_only_on_the_membership_already_added() {
+        final MembershipItem walter = membership(1L, 10L, 20L);
+        final MembershipItem helen = membership(2L, 10L, 20L);
+        doReturn(walter).when(datastore).add(walter);
+        doThrow(new APIForbiddenException("already added")).when(datastore).add(helen);
+
+        final List<BulkItemResult> results = api.runAddAll(Arrays.<IItem> asList(walter, helen));
+
+        assertThat(results.get(0).isSuccessful()).isTrue();
+        assertThat(results.get(1).isSuccessful()).isFalse();
+        assertThat(results.get(1).getStatus()).isEqualTo(403);
+    }
+
+    @Test
+    public void should_not_add_a_membership_with_read_only_attributes() {
+        final MembershipItem walter = membership(1L, 10L, 20L);
+        walter.setAssignedByUserId(5L);
+
+        final List<BulkItemResult> results = api.runAddAll(Arrays.<IItem> asList(walter));
+
+        assertThat(results.get(0).isSuccessful()).isFalse();
+        verify(datastore, never()).add(any(MembershipItem.class));
+    }
+}
@@ -8,6 +8,7 @@ import java.util.HashMap;
 import org.bonitasoft.console.common.server.i18n.I18n;
 import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.web.rest.model.identity.UserItem;
+import org.bonitasoft.web.rest.server.api.organization.password.validator.PasswordValidatorRegistry;
 import org.bonitasoft.web.rest.server.datastore.organization.UserDatastore;
 import org.bonitasoft.web.rest.server.framework.APIServletCall;
 import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
@@ -45,6 +46,7 @@ public class APIUserTest {
         apiUser = spy(new APIUser());
         doReturn(userDatastore).when(apiUser).getUserDatastore();
         doReturn(TestValidator.class.getName()).when(apiUser).getValidatorClassName();
+        doReturn(new PasswordValidatorRegistry()).when(apiUser).getPasswordValidatorRegistry();
         I18n.getInstance();
         APIServletCall caller = mock(APIServletCall.class);
         apiUser.setCaller(caller);
@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.api.organization.password.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.bonitasoft.web.rest.server.api.organization.TestValidator;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationError;
+import org.junit.Test;
+
+public class PasswordValidatorRegistryTest {
+
+    private static final String REJECTED_PASSWORD = "this password is not accepted by the TestValidator validator";
+
+    private final PasswordValidatorRegistry passwordValidatorRegistry = new PasswordValidatorRegistry();
+
+    @Test
+    public void should_return_errors_of_the_configured_validator() throws Exception {
+        final List<ValidationError> errors = passwordValidatorRegistry.validate(TestValidator.class.getName(), REJECTED_PASSWORD, "en");
+
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0).getMessage()).contains("the validator TestValidator rejected this password");
+    }
+
+    @Test
+    public void should_not_share_errors_between_validations() throws Exception {
+        passwordValidatorRegistry.validate(TestValidator.class.getName(), REJECTED_PASSWORD, "en");
+
+        assertThat(passwordValidatorRegistry.validate(TestValidator.class.getName(), "accepted password", "en")).isEmpty();
+    }
+
+    @Test
+    public void should_use_the_new_validator_when_the_configured_class_changes() throws Exception {
+        passwordValidatorRegistry.validate(TestValidator.class.getName(), REJECTED_PASSWORD, "en");
+
+        assertThat(passwordValidatorRegistry.validate(DefaultPasswordValidator.class.getName(), REJECTED_PASSWORD, "en")).isEmpty();
+    }
+
+    @Test
+    public void should_accept_password_when_validator_class_cannot_be_found() throws Exception {
+        assertThat(passwordValidatorRegistry.validate("org.unknown.Validator", REJECTED_PASSWORD, "en")).isEmpty();
+    }
+
+    @Test
+    public void should_accept_password_when_validator_class_does_not_extend_string_validator() throws Exception {
+        assertThat(passwordValidatorRegistry.validate(String.class.getName(), REJECTED_PASSWORD, "en")).isEmpty();
+    }
+
+    @Test
+    public void should_accept_password_when_no_validator_is_configured() throws Exception {
+        assertThat(passwordValidatorRegistry.validate(null, REJECTED_PASSWORD, "en")).isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.api.system;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.bonitasoft.web.rest.server.api.resource.JsonPayload;
+import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.LOCALE;
+import org.junit.Test;
+
+public class I18nTranslationCacheTest {
+
+    private final I18nTranslationCache translationCache = new I18nTranslationCache();
+
+    @Test
+    public void should_build_the_payload_of_a_catalog_only_once() throws Exception {
+        final Map<String, String> catalog = Collections.singletonMap("key", "value");
+
+        final JsonPayload payload = translationCache.getTranslations(LOCALE.fr, catalog);
+
+        assertThat(translationCache.getTranslations(LOCALE.fr, catalog)).isSameAs(payload);
+        assertThat(new String(payload.getJson(), "UTF-8")).isEqualTo("[{\"key\":\"key\",\"value\":\"value\"}]");
+    }
+
+    @Test
+    public void should_build_the_payload_again_when_the_locale_is_reloaded() throws Exception {
+        final JsonPayload payload = translationCache.getTranslations(LOCALE.fr, Collections.singletonMap("key", "value"));
+
+        final JsonPayload reloadedPayload = translationCache.getTranslations(LOCALE.fr, Collections.singletonMap("key", "other value"));
+
+        assertThat(reloadedPayload).isNotSameAs(payload);
+        assertThat(reloadedPayload.getTag()).isNotEqualTo(payload.getTag());
+    }
+}
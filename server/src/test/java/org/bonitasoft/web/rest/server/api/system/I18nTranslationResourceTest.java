@@ -18,6 +18,7 @@ import static net.javacrumbs.jsonunit.JsonAssert.assertJsonEquals;
 import static org.bonitasoft.web.rest.server.utils.ResponseAssert.assertThat;
 import static org.mockito.Mockito.when;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -26,12 +27,14 @@ import net.javacrumbs.jsonunit.core.Option;
 
 import org.bonitasoft.console.common.server.i18n.I18n;
 import org.bonitasoft.web.rest.server.utils.RestletTest;
+import org.assertj.core.api.Assertions;
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.restlet.Response;
+import org.restlet.data.CacheDirective;
 import org.restlet.data.Status;
 import org.restlet.resource.ServerResource;
 
@@ -72,6 +75,17 @@ public class I18nTranslationResourceTest extends RestletTest {
                 JsonAssert.when(Option.IGNORING_ARRAY_ORDER));
     }
 
+    @Test
+    public void should_return_translations_with_an_entity_tag_and_a_max_age() throws Exception {
+        when(i18n.getLocale(AbstractI18n.LOCALE.fr)).thenReturn(Collections.singletonMap("key1", "message 1"));
+
+        Response response = request("/system/i18ntranslation?f=locale%3Dfr").get();
+
+        assertThat(response).hasStatus(Status.SUCCESS_OK);
+        Assertions.assertThat(response.getEntity().getTag()).isNotNull();
+        Assertions.assertThat(response.getCacheDirectives()).contains(CacheDirective.maxAge(I18nTanslationResource.MAX_AGE_IN_SECONDS));
+    }
+
     @Test
     public void should_return_http400_error_code_when_no_queryString() throws Exception {
 
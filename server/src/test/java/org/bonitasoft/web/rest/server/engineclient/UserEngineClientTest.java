@@ -25,6 +25,7 @@ import java.util.List;
 import org.bonitasoft.engine.api.IdentityAPI;
 import org.bonitasoft.engine.exception.CreationException;
 import org.bonitasoft.engine.exception.DeletionException;
+import org.bonitasoft.engine.exception.RetrieveException;
 import org.bonitasoft.engine.exception.UpdateException;
 import org.bonitasoft.engine.identity.UserCreator;
 import org.bonitasoft.engine.identity.UserNotFoundException;
@@ -108,6 +109,23 @@ public class UserEngineClientTest extends APITestWithMock {
         userEngineClient.get(1L);
     }
     
+    @Test
+    public void get_fetch_users_from_engine_repository() throws Exception {
+        List<Long> userIds = asList(1L, 2L);
+
+        userEngineClient.get(userIds);
+
+        verify(identityAPI).getUsers(userIds);
+    }
+
+    @Test(expected = APIException.class)
+    public void get_throw_APIException_if_exception_occur_when_fetching_users_from_engine_repository() throws Exception {
+        List<Long> userIds = asList(1L, 2L);
+        when(identityAPI.getUsers(userIds)).thenThrow(new RetrieveException("aMessage"));
+
+        userEngineClient.get(userIds);
+    }
+
     @Test
     public void delete_delete_users_in_engine_repository() throws Exception {
         List<Long> idsToBeDeleted = asList(1L, 2L);
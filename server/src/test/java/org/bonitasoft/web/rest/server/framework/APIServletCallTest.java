@@ -28,18 +28,37 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
+import org.bonitasoft.console.common.server.i18n.I18n;
 import org.bonitasoft.console.common.server.preferences.properties.ResourcesPermissionsMapping;
 import org.bonitasoft.console.common.server.utils.SessionUtil;
 import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.web.rest.model.ModelFactory;
+import org.bonitasoft.web.rest.model.identity.UserDefinition;
+import org.bonitasoft.web.rest.model.identity.UserItem;
+import org.bonitasoft.web.rest.server.framework.api.APIHasBulkAdd;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
+import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
+import org.bonitasoft.web.toolkit.client.common.exception.api.APIForbiddenException;
+import org.bonitasoft.web.toolkit.client.common.exception.api.APIMethodNotAllowedException;
+import org.bonitasoft.web.toolkit.client.data.APIID;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
+import org.bonitasoft.web.toolkit.client.data.item.ItemDefinition;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ItemAttribute;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationError;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationException;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -111,4 +130,169 @@ public class APIServletCallTest {
         verify(apiServletCall).head(anyString(), anyString());
     }
 
+    @Test
+    public void doPost_with_a_json_array_should_add_the_items_by_chunks_and_report_the_outcome_of_each_item() throws Exception {
+        ItemDefinitionFactory.setDefaultFactory(new ModelFactory());
+        final BulkUserAPI bulkApi = new BulkUserAPI();
+        apiServletCall.api = bulkApi;
+        doReturn("[{\"userName\":\"walter.bates\"},{\"userName\":\"existing\"},{\"userName\":\"helen.kelly\"}]")
+                .when(apiServletCall).getInputStream();
+        doReturn(2).when(apiServletCall).getBulkChunkSize();
+        doNothing().when(apiServletCall).output(any(List.class));
+
+        apiServletCall.doPost();
+
+        final ArgumentCaptor<List> output = ArgumentCaptor.forClass(List.class);
+        verify(apiServletCall).output(output.capture());
+        final List<Map<String, Object>> results = output.getValue();
+        assertThat(bulkApi.chunkSizes).containsExactly(2, 1);
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).get("index")).isEqualTo(0);
+        assertThat(results.get(0).get("status")).isEqualTo(200);
+        assertThat(((UserItem) results.get(0).get("item")).getUserName()).isEqualTo("walter.bates");
+        assertThat(results.get(1).get("status")).isEqualTo(403);
+        assertThat(results.get(1).get("message")).isEqualTo("already exists");
+        assertThat(results.get(2).get("index")).isEqualTo(2);
+        assertThat(((UserItem) results.get(2).get("item")).getUserName()).isEqualTo("helen.kelly");
+    }
+
+    @Test(expected = APIMethodNotAllowedException.class)
+    public void doPost_with_a_json_array_should_be_refused_by_an_api_without_bulk_add() throws Exception {
+        doReturn("[{\"userName\":\"walter.bates\"}]").when(apiServletCall).getInputStream();
+
+        apiServletCall.doPost();
+    }
+
+    @Test
+    public void concurrent_POST_and_PUT_of_users_should_only_report_the_validation_errors_of_their_own_request() throws Exception {
+        I18n.getInstance();
+        ItemDefinitionFactory.setDefaultFactory(new ModelFactory());
+        final UserAPI userApi = new UserAPI();
+        // fill the shared definitions used by the deploys of the user definition before the concurrent calls
+        ItemDefinitionFactory.getDefaultFactory().defineItemDefinitions(UserDefinition.TOKEN);
+        final StringBuilder tooLongValue = new StringBuilder();
+        for (int i = 0; i <= ItemAttribute.MAX_LENGTH_STRING; i++) {
+            tooLongValue.append('a');
+        }
+        final HttpServletRequest putRequest = mock(HttpServletRequest.class);
+        doReturn("API/identity/user/1").when(putRequest).getPathInfo();
+
+        final List<String> invalidAttributes = new ArrayList<String>();
+        final List<Callable<List<ValidationError>>> calls = new ArrayList<Callable<List<ValidationError>>>();
+        for (int i = 0; i < 400; i++) {
+            final String invalidAttribute = i % 2 == 0 ? UserItem.ATTRIBUTE_FIRSTNAME : UserItem.ATTRIBUTE_LASTNAME;
+            final String validAttribute = i % 2 == 0 ? UserItem.ATTRIBUTE_LASTNAME : UserItem.ATTRIBUTE_FIRSTNAME;
+            final boolean update = i % 4 < 2;
+            final UserServletCall call = new UserServletCall(userApi, "{\"" + invalidAttribute + "\":\"" + tooLongValue + "\",\"" + validAttribute
+                    + "\":\"Bates\"}");
+            if (update) {
+                call.parsePath(putRequest);
+            }
+            invalidAttributes.add(invalidAttribute);
+            calls.add(new Callable<List<ValidationError>>() {
+
+                @Override
+                public List<ValidationError> call() throws Exception {
+                    try {
+                        if (update) {
+                            call.doPut();
+                        } else {
+                            call.doPost();
+                        }
+                        return new ArrayList<ValidationError>();
+                    } catch (final ValidationException e) {
+                        return e.getErrors();
+                    }
+                }
+            });
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<List<ValidationError>>> results = executor.invokeAll(calls);
+            for (int i = 0; i < results.size(); i++) {
+                final List<ValidationError> errors = results.get(i).get();
+                assertThat(errors).hasSize(1);
+                assertThat(errors.get(0).getAttributeName()).isEqualTo(invalidAttributes.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class UserServletCall extends APIServletCall {
+
+        private final String body;
+
+        UserServletCall(final API<UserItem> api, final String body) {
+            this.api = api;
+            this.body = body;
+        }
+
+        @Override
+        public String getInputStream() {
+            return body;
+        }
+
+        @Override
+        protected void output(final String string) {
+        }
+
+        @Override
+        protected void output(final Object object) {
+        }
+    }
+
+    private static class UserAPI extends API<UserItem> {
+
+        @Override
+        protected ItemDefinition<UserItem> defineItemDefinition() {
+            return UserDefinition.get();
+        }
+
+        @Override
+        public UserItem add(final UserItem item) {
+            return item;
+        }
+
+        @Override
+        public UserItem update(final APIID id, final Map<String, String> attributes) {
+            return null;
+        }
+
+        @Override
+        protected String getCompleteTempFilePath(final String path) {
+            return path;
+        }
+    }
+
+    private static class BulkUserAPI extends API<UserItem> implements APIHasBulkAdd<UserItem> {
+
+        private final List<Integer> chunkSizes = new ArrayList<Integer>();
+
+        @Override
+        protected ItemDefinition<UserItem> defineItemDefinition() {
+            return UserDefinition.get();
+        }
+
+        @Override
+        public List<BulkItemResult> runAddAll(final List<IItem> items) {
+            chunkSizes.add(items.size());
+            return super.runAddAll(items);
+        }
+
+        @Override
+        public UserItem add(final UserItem item) {
+            if ("existing".equals(item.getUserName())) {
+                throw new APIForbiddenException("already exists");
+            }
+            return item;
+        }
+
+        @Override
+        protected String getCompleteTempFilePath(final String path) {
+            return path;
+        }
+    }
+
 }
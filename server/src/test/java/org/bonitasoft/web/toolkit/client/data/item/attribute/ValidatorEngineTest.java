@@ -0,0 +1,48 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.toolkit.client.data.item.attribute;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bonitasoft.console.common.server.i18n.I18n;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.MandatoryValidator;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.Validator;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ValidatorEngineTest {
+
+    @Before
+    public void setUp() {
+        I18n.getInstance();
+    }
+
+    @Test
+    public void should_not_report_errors_of_a_previous_mandatory_check_when_mandatory_is_not_applied() throws Exception {
+        final List<Validator> validators = Arrays.<Validator> asList(new MandatoryValidator());
+        final Map<String, String> emptyName = new HashMap<String, String>();
+        emptyName.put("name", "");
+        try {
+            ValidatorEngine.validateAttribute("name", emptyName, validators, true);
+        } catch (final ValidationException e) {
+            // expected, leaves an error in the validator
+        }
+
+        ValidatorEngine.validateAttribute("name", emptyName, validators, false);
+    }
+}
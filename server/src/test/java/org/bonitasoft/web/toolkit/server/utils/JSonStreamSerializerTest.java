@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2016 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.toolkit.server.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bonitasoft.web.rest.model.ModelFactory;
+import org.bonitasoft.web.rest.model.identity.UserItem;
+import org.bonitasoft.web.rest.model.monitoring.report.ReportItem;
+import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
+import org.bonitasoft.web.toolkit.client.common.json.JSonSerializer;
+import org.bonitasoft.web.toolkit.client.data.APIID;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JSonStreamSerializerTest {
+
+    @Before
+    public void setUp() {
+        ItemDefinitionFactory.setDefaultFactory(new ModelFactory());
+    }
+
+    private String stream(final Object object) throws Exception {
+        final StringWriter writer = new StringWriter();
+        new JSonStreamSerializer(writer).serialize(object);
+        return writer.toString();
+    }
+
+    @Test
+    public void should_write_the_same_json_as_JSonSerializer_for_scalars() throws Exception {
+        for (final Object value : Arrays.<Object> asList(null, 12L, 3.5d, true, "a \"quoted\" </script>\n  value")) {
+            assertThat(stream(value)).isEqualTo(JSonSerializer.serialize(value));
+        }
+    }
+
+    @Test
+    public void should_write_the_same_json_as_JSonSerializer_for_items_with_deploys() throws Exception {
+        final UserItem user = new UserItem();
+        user.setId(6L);
+        user.setUserName("walter.bates");
+        user.setFirstName("Walter \"the\" élève");
+        final ReportItem report = new ReportItem();
+        report.setInstalledBy(APIID.makeAPIID(6L));
+        report.setDeploy(ReportItem.ATTRIBUTE_INSTALLED_BY, user);
+
+        final List<Object> items = new ArrayList<Object>();
+        items.add(report);
+        items.add(user);
+
+        assertThat(stream(items)).isEqualTo(JSonSerializer.serialize(items));
+    }
+
+    @Test
+    public void should_write_the_same_json_as_JSonSerializer_for_maps() throws Exception {
+        final Map<String, Object> map = new LinkedHashMap<String, Object>();
+        map.put("name", "value");
+        map.put("list", Arrays.asList("a", "b"));
+        map.put("empty", null);
+
+        assertThat(stream(map)).isEqualTo(JSonSerializer.serialize(map));
+    }
+
+    @Test
+    public void should_write_results_bigger_than_the_internal_buffer() throws Exception {
+        final List<UserItem> users = new ArrayList<UserItem>();
+        for (int i = 0; i < 1000; i++) {
+            final UserItem user = new UserItem();
+            user.setId((long) i);
+            user.setUserName("user" + i);
+            users.add(user);
+        }
+
+        assertThat(stream(users)).isEqualTo(JSonSerializer.serialize(users));
+    }
+}